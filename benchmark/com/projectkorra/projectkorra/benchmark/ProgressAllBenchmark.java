@@ -0,0 +1,159 @@
+package com.projectkorra.projectkorra.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.projectkorra.projectkorra.BendingPlayer;
+import com.projectkorra.projectkorra.Element;
+import com.projectkorra.projectkorra.Element.SubElement;
+import com.projectkorra.projectkorra.GeneralMethods;
+import com.projectkorra.projectkorra.ProjectKorra;
+import com.projectkorra.projectkorra.ability.CoreAbility;
+import com.projectkorra.projectkorra.ability.FireAbility;
+import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.util.ClickType;
+
+/**
+ * Measures the time and garbage of {@link CoreAbility#progressAll()} with a
+ * number of instances of one ability, each cast by its own player in a
+ * {@link StubServer}. Every invocation starts the instances, progresses them
+ * for {@link #TICKS} ticks and then stops all bending, so the results are per
+ * tick. Run it with the GC profiler, for example
+ *
+ * <pre>
+ * mvn -P benchmark verify
+ * </pre>
+ *
+ * which runs every ability with -prof gc. The allocations of one instance in
+ * one tick are gc.alloc.rate.norm divided by the number of instances.
+ * <p>
+ * Abilities read the wall clock, so phases that wait for a charge or
+ * interval only advance as fast as the benchmark runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ProgressAllBenchmark {
+
+	public static final int TICKS = 20;
+
+	@Param({ "FireBlast", "Torrent", "EarthSmash" })
+	public String ability;
+
+	@Param({ "1", "50" })
+	public int instances;
+
+	private CoreAbility type;
+	private Material surface;
+	private final List<Player> players = new ArrayList<Player>();
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		StubServer.install();
+		ProjectKorra.time_step = 50;
+		type = CoreAbility.getAbility(ability);
+		if (type == null) {
+			throw new IllegalStateException(ability + " is not a registered ability");
+		}
+		surface = type instanceof WaterAbility ? Material.STATIONARY_WATER : Material.GRASS;
+		StubServer.resetWorld(surface);
+
+		// The players stand 16 blocks apart and look along the x axis, down
+		// at the surface unless the ability is shot straight ahead.
+		float pitch = type instanceof FireAbility ? 0 : 30;
+		for (int i = 0; i < instances; i++) {
+			Location location = new Location(StubServer.getWorld(), 0.5, StubServer.SURFACE + 1, i * 16 + 0.5, -90, pitch);
+			Player player = StubServer.createPlayer("Bender" + i, location);
+			ArrayList<Element> elements = new ArrayList<Element>();
+			ArrayList<SubElement> subelements = new ArrayList<SubElement>();
+			if (type.getElement() instanceof SubElement) {
+				elements.add(((SubElement) type.getElement()).getParentElement());
+				subelements.add((SubElement) type.getElement());
+			} else {
+				elements.add(type.getElement());
+			}
+			HashMap<Integer, String> abilities = new HashMap<Integer, String>();
+			abilities.put(1, type.getName());
+			new BendingPlayer(player.getUniqueId(), player.getName(), elements, subelements, abilities, false);
+			players.add(player);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void cast() throws Exception {
+		for (Player player : players) {
+			BendingPlayer.getBendingPlayer(player).removeCooldown(type.getName());
+			create(player);
+		}
+		if (CoreAbility.getAbilities(type.getClass()).isEmpty()) {
+			throw new IllegalStateException(ability + " did not start in the stub world");
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void stop() {
+		GeneralMethods.stopBending();
+		StubServer.resetWorld(surface);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		for (Player player : players) {
+			BendingPlayer.getPlayers().remove(player.getUniqueId());
+		}
+		players.clear();
+		StubServer.removePlayers();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TICKS)
+	public void progressAll() {
+		for (int i = 0; i < TICKS; i++) {
+			StubServer.tick();
+			CoreAbility.progressAll();
+		}
+	}
+
+	/**
+	 * Casts the ability the way its listener would, with a constructor that
+	 * takes the player, or the player and a shift press.
+	 */
+	private void create(Player player) throws Exception {
+		for (Constructor<?> constructor : type.getClass().getConstructors()) {
+			Class<?>[] parameters = constructor.getParameterTypes();
+			if (parameters.length == 1 && parameters[0] == Player.class) {
+				constructor.newInstance(player);
+				return;
+			} else if (parameters.length == 2 && parameters[0] == Player.class && parameters[1] == ClickType.class) {
+				constructor.newInstance(player, ClickType.SHIFT_DOWN);
+				return;
+			}
+		}
+		throw new IllegalStateException(ability + " has no constructor taking a player");
+	}
+
+}
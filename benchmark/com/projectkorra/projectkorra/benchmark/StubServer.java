@@ -0,0 +1,642 @@
+package com.projectkorra.projectkorra.benchmark;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.World.Environment;
+import org.bukkit.block.Biome;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginLogger;
+import org.bukkit.plugin.SimplePluginManager;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.util.BlockIterator;
+import org.bukkit.util.Vector;
+
+import com.projectkorra.projectkorra.GeneralMethods;
+import com.projectkorra.projectkorra.ProjectKorra;
+import com.projectkorra.projectkorra.ability.CoreAbility;
+import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.ParticleEffect;
+
+import sun.reflect.ReflectionFactory;
+
+/**
+ * A minimal stand-in for a Bukkit server with a single flat world, enough to
+ * construct and progress abilities without a running server. The server,
+ * world, blocks and players are {@link Proxy} instances. Methods that are not
+ * implemented return zero, false, an empty collection or array, or another
+ * stub, so an ability that calls into an unusual part of the API keeps
+ * running instead of failing.
+ * <p>
+ * The world is a flat plain of stone under a surface layer three blocks deep,
+ * from y 61 to 63, made of a configurable material such as grass or water.
+ * Blocks remember the writes made to them until {@link #resetWorld(Material)}
+ * is called. The scheduler accepts tasks but never runs them, and the players
+ * are not reported as online, so particle packets are built but not sent.
+ */
+public class StubServer {
+
+	public static final int SURFACE = 63;
+
+	private static Server server;
+	private static World world;
+	private static Material surface = Material.GRASS;
+	private static long fullTime;
+	private static final Map<Long, Block> BLOCKS = new HashMap<Long, Block>();
+	private static final Map<Long, Integer> WRITTEN = new HashMap<Long, Integer>();
+	private static final Map<UUID, Player> PLAYERS = new HashMap<UUID, Player>();
+	private static final Map<Class<?>, Object> DEFAULTS = new HashMap<Class<?>, Object>();
+
+	/**
+	 * Installs the stub server and loads ProjectKorra into it: the plugin
+	 * instance, the default configuration in a temporary data folder and the
+	 * core abilities. Calling it again does nothing.
+	 */
+	public static synchronized void install() throws Exception {
+		if (server != null) {
+			return;
+		}
+		server = stub(Server.class, new ServerHandler());
+		world = stub(World.class, new WorldHandler());
+		Bukkit.setServer(server);
+
+		ReflectionFactory rf = ReflectionFactory.getReflectionFactory();
+		Constructor<?> constructor = rf.newConstructorForSerialization(ProjectKorra.class, Object.class.getDeclaredConstructor());
+		ProjectKorra plugin = (ProjectKorra) constructor.newInstance();
+		setField(JavaPlugin.class, plugin, "server", server);
+		setField(JavaPlugin.class, plugin, "description", new PluginDescriptionFile("ProjectKorra", "benchmark", ProjectKorra.class.getName()));
+		setField(JavaPlugin.class, plugin, "dataFolder", Files.createTempDirectory("projectkorra").toFile());
+		setField(JavaPlugin.class, plugin, "isEnabled", true);
+		setField(JavaPlugin.class, plugin, "logger", new PluginLogger(plugin));
+		ProjectKorra.plugin = plugin;
+		ProjectKorra.log = plugin.getLogger();
+		setField(GeneralMethods.class, null, "plugin", plugin);
+
+		// The packet classes of the server do not exist here. Marking the
+		// particle library as initialized lets effects be built, and since no
+		// player is online they are never sent.
+		setField(ParticleEffect.ParticlePacket.class, null, "version", 10);
+		setField(ParticleEffect.ParticlePacket.class, null, "initialized", true);
+
+		new ConfigManager();
+		CoreAbility.registerAbilities();
+	}
+
+	public static World getWorld() {
+		return world;
+	}
+
+	/**
+	 * Forgets every block write and changes the surface layer.
+	 *
+	 * @param material The material of the surface layer
+	 */
+	public static void resetWorld(Material material) {
+		surface = material;
+		WRITTEN.clear();
+	}
+
+	/**
+	 * Advances the full time of the world, which abilities use as the
+	 * current tick.
+	 */
+	public static void tick() {
+		fullTime++;
+	}
+
+	/**
+	 * Creates a player that stands on the surface. The player is known to
+	 * {@link Bukkit#getPlayer(UUID)} but is not in the list of online players.
+	 *
+	 * @param name The name of the player
+	 * @param location Where the player stands, including where it looks
+	 * @return The player
+	 */
+	public static Player createPlayer(String name, Location location) {
+		Player player = stub(Player.class, new PlayerHandler(name, location));
+		PLAYERS.put(player.getUniqueId(), player);
+		return player;
+	}
+
+	public static void removePlayers() {
+		PLAYERS.clear();
+	}
+
+	private static long key(int x, int y, int z) {
+		return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static int getTypeAndData(int x, int y, int z) {
+		Integer written = WRITTEN.get(key(x, y, z));
+		if (written != null) {
+			return written;
+		} else if (y > SURFACE || y < 0) {
+			return Material.AIR.getId() << 8;
+		} else if (y > SURFACE - 3) {
+			return surface.getId() << 8;
+		}
+		return Material.STONE.getId() << 8;
+	}
+
+	private static void setTypeAndData(int x, int y, int z, int typeId, byte data) {
+		WRITTEN.put(key(x, y, z), typeId << 8 | (data & 0xFF));
+	}
+
+	private static Block getBlock(int x, int y, int z) {
+		long key = key(x, y, z);
+		Block block = BLOCKS.get(key);
+		if (block == null) {
+			block = stub(Block.class, new BlockHandler(x, y, z));
+			BLOCKS.put(key, block);
+		}
+		return block;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T stub(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(StubServer.class.getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	private static void setField(Class<?> owner, Object target, String name, Object value) throws Exception {
+		Field field = owner.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(target, value);
+	}
+
+	/**
+	 * The value returned by a method that a stub does not implement.
+	 */
+	private static Object defaultValue(Method method) {
+		Class<?> type = method.getReturnType();
+		if (type == void.class) {
+			return null;
+		} else if (type == boolean.class) {
+			return false;
+		} else if (type == double.class) {
+			return 0D;
+		} else if (type == float.class) {
+			return 0F;
+		} else if (type == long.class) {
+			return 0L;
+		} else if (type == int.class) {
+			return 0;
+		} else if (type == short.class) {
+			return (short) 0;
+		} else if (type == byte.class) {
+			return (byte) 0;
+		} else if (type == char.class) {
+			return (char) 0;
+		} else if (type.isArray()) {
+			return java.lang.reflect.Array.newInstance(type.getComponentType(), 0);
+		} else if (type == List.class || type == Collection.class) {
+			return new ArrayList<Object>();
+		} else if (type == Set.class) {
+			return new HashSet<Object>();
+		} else if (type == Map.class) {
+			return new HashMap<Object, Object>();
+		} else if (type == String.class) {
+			return "";
+		} else if (type == Vector.class) {
+			return new Vector();
+		} else if (type == ItemStack.class) {
+			return new ItemStack(Material.AIR);
+		} else if (type == GameMode.class) {
+			return GameMode.SURVIVAL;
+		} else if (type == Material.class) {
+			return Material.AIR;
+		} else if (type == Biome.class) {
+			return Biome.PLAINS;
+		} else if (type == Environment.class) {
+			return Environment.NORMAL;
+		} else if (type == World.class) {
+			return world;
+		} else if (type.isInterface() && !Plugin.class.isAssignableFrom(type)) {
+			synchronized (DEFAULTS) {
+				Object value = DEFAULTS.get(type);
+				if (value == null) {
+					value = stub(type, new DefaultHandler());
+					DEFAULTS.put(type, value);
+				}
+				return value;
+			}
+		}
+		return null;
+	}
+
+	private static Object handleObjectMethod(Object proxy, Method method, Object[] args) {
+		String name = method.getName();
+		if (name.equals("equals")) {
+			return proxy == args[0];
+		} else if (name.equals("hashCode")) {
+			return System.identityHashCode(proxy);
+		}
+		return proxy.getClass().getInterfaces()[0].getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+	}
+
+	private static boolean isObjectMethod(Method method) {
+		return method.getDeclaringClass() == Object.class;
+	}
+
+	private static class DefaultHandler implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (isObjectMethod(method)) {
+				return handleObjectMethod(proxy, method, args);
+			}
+			return defaultValue(method);
+		}
+	}
+
+	private static class ServerHandler implements InvocationHandler {
+
+		private final Logger logger = Logger.getLogger("Benchmark");
+		private SimplePluginManager pluginManager;
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (isObjectMethod(method)) {
+				return handleObjectMethod(proxy, method, args);
+			}
+			switch (method.getName()) {
+				case "getLogger":
+					return logger;
+				case "getName":
+				case "getVersion":
+				case "getBukkitVersion":
+					return "Benchmark";
+				case "getPluginManager":
+					if (pluginManager == null) {
+						pluginManager = new SimplePluginManager((Server) proxy, new SimpleCommandMap((Server) proxy));
+					}
+					return pluginManager;
+				case "isPrimaryThread":
+					return true;
+				case "getOnlinePlayers":
+					return new ArrayList<Player>();
+				case "getPlayer":
+				case "getPlayerExact":
+				case "getOfflinePlayer":
+					return args[0] instanceof UUID ? PLAYERS.get(args[0]) : getPlayerByName((String) args[0]);
+				case "getWorlds":
+					List<World> worlds = new ArrayList<World>();
+					worlds.add(world);
+					return worlds;
+				case "getWorld":
+					return world;
+				default:
+					return defaultValue(method);
+			}
+		}
+
+		private Player getPlayerByName(String name) {
+			for (Player player : PLAYERS.values()) {
+				if (player.getName().equalsIgnoreCase(name)) {
+					return player;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static class WorldHandler implements InvocationHandler {
+
+		private final UUID uuid = UUID.randomUUID();
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (isObjectMethod(method)) {
+				return handleObjectMethod(proxy, method, args);
+			}
+			switch (method.getName()) {
+				case "getName":
+					return "world";
+				case "getUID":
+					return uuid;
+				case "getBlockAt":
+					if (args.length == 1) {
+						Location location = (Location) args[0];
+						return getBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+					}
+					return getBlock((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+				case "getBlockTypeIdAt":
+					if (args.length == 1) {
+						Location location = (Location) args[0];
+						return getTypeAndData(location.getBlockX(), location.getBlockY(), location.getBlockZ()) >> 8;
+					}
+					return getTypeAndData((Integer) args[0], (Integer) args[1], (Integer) args[2]) >> 8;
+				case "getHighestBlockYAt":
+					return SURFACE + 1;
+				case "getHighestBlockAt":
+					if (args.length == 1) {
+						Location location = (Location) args[0];
+						return getBlock(location.getBlockX(), SURFACE + 1, location.getBlockZ());
+					}
+					return getBlock((Integer) args[0], SURFACE + 1, (Integer) args[1]);
+				case "isChunkLoaded":
+					return true;
+				case "getMaxHeight":
+					return 256;
+				case "getSeaLevel":
+					return SURFACE;
+				case "getTime":
+					return 6000L;
+				case "getFullTime":
+					return fullTime;
+				case "getEnvironment":
+					return Environment.NORMAL;
+				case "getBiome":
+					return Biome.PLAINS;
+				case "getSpawnLocation":
+					return new Location((World) proxy, 0, SURFACE + 1, 0);
+				default:
+					return defaultValue(method);
+			}
+		}
+	}
+
+	private static class BlockHandler implements InvocationHandler {
+
+		private final int x;
+		private final int y;
+		private final int z;
+
+		private BlockHandler(int x, int y, int z) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (isObjectMethod(method)) {
+				if (method.getName().equals("equals")) {
+					return proxy == args[0];
+				} else if (method.getName().equals("hashCode")) {
+					return (y << 24) ^ (x << 12) ^ z;
+				}
+				return "Block{" + x + ", " + y + ", " + z + "}";
+			}
+			switch (method.getName()) {
+				case "getX":
+					return x;
+				case "getY":
+					return y;
+				case "getZ":
+					return z;
+				case "getWorld":
+					return world;
+				case "getLocation":
+					if (args != null && args.length == 1 && args[0] != null) {
+						Location location = (Location) args[0];
+						location.setWorld(world);
+						location.setX(x);
+						location.setY(y);
+						location.setZ(z);
+						location.setYaw(0);
+						location.setPitch(0);
+						return location;
+					}
+					return new Location(world, x, y, z);
+				case "getType":
+					return Material.getMaterial(getTypeAndData(x, y, z) >> 8);
+				case "getTypeId":
+					return getTypeAndData(x, y, z) >> 8;
+				case "getData":
+					return (byte) getTypeAndData(x, y, z);
+				case "isEmpty":
+					return getTypeAndData(x, y, z) >> 8 == 0;
+				case "isLiquid":
+					Material type = Material.getMaterial(getTypeAndData(x, y, z) >> 8);
+					return type == Material.WATER || type == Material.STATIONARY_WATER || type == Material.LAVA || type == Material.STATIONARY_LAVA;
+				case "setType":
+					setTypeAndData(x, y, z, ((Material) args[0]).getId(), (byte) 0);
+					return null;
+				case "setTypeId":
+					setTypeAndData(x, y, z, (Integer) args[0], (byte) 0);
+					return true;
+				case "setTypeIdAndData":
+					setTypeAndData(x, y, z, (Integer) args[0], (Byte) args[1]);
+					return true;
+				case "setData":
+					setTypeAndData(x, y, z, getTypeAndData(x, y, z) >> 8, (Byte) args[0]);
+					return null;
+				case "breakNaturally":
+					setTypeAndData(x, y, z, 0, (byte) 0);
+					return true;
+				case "getRelative":
+					if (args.length == 3) {
+						return getBlock(x + (Integer) args[0], y + (Integer) args[1], z + (Integer) args[2]);
+					}
+					BlockFace face = (BlockFace) args[0];
+					int distance = args.length == 2 ? (Integer) args[1] : 1;
+					return getBlock(x + face.getModX() * distance, y + face.getModY() * distance, z + face.getModZ() * distance);
+				case "getFace":
+					Block other = (Block) args[0];
+					for (BlockFace candidate : BlockFace.values()) {
+						if (x + candidate.getModX() == other.getX() && y + candidate.getModY() == other.getY() && z + candidate.getModZ() == other.getZ()) {
+							return candidate;
+						}
+					}
+					return null;
+				case "getState":
+					int typeAndData = getTypeAndData(x, y, z);
+					return stub(BlockState.class, new BlockStateHandler((Block) proxy, typeAndData >> 8, (byte) typeAndData));
+				case "getLightLevel":
+				case "getLightFromSky":
+					return (byte) 15;
+				case "getBiome":
+					return Biome.PLAINS;
+				case "getTemperature":
+				case "getHumidity":
+					return 0.8;
+				default:
+					return defaultValue(method);
+			}
+		}
+	}
+
+	private static class BlockStateHandler implements InvocationHandler {
+
+		private final Block block;
+		private int typeId;
+		private byte data;
+
+		private BlockStateHandler(Block block, int typeId, byte data) {
+			this.block = block;
+			this.typeId = typeId;
+			this.data = data;
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (isObjectMethod(method)) {
+				return handleObjectMethod(proxy, method, args);
+			}
+			switch (method.getName()) {
+				case "getBlock":
+					return block;
+				case "getWorld":
+					return world;
+				case "getX":
+					return block.getX();
+				case "getY":
+					return block.getY();
+				case "getZ":
+					return block.getZ();
+				case "getLocation":
+					return block.getLocation();
+				case "getType":
+					return Material.getMaterial(typeId);
+				case "getTypeId":
+					return typeId;
+				case "getRawData":
+					return data;
+				case "getData":
+					return Material.getMaterial(typeId).getNewData(data);
+				case "setType":
+					typeId = ((Material) args[0]).getId();
+					return null;
+				case "setTypeId":
+					typeId = (Integer) args[0];
+					return true;
+				case "setRawData":
+					data = (Byte) args[0];
+					return null;
+				case "update":
+					block.setTypeIdAndData(typeId, data, false);
+					return true;
+				default:
+					return defaultValue(method);
+			}
+		}
+	}
+
+	private static class PlayerHandler implements InvocationHandler {
+
+		private final String name;
+		private final UUID uuid = UUID.randomUUID();
+		private final Location location;
+
+		private PlayerHandler(String name, Location location) {
+			this.name = name;
+			this.location = location.clone();
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			if (isObjectMethod(method)) {
+				return handleObjectMethod(proxy, method, args);
+			}
+			switch (method.getName()) {
+				case "getName":
+				case "getDisplayName":
+				case "getPlayerListName":
+					return name;
+				case "getUniqueId":
+					return uuid;
+				case "getWorld":
+					return world;
+				case "getLocation":
+					if (args != null && args.length == 1 && args[0] != null) {
+						Location target = (Location) args[0];
+						target.setWorld(world);
+						target.setX(location.getX());
+						target.setY(location.getY());
+						target.setZ(location.getZ());
+						target.setYaw(location.getYaw());
+						target.setPitch(location.getPitch());
+						return target;
+					}
+					return location.clone();
+				case "getEyeLocation":
+					return location.clone().add(0, 1.62, 0);
+				case "getEyeHeight":
+					return 1.62;
+				case "teleport":
+					Location destination = args[0] instanceof Location ? (Location) args[0] : ((org.bukkit.entity.Entity) args[0]).getLocation();
+					location.setX(destination.getX());
+					location.setY(destination.getY());
+					location.setZ(destination.getZ());
+					return true;
+				case "isOnline":
+				case "isValid":
+				case "isSneaking":
+				case "isOnGround":
+				case "hasPermission":
+				case "isPermissionSet":
+					return true;
+				case "getHealth":
+				case "getMaxHealth":
+					return 20.0;
+				case "getRemainingAir":
+				case "getMaximumAir":
+					return 300;
+				case "getTargetBlock":
+					return getLineOfSight((Set<?>) args[0], (Integer) args[1], false).get(0);
+				case "getLineOfSight":
+					return getLineOfSight((Set<?>) args[0], (Integer) args[1], true);
+				default:
+					return defaultValue(method);
+			}
+		}
+
+		/**
+		 * Walks the blocks the player looks at like the server does. With
+		 * all set, every block passed through is returned up to the first
+		 * one that is not transparent, otherwise only that block is.
+		 */
+		@SuppressWarnings("deprecation")
+		private List<Block> getLineOfSight(Set<?> transparent, int maxDistance, boolean all) {
+			Location eye = location.clone().add(0, 1.62, 0);
+			BlockIterator iterator = new BlockIterator(world, eye.toVector(), eye.getDirection(), 0, Math.min(maxDistance, 120));
+			List<Block> blocks = new ArrayList<Block>();
+			Block last = null;
+			while (iterator.hasNext()) {
+				last = iterator.next();
+				if (all) {
+					blocks.add(last);
+				}
+				Material type = last.getType();
+				boolean see = transparent == null ? type == Material.AIR : transparent.contains(type) || transparent.contains((byte) type.getId());
+				if (!see) {
+					break;
+				}
+			}
+			if (!all && last != null) {
+				blocks.add(last);
+			}
+			return blocks;
+		}
+	}
+
+}
@@ -5,9 +5,8 @@ import com.projectkorra.projectkorra.ability.FireAbility;
 import com.projectkorra.projectkorra.chiblocking.combo.ChiCombo;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
 import com.projectkorra.projectkorra.object.HorizontalVelocityTracker;
-import com.projectkorra.projectkorra.util.Flight;
+import com.projectkorra.projectkorra.util.DeadlineScheduler;
 import com.projectkorra.projectkorra.util.RevertChecker;
-import com.projectkorra.projectkorra.util.TempPotionEffect;
 import com.projectkorra.rpg.RPGMethods;
 
 import org.bukkit.Bukkit;
@@ -17,6 +16,7 @@ import org.bukkit.entity.Player;
 
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.logging.Level;
 
 public class BendingManager implements Runnable {
 
@@ -106,15 +106,14 @@ public class BendingManager implements Runnable {
 			ProjectKorra.time_step = interval;
 
 			CoreAbility.progressAll();
-			TempPotionEffect.progressAll();
+			DeadlineScheduler.runDue();
 			handleDayNight();
-			Flight.handle();
 			RevertChecker.revertAirBlocks();
 			ChiCombo.handleParalysis();
 			HorizontalVelocityTracker.updateAll();
 			handleCooldowns();
 		} catch (Exception e) {
-			e.printStackTrace();
+			ProjectKorra.log.log(Level.SEVERE, "ProjectKorra failed to progress bending", e);
 		}
 	}
 
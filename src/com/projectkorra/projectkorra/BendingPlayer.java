@@ -25,6 +25,7 @@ import com.projectkorra.projectkorra.ability.util.PassiveManager;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.chiblocking.Paralyze;
 import com.projectkorra.projectkorra.command.Commands;
+import com.projectkorra.projectkorra.command.WhoCommand;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
 import com.projectkorra.projectkorra.earthbending.metal.MetalClips;
 import com.projectkorra.projectkorra.event.PlayerCooldownChangeEvent;
@@ -59,6 +60,8 @@ public class BendingPlayer {
 	private HashMap<Integer, String> abilities;
 	private Map<String, Long> cooldowns;
 	private Map<Element, Boolean> toggledElements;	
+	private String boundAbilityName;
+	private CoreAbility boundAbility;
 
 	/**
 	 * Creates a new {@link BendingPlayer}.
@@ -91,6 +94,7 @@ public class BendingPlayer {
 		}
 
 		PLAYERS.put(uuid, this);
+		WhoCommand.invalidateWhoLine(uuid);
 		GeneralMethods.loadBendingPlayer(this);
 	}
 	
@@ -132,6 +136,7 @@ public class BendingPlayer {
 	 */
 	public void addElement(Element element) {
 		this.elements.add(element);
+		WhoCommand.invalidateWhoLine(uuid);
 	}
 	
 	/**
@@ -235,17 +240,42 @@ public class BendingPlayer {
 	}
 	
 	public boolean canBendPassive(Element element) {
+		return canBendPassiveElement(element) && canUsePassives();
+	}
+
+	/**
+	 * Checks the element specific conditions of {@link #canBendPassive(Element)}.
+	 * 
+	 * @param element The element of the passive
+	 * @return true if the player has the element, its passive permission and
+	 *         has it toggled on
+	 */
+	public boolean canBendPassiveElement(Element element) {
+		if (element == null || player == null) {
+			return false;
+		} else if (!player.hasPermission("bending." + element.getName() + ".passive")) {
+			return false;
+		} else if (!hasElement(element) || !isElementToggled(element)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks the conditions of {@link #canBendPassive(Element)} that are the
+	 * same for every element, which include a region protection check. The
+	 * result can be shared between all of the player's passives for a tick.
+	 * 
+	 * @return true if the player is currently able to use any passives
+	 */
+	public boolean canUsePassives() {
 		if (Commands.isToggledForAll && ConfigManager.defaultConfig.get().getBoolean("Properties.TogglePassivesWithAllBending")) {
 			return false;
 		}
 		
 		List<String> disabledWorlds = getConfig().getStringList("Properties.DisabledWorlds");
 		
-		if (element == null || player == null) {
-			return false;
-		} else if (!player.hasPermission("bending." + element.getName() + ".passive")) {
-			return false;
-		} else if (!isToggled() || !hasElement(element) || !isElementToggled(element)) {
+		if (player == null || !isToggled()) {
 			return false;
 		} else if (isChiBlocked() || isParalyzed() || isBloodbent()) {
 			return false;
@@ -424,8 +454,29 @@ public class BendingPlayer {
 		return this.abilities;
 	}
 
+	/**
+	 * Gets the {@link CoreAbility} bound to the slot that the player is in.
+	 * The result is cached for as long as the same name stays bound, since
+	 * this is called by nearly every listener and ability every tick.
+	 * 
+	 * @return The bound ability, or null if there is none
+	 */
 	public CoreAbility getBoundAbility() {
-		return CoreAbility.getAbility(getBoundAbilityName());
+		String name = getBoundAbilityName();
+		if (!name.equals(boundAbilityName)) {
+			boundAbility = CoreAbility.getAbility(name);
+			boundAbilityName = name;
+		}
+		return boundAbility;
+	}
+
+	/**
+	 * Clears the cached result of {@link #getBoundAbility()}. Must be called
+	 * whenever the registered abilities change.
+	 */
+	public void clearBoundAbilityCache() {
+		boundAbilityName = null;
+		boundAbility = null;
 	}
 
 	/**
@@ -695,6 +746,7 @@ public class BendingPlayer {
 	public void setElement(Element element) {
 		this.elements.clear();
 		this.elements.add(element);
+		WhoCommand.invalidateWhoLine(uuid);
 	}
 
 	/**
@@ -729,6 +781,7 @@ public class BendingPlayer {
 	 */
 	public void toggleBending() {
 		toggled = !toggled;
+		WhoCommand.invalidateWhoLine(uuid);
 		PassiveManager.registerPassives(player);
 	}
 
@@ -737,6 +790,7 @@ public class BendingPlayer {
 			return;
 		}
 		toggledElements.put(element, !toggledElements.get(element));
+		WhoCommand.invalidateWhoLine(uuid);
 		PassiveManager.registerPassives(player);
 	}
 	
@@ -772,12 +826,13 @@ public class BendingPlayer {
 		if (player == null) {
 			return null;
 		}
-		return getBendingPlayer(player.getName());
+		return PLAYERS.get(player.getUniqueId());
 	}
 	
 	/**
 	 * Attempts to get a {@link BendingPlayer} from specified player name. this method tries to get
-	 * a {@link Player} object and gets the uuid and then calls {@link #getBendingPlayer(UUID)}
+	 * a {@link Player} object and looks up its uuid. Prefer {@link #getBendingPlayer(Player)}
+	 * when a Player is available, as it avoids searching the online players by name.
 	 * 
 	 * @param playerName The name of the Player
 	 * @return The BendingPlayer object if {@link BendingPlayer#PLAYERS} contains the player name
@@ -789,8 +844,7 @@ public class BendingPlayer {
 			return null;
 		}
 		Player player = Bukkit.getPlayer(playerName);
-		OfflinePlayer oPlayer = player != null ? Bukkit.getOfflinePlayer(player.getUniqueId()) : null;
-		return getBendingPlayer(oPlayer);
+		return player != null ? PLAYERS.get(player.getUniqueId()) : null;
 	}
 
 	private static FileConfiguration getConfig() {
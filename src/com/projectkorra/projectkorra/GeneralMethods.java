@@ -29,6 +29,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Bukkit;
@@ -90,36 +91,34 @@ import com.projectkorra.projectkorra.ability.EarthAbility;
 import com.projectkorra.projectkorra.ability.ElementalAbility;
 import com.projectkorra.projectkorra.ability.FireAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.ability.util.BlockableAbility;
 import com.projectkorra.projectkorra.ability.util.ComboManager;
 import com.projectkorra.projectkorra.ability.util.ComboManager.AbilityInformation;
 import com.projectkorra.projectkorra.ability.util.MultiAbilityManager;
-import com.projectkorra.projectkorra.airbending.AirBlast;
 import com.projectkorra.projectkorra.airbending.AirShield;
 import com.projectkorra.projectkorra.airbending.AirSpout;
-import com.projectkorra.projectkorra.airbending.AirSuction;
-import com.projectkorra.projectkorra.airbending.AirSwipe;
-import com.projectkorra.projectkorra.airbending.combo.AirCombo;
 import com.projectkorra.projectkorra.chiblocking.AcrobatStance;
 import com.projectkorra.projectkorra.chiblocking.WarriorStance;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
-import com.projectkorra.projectkorra.earthbending.EarthBlast;
 import com.projectkorra.projectkorra.earthbending.passive.EarthPassive;
 import com.projectkorra.projectkorra.event.BendingPlayerCreationEvent;
 import com.projectkorra.projectkorra.event.BendingReloadEvent;
 import com.projectkorra.projectkorra.event.BindChangeEvent;
-import com.projectkorra.projectkorra.firebending.FireBlast;
 import com.projectkorra.projectkorra.firebending.FireShield;
-import com.projectkorra.projectkorra.firebending.combo.FireCombo;
-import com.projectkorra.projectkorra.firebending.combustion.Combustion;
 import com.projectkorra.projectkorra.object.Preset;
 import com.projectkorra.projectkorra.storage.DBConnection;
 import com.projectkorra.projectkorra.util.ActionBar;
 import com.projectkorra.projectkorra.util.BlockCacheElement;
+import com.projectkorra.projectkorra.util.DeadlineScheduler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.Flight;
 import com.projectkorra.projectkorra.util.ParticleEffect;
+import com.projectkorra.projectkorra.util.PotionLeases;
 import com.projectkorra.projectkorra.util.ReflectionHandler;
+import com.projectkorra.projectkorra.util.ShapeTemplate;
 import com.projectkorra.projectkorra.util.TempArmor;
 import com.projectkorra.projectkorra.util.TempBlock;
+import com.projectkorra.projectkorra.util.TempPotionEffect;
 import com.projectkorra.projectkorra.util.ReflectionHandler.PackageType;
 import com.projectkorra.projectkorra.waterbending.WaterManipulation;
 import com.projectkorra.projectkorra.waterbending.WaterSpout;
@@ -148,6 +147,11 @@ public class GeneralMethods {
 	
 	// Represents PlayerName, previously checked blocks, and whether they were true or false
 	private static final Map<String, Map<Block, BlockCacheElement>> BLOCK_CACHE = new ConcurrentHashMap<>();
+	private static final Map<UUID, CompletableFuture<BendingPlayer>> LOADING_PLAYERS = new ConcurrentHashMap<>();
+	private static final double DIAGONAL = Math.sqrt(0.5);
+	private static final BlockFace[] CARDINAL_FACES = { BlockFace.NORTH, BlockFace.NORTH_EAST, BlockFace.EAST, BlockFace.SOUTH_EAST, BlockFace.SOUTH, BlockFace.SOUTH_WEST, BlockFace.WEST, BlockFace.NORTH_WEST };
+	private static final double[] CARDINAL_X = { 0, DIAGONAL, 1, DIAGONAL, 0, -DIAGONAL, -1, -DIAGONAL };
+	private static final double[] CARDINAL_Z = { -1, -DIAGONAL, 0, DIAGONAL, 1, DIAGONAL, 0, -DIAGONAL };
 	private static final ArrayList<Ability> INVINCIBLE = new ArrayList<>();
 	private static ProjectKorra plugin;
 	
@@ -216,53 +220,40 @@ public class GeneralMethods {
 		saveAbility(bPlayer, slot, ability);
 	}
 
+	/**
+	 * This method was used for the old collision detection system. Please see
+	 * {@link Collision} for the new system.
+	 * <p>
+	 * Checks if any instances of the abilities exist at a specific location.
+	 * If an instance of the ability is found then it will be removed, with the
+	 * exception FireShield, and AirShield.
+	 */
+	@Deprecated
+	public static boolean blockAbilities(Player player, Collection<BlockableAbility> abilitiesToBlock, Location loc, double radius) {
+		boolean hasBlocked = false;
+		for (BlockableAbility ability : abilitiesToBlock) {
+			hasBlocked = ability.block(player, loc, radius) || hasBlocked;
+		}
+		return hasBlocked;
+	}
+
 	/**
 	 * This method was used for the old collision detection system. Please see
 	 * {@link Collision} for the new system.
 	 * <p>
 	 * Cycles through a list of ability names to check if any instances of the
-	 * abilities exist at a specific location. If an instance of the ability is
-	 * found then it will be removed, with the exception FireShield, and
-	 * AirShield.
+	 * abilities exist at a specific location. Names that are not a
+	 * {@link BlockableAbility} are ignored.
+	 * 
+	 * @see #blockAbilities(Player, Collection, Location, double)
 	 */
 	@Deprecated
 	public static boolean blockAbilities(Player player, List<String> abilitiesToBlock, Location loc, double radius) {
 		boolean hasBlocked = false;
-		for (String ability : abilitiesToBlock) {
-			if (ability.equalsIgnoreCase("FireBlast")) {
-				hasBlocked = FireBlast.annihilateBlasts(loc, radius, player) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("EarthBlast")) {
-				hasBlocked = EarthBlast.annihilateBlasts(loc, radius, player) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("WaterManipulation")) {
-				hasBlocked = WaterManipulation.annihilateBlasts(loc, radius, player) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("AirSwipe")) {
-				hasBlocked = AirSwipe.removeSwipesAroundPoint(loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("AirBlast")) {
-				hasBlocked = AirBlast.removeAirBlastsAroundPoint(loc, radius) || hasBlocked;	
-			} else if (ability.equalsIgnoreCase("AirSuction")) {
-				hasBlocked = AirSuction.removeAirSuctionsAroundPoint(loc, radius) || hasBlocked;	
-			} else if (ability.equalsIgnoreCase("Combustion")) {
-				hasBlocked = Combustion.removeAroundPoint(loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("FireShield")) {
-				hasBlocked = FireShield.isWithinShield(loc) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("AirShield")) {
-				hasBlocked = AirShield.isWithinShield(loc) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("WaterSpout")) {
-				hasBlocked = WaterSpout.removeSpouts(loc, radius, player) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("AirSpout")) {
-				hasBlocked = AirSpout.removeSpouts(loc, radius, player) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("Twister")) {
-				hasBlocked = AirCombo.removeAroundPoint(player, "Twister", loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("AirStream")) {
-				hasBlocked = AirCombo.removeAroundPoint(player, "AirStream", loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("AirSweep")) {
-				hasBlocked = AirCombo.removeAroundPoint(player, "AirSweep", loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("FireKick")) {
-				hasBlocked = FireCombo.removeAroundPoint(player, "FireKick", loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("FireSpin")) {
-				hasBlocked = FireCombo.removeAroundPoint(player, "FireSpin", loc, radius) || hasBlocked;
-			} else if (ability.equalsIgnoreCase("FireWheel")) {
-				hasBlocked = FireCombo.removeAroundPoint(player, "FireWheel", loc, radius) || hasBlocked;
+		for (String name : abilitiesToBlock) {
+			BlockableAbility ability = BlockableAbility.getByName(name);
+			if (ability != null) {
+				hasBlocked = ability.block(player, loc, radius) || hasBlocked;
 			}
 		}
 		return hasBlocked;
@@ -299,11 +290,60 @@ public class GeneralMethods {
 		createBendingPlayerAsynchronously(uuid, player); // "async"
 	}
 
+	/**
+	 * Loads a {@link BendingPlayer} from the database without blocking the
+	 * calling thread, for example to look up an offline player. Concurrent
+	 * requests for the same player share one load.
+	 * 
+	 * @param uuid The UUID of the player
+	 * @param player The player name
+	 * @return A future that completes with the BendingPlayer once it has been
+	 *         created, or exceptionally if the database could not be read
+	 */
+	public static CompletableFuture<BendingPlayer> loadBendingPlayerAsync(final UUID uuid, final String player) {
+		BendingPlayer bPlayer = BendingPlayer.getPlayers().get(uuid);
+		if (bPlayer != null) {
+			return CompletableFuture.completedFuture(bPlayer);
+		}
+
+		CompletableFuture<BendingPlayer> future = new CompletableFuture<BendingPlayer>();
+		CompletableFuture<BendingPlayer> loading = LOADING_PLAYERS.putIfAbsent(uuid, future);
+		if (loading != null) {
+			return loading;
+		}
+		new BukkitRunnable() {
+			@Override
+			public void run() {
+				try {
+					createBendingPlayerAsynchronously(uuid, player);
+				}
+				catch (RuntimeException e) {
+					failLoading(uuid, e);
+				}
+			}
+		}.runTaskAsynchronously(ProjectKorra.plugin);
+		return future;
+	}
+
+	private static void finishLoading(UUID uuid, BendingPlayer bPlayer) {
+		CompletableFuture<BendingPlayer> future = LOADING_PLAYERS.remove(uuid);
+		if (future != null) {
+			future.complete(bPlayer);
+		}
+	}
+
+	private static void failLoading(UUID uuid, Throwable cause) {
+		CompletableFuture<BendingPlayer> future = LOADING_PLAYERS.remove(uuid);
+		if (future != null) {
+			future.completeExceptionally(cause);
+		}
+	}
+
 	private static void createBendingPlayerAsynchronously(final UUID uuid, final String player) {
 		ResultSet rs2 = DBConnection.sql.readQuery("SELECT * FROM pk_players WHERE uuid = '" + uuid.toString() + "'");
 		try {
 			if (!rs2.next()) { // Data doesn't exist, we want a completely new player.
-				new BendingPlayer(uuid, player, new ArrayList<Element>(), new ArrayList<SubElement>(), new HashMap<Integer, String>(), false);
+				finishLoading(uuid, new BendingPlayer(uuid, player, new ArrayList<Element>(), new ArrayList<SubElement>(), new HashMap<Integer, String>(), false));
 				DBConnection.sql.modifyQuery("INSERT INTO pk_players (uuid, player) VALUES ('" + uuid.toString() + "', '" + player + "')");
 				ProjectKorra.log.info("Created new BendingPlayer for " + player);
 			} else {
@@ -422,16 +462,18 @@ public class GeneralMethods {
 				new BukkitRunnable() {
 					@Override
 					public void run() {
-						new BendingPlayer(uuid, player, elements, subelements, abilities, boolean_p);
+						BendingPlayer bPlayer = new BendingPlayer(uuid, player, elements, subelements, abilities, boolean_p);
 						if (shouldSave_) {
 							saveSubElements(BendingPlayer.getBendingPlayer(player));
 						}
+						finishLoading(uuid, bPlayer);
 					}
 				}.runTask(ProjectKorra.plugin);
 			}
 		}
 		catch (SQLException ex) {
 			ex.printStackTrace();
+			failLoading(uuid, ex);
 		}
 	}
 	
@@ -706,7 +748,9 @@ public class GeneralMethods {
 		int yorg = location.getBlockY();
 		int zorg = location.getBlockZ();
 
-		int r = (int) radius * 4;
+		// A block's corner can only be within the radius if it is at most radius + 1 blocks away.
+		// Radii below 1 have only ever checked the block at the location itself.
+		int r = radius < 1 ? 0 : (int) radius + 1;
 
 		for (int x = xorg - r; x <= xorg + r; x++) {
 			for (int y = yorg - r; y <= yorg + r; y++) {
@@ -722,48 +766,35 @@ public class GeneralMethods {
 	}
 
 	public static BlockFace getCardinalDirection(Vector vector) {
-		BlockFace[] faces = { BlockFace.NORTH, BlockFace.NORTH_EAST, BlockFace.EAST, BlockFace.SOUTH_EAST, BlockFace.SOUTH, BlockFace.SOUTH_WEST, BlockFace.WEST, BlockFace.NORTH_WEST };
-		Vector n, ne, e, se, s, sw, w, nw;
-		w = new Vector(-1, 0, 0);
-		n = new Vector(0, 0, -1);
-		s = n.clone().multiply(-1);
-		e = w.clone().multiply(-1);
-		ne = n.clone().add(e.clone()).normalize();
-		se = s.clone().add(e.clone()).normalize();
-		nw = n.clone().add(w.clone()).normalize();
-		sw = s.clone().add(w.clone()).normalize();
-
-		Vector[] vectors = { n, ne, e, se, s, sw, w, nw };
-
+		double x = vector.getX();
+		double z = vector.getZ();
 		double comp = 0;
 		int besti = 0;
-		for (int i = 0; i < vectors.length; i++) {
-			double dot = vector.dot(vectors[i]);
+		for (int i = 0; i < CARDINAL_FACES.length; i++) {
+			double dot = x * CARDINAL_X[i] + z * CARDINAL_Z[i];
 			if (dot > comp) {
 				comp = dot;
 				besti = i;
 			}
 		}
-		return faces[besti];
+		return CARDINAL_FACES[besti];
 	}
 
+	/**
+	 * Gets the locations of the blocks in a circle or sphere. Callers that
+	 * only need the blocks should iterate
+	 * {@link ShapeTemplate#getCircle(int, int, boolean, boolean)} instead,
+	 * which does not allocate a Location per block.
+	 */
 	public static List<Location> getCircle(Location loc, int radius, int height, boolean hollow, boolean sphere, int plusY) {
-		List<Location> circleblocks = new ArrayList<Location>();
+		ShapeTemplate shape = ShapeTemplate.getCircle(radius, height, hollow, sphere);
+		List<Location> circleblocks = new ArrayList<Location>(shape.size());
 		int cx = loc.getBlockX();
-		int cy = loc.getBlockY();
+		int cy = loc.getBlockY() + plusY;
 		int cz = loc.getBlockZ();
 
-		for (int x = cx - radius; x <= cx + radius; x++) {
-			for (int z = cz - radius; z <= cz + radius; z++) {
-				for (int y = (sphere ? cy - radius : cy); y < (sphere ? cy + radius : cy + height); y++) {
-					double dist = (cx - x) * (cx - x) + (cz - z) * (cz - z) + (sphere ? (cy - y) * (cy - y) : 0);
-
-					if (dist < radius * radius && !(hollow && dist < (radius - 1) * (radius - 1))) {
-						Location l = new Location(loc.getWorld(), x, y + plusY, z);
-						circleblocks.add(l);
-					}
-				}
-			}
+		for (int i = 0; i < shape.size(); i++) {
+			circleblocks.add(new Location(loc.getWorld(), cx + shape.getX(i), cy + shape.getY(i), cz + shape.getZ(i)));
 		}
 		return circleblocks;
 	}
@@ -790,22 +821,16 @@ public class GeneralMethods {
 	}
 
 	public static double getDistanceFromLine(Vector line, Location pointonline, Location point) {
-		Vector AP = new Vector();
-		double Ax, Ay, Az;
-		Ax = pointonline.getX();
-		Ay = pointonline.getY();
-		Az = pointonline.getZ();
+		double APx = point.getX() - pointonline.getX();
+		double APy = point.getY() - pointonline.getY();
+		double APz = point.getZ() - pointonline.getZ();
 
-		double Px, Py, Pz;
-		Px = point.getX();
-		Py = point.getY();
-		Pz = point.getZ();
+		double Lx = line.getX(), Ly = line.getY(), Lz = line.getZ();
+		double Cx = APy * Lz - APz * Ly;
+		double Cy = APz * Lx - APx * Lz;
+		double Cz = APx * Ly - APy * Lx;
 
-		AP.setX(Px - Ax);
-		AP.setY(Py - Ay);
-		AP.setZ(Pz - Az);
-
-		return (AP.crossProduct(line).length()) / (line.length());
+		return Math.sqrt(Cx * Cx + Cy * Cy + Cz * Cz) / Math.sqrt(Lx * Lx + Ly * Ly + Lz * Lz);
 	}
 
 	/**
@@ -839,10 +864,10 @@ public class GeneralMethods {
 		World world = location.getWorld();
 
 	    // To find chunks we use chunk coordinates (not block coordinates!)
-	    int smallX = (int) (location.getX() - radius) >> 4;
-	    int bigX = (int) (location.getX() + radius) >> 4;
-	    int smallZ = (int) (location.getZ() - radius) >> 4;
-	    int bigZ = (int) (location.getZ() + radius) >> 4;
+	    int smallX = (int) Math.floor(location.getX() - radius) >> 4;
+	    int bigX = (int) Math.floor(location.getX() + radius) >> 4;
+	    int smallZ = (int) Math.floor(location.getZ() - radius) >> 4;
+	    int bigZ = (int) Math.floor(location.getZ() + radius) >> 4;
 
 	    for (int x = smallX; x <= bigX; x++) {
 	        for (int z = smallZ; z <= bigZ; z++) {
@@ -865,6 +890,83 @@ public class GeneralMethods {
 		return entities;
 	}
 
+	/**
+	 * Gets the first entity touched by a sphere swept along a path, such as
+	 * the path a projectile travels in a tick. Only entities whose position
+	 * projects onto the path between its start and its end are considered,
+	 * so nothing behind the origin or past the end is hit. Only the chunks
+	 * that the path passes over are searched, so the cost does not grow with
+	 * the number of entities in the world.
+	 * 
+	 * @param origin The start of the path
+	 * @param direction The direction of the path, does not need to be
+	 *            normalized
+	 * @param length The length of the path
+	 * @param radius The radius of the swept sphere
+	 * @param livingOnly Whether only {@link LivingEntity LivingEntities} can
+	 *            be hit
+	 * @param source The entity casting along the path, which is never hit,
+	 *            may be null
+	 * @param avoid Other entities that cannot be hit, may be null
+	 * @return The entity closest to the start of the path, or null if none
+	 *         was hit
+	 */
+	public static Entity getNearestEntityAlongPath(Location origin, Vector direction, double length, double radius, boolean livingOnly, Entity source, Collection<? extends Entity> avoid) {
+		World world = origin.getWorld();
+		double directionLength = direction.length();
+		double scale = directionLength == 0 ? 0 : Math.max(length, 0) / directionLength;
+		double ox = origin.getX(), oy = origin.getY(), oz = origin.getZ();
+		double dx = direction.getX() * scale, dy = direction.getY() * scale, dz = direction.getZ() * scale;
+		double pathLengthSquared = dx * dx + dy * dy + dz * dz;
+		double radiusSquared = radius * radius;
+
+		int smallX = (int) Math.floor(Math.min(ox, ox + dx) - radius) >> 4;
+		int bigX = (int) Math.floor(Math.max(ox, ox + dx) + radius) >> 4;
+		int smallZ = (int) Math.floor(Math.min(oz, oz + dz) - radius) >> 4;
+		int bigZ = (int) Math.floor(Math.max(oz, oz + dz) + radius) >> 4;
+
+		Entity nearest = null;
+		double nearestProgress = Double.MAX_VALUE;
+		double nearestDistance = Double.MAX_VALUE;
+		Location location = new Location(world, 0, 0, 0);
+		for (int x = smallX; x <= bigX; x++) {
+			for (int z = smallZ; z <= bigZ; z++) {
+				if (!world.isChunkLoaded(x, z)) {
+					continue;
+				}
+				for (Entity entity : world.getChunkAt(x, z).getEntities()) {
+					if (livingOnly && !(entity instanceof LivingEntity)) {
+						continue;
+					} else if (entity == source || entity.isDead() || (avoid != null && avoid.contains(entity))) {
+						continue;
+					} else if (entity instanceof Player && ((Player) entity).getGameMode() == GameMode.SPECTATOR) {
+						continue;
+					}
+
+					entity.getLocation(location);
+					double px = location.getX() - ox, py = location.getY() - oy, pz = location.getZ() - oz;
+					double progress = pathLengthSquared == 0 ? 0 : (px * dx + py * dy + pz * dz) / pathLengthSquared;
+					if (progress < 0 || progress > 1) {
+						// Behind the start or past the end of the path.
+						continue;
+					}
+					double cx = px - dx * progress, cy = py - dy * progress, cz = pz - dz * progress;
+					if (cx * cx + cy * cy + cz * cz > radiusSquared) {
+						continue;
+					}
+
+					double distance = px * px + py * py + pz * pz;
+					if (progress < nearestProgress || (progress == nearestProgress && distance < nearestDistance)) {
+						nearest = entity;
+						nearestProgress = progress;
+						nearestDistance = distance;
+					}
+				}
+			}
+		}
+		return nearest;
+	}
+
 	public static long getGlobalCooldown() {
 		return ConfigManager.defaultConfig.get().getLong("Properties.GlobalCooldown");
 	}
@@ -942,7 +1044,7 @@ public class GeneralMethods {
 	 */
 	public static Location getLeftSide(Location location, double distance) {
 		float angle = location.getYaw() / 60;
-		return location.clone().add(new Vector(Math.cos(angle), 0, Math.sin(angle)).normalize().multiply(distance));
+		return location.clone().add(Math.cos(angle) * distance, 0, Math.sin(angle) * distance);
 	}
 
 	public static int getMaxPresets(Player player) {
@@ -959,11 +1061,20 @@ public class GeneralMethods {
 	}
 
 	public static Vector getOrthogonalVector(Vector axis, double degrees, double length) {
-		Vector ortho = new Vector(axis.getY(), -axis.getX(), 0);
-		ortho = ortho.normalize();
-		ortho = ortho.multiply(length);
+		return getOrthogonalVector(axis, degrees, length, new Vector());
+	}
 
-		return rotateVectorAroundVector(axis, ortho, degrees);
+	/**
+	 * Same as {@link #getOrthogonalVector(Vector, double, double)}, but
+	 * writes the result into an existing vector so that callers producing
+	 * many points per tick can reuse one instance.
+	 * 
+	 * @param result The vector to store the result in, may be the axis
+	 * @return The result vector
+	 */
+	public static Vector getOrthogonalVector(Vector axis, double degrees, double length, Vector result) {
+		double scale = length / Math.sqrt(axis.getY() * axis.getY() + axis.getX() * axis.getX());
+		return rotateAroundAxis(axis.getX(), axis.getY(), axis.getZ(), axis.getY() * scale, -axis.getX() * scale, 0, degrees, result);
 	}
 
 	public static Collection<Player> getPlayersAroundPoint(Location location, double distance) {
@@ -992,7 +1103,7 @@ public class GeneralMethods {
 	 */
 	public static Location getRightSide(Location location, double distance) {
 		float angle = location.getYaw() / 60;
-		return location.clone().subtract(new Vector(Math.cos(angle), 0, Math.sin(angle)).normalize().multiply(distance));
+		return location.clone().subtract(Math.cos(angle) * distance, 0, Math.sin(angle) * distance);
 	}
 	
 	public static Plugin getProbending() {
@@ -1016,36 +1127,11 @@ public class GeneralMethods {
 		return null;
 	}
 	
-	@SuppressWarnings("unused")
 	public static Entity getTargetedEntity(Player player, double range, List<Entity> avoid) {
-		double longestr = range + 1;
-		Entity target = null;
 		Location origin = player.getEyeLocation();
-		Vector direction = player.getEyeLocation().getDirection().normalize();
-		for (Entity entity : origin.getWorld().getEntities()) {
-			if (avoid.contains(entity)) {
-				continue;
-			}
-			if (entity.getWorld().equals(origin.getWorld())) {
-				if (entity.getLocation().distanceSquared(origin) < longestr * longestr 
-						&& getDistanceFromLine(direction, origin, entity.getLocation()) < 2 
-						&& (entity instanceof LivingEntity) 
-						&& entity.getEntityId() != player.getEntityId() 
-						&& entity.getLocation().distanceSquared(origin.clone().add(direction)) < entity.getLocation().distanceSquared(origin.clone().add(direction.clone().multiply(-1)))) {
-					target = entity;
-					longestr = entity.getLocation().distance(origin);
-				}
-			}
-		}
-		if (target != null) {
-			List<Block> blocklist = new ArrayList<Block>();
-			blocklist = GeneralMethods.getBlocksAlongLine(player.getLocation(), target.getLocation(), player.getWorld());
-			for (Block isAir : blocklist) {
-				if (GeneralMethods.isObstructed(origin, target.getLocation())) {
-					target = null;
-					break;
-				}
-			}
+		Entity target = getNearestEntityAlongPath(origin, origin.getDirection(), range + 1, 2, true, player, avoid);
+		if (target != null && isObstructed(origin, target.getLocation())) {
+			return null;
 		}
 		return target;
 	}
@@ -1598,26 +1684,47 @@ public class GeneralMethods {
 	}
 
 	public static Vector rotateVectorAroundVector(Vector axis, Vector rotator, double degrees) {
-		double angle = Math.toRadians(degrees);
-		Vector rotation = axis.clone();
-		Vector rotate = rotator.clone();
-		rotation = rotation.normalize();
+		return rotateVectorAroundVector(axis, rotator, degrees, new Vector());
+	}
 
-		Vector thirdaxis = rotation.crossProduct(rotate).normalize().multiply(rotate.length());
+	/**
+	 * Same as {@link #rotateVectorAroundVector(Vector, Vector, double)}, but
+	 * writes the result into an existing vector instead of allocating one.
+	 * 
+	 * @param result The vector to store the result in, may be the axis or
+	 *            the rotator
+	 * @return The result vector
+	 */
+	public static Vector rotateVectorAroundVector(Vector axis, Vector rotator, double degrees, Vector result) {
+		return rotateAroundAxis(axis.getX(), axis.getY(), axis.getZ(), rotator.getX(), rotator.getY(), rotator.getZ(), degrees, result);
+	}
+
+	/**
+	 * Rotates a vector that is perpendicular to an axis around it, working on
+	 * the components directly so that nothing is allocated.
+	 */
+	private static Vector rotateAroundAxis(double ax, double ay, double az, double rx, double ry, double rz, double degrees, Vector result) {
+		double angle = Math.toRadians(degrees);
+		double tx = ay * rz - az * ry;
+		double ty = az * rx - ax * rz;
+		double tz = ax * ry - ay * rx;
+		double scale = Math.sqrt(rx * rx + ry * ry + rz * rz) / Math.sqrt(tx * tx + ty * ty + tz * tz);
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle) * scale;
 
-		return rotate.multiply(Math.cos(angle)).add(thirdaxis.multiply(Math.sin(angle)));
+		return result.setX(rx * cos + tx * sin).setY(ry * cos + ty * sin).setZ(rz * cos + tz * sin);
 	}
 
 	/**
 	 * Rotates a vector around the Y plane.
 	 */
 	public static Vector rotateXZ(Vector vec, double theta) {
-		Vector vec2 = vec.clone();
-		double x = vec2.getX();
-		double z = vec2.getZ();
-		vec2.setX(x * Math.cos(Math.toRadians(theta)) - z * Math.sin(Math.toRadians(theta)));
-		vec2.setZ(x * Math.sin(Math.toRadians(theta)) + z * Math.cos(Math.toRadians(theta)));
-		return vec2;
+		double radians = Math.toRadians(theta);
+		double cos = Math.cos(radians);
+		double sin = Math.sin(radians);
+		double x = vec.getX();
+		double z = vec.getZ();
+		return new Vector(x * cos - z * sin, vec.getY(), x * sin + z * cos);
 	}
 
 	public static void runDebug() {
@@ -1713,6 +1820,13 @@ public class GeneralMethods {
 			}
 		}
 		
+		writeToDebug("");
+		writeToDebug("Entity Maps");
+		writeToDebug("====================");
+		for (String line : EntityLifecycle.getReport()) {
+			writeToDebug(line);
+		}
+
 		writeToDebug("");
 		writeToDebug("Ability Information");
 		writeToDebug("====================");
@@ -1981,6 +2095,9 @@ public class GeneralMethods {
 		TempBlock.removeAll();
 		TempArmor.revertAll();
 		MultiAbilityManager.removeAll();
+		TempPotionEffect.removeAll();
+		PotionLeases.removeAll();
+		DeadlineScheduler.clear();
 		if (!INVINCIBLE.isEmpty()) {
 			INVINCIBLE.clear();
 		}
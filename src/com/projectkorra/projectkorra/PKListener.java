@@ -107,6 +107,7 @@ import com.projectkorra.projectkorra.chiblocking.combo.ChiCombo;
 import com.projectkorra.projectkorra.chiblocking.passive.Acrobatics;
 import com.projectkorra.projectkorra.chiblocking.passive.ChiPassive;
 import com.projectkorra.projectkorra.command.Commands;
+import com.projectkorra.projectkorra.command.WhoCommand;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
 import com.projectkorra.projectkorra.earthbending.metal.Extraction;
 import com.projectkorra.projectkorra.earthbending.metal.MetalClips;
@@ -134,7 +135,6 @@ import com.projectkorra.projectkorra.event.PlayerChangeElementEvent;
 import com.projectkorra.projectkorra.event.PlayerChangeElementEvent.Result;
 import com.projectkorra.projectkorra.event.PlayerJumpEvent;
 import com.projectkorra.projectkorra.firebending.Blaze;
-import com.projectkorra.projectkorra.firebending.BlazeArc;
 import com.projectkorra.projectkorra.firebending.BlazeRing;
 import com.projectkorra.projectkorra.firebending.FireBlast;
 import com.projectkorra.projectkorra.firebending.FireBlastCharged;
@@ -147,6 +147,7 @@ import com.projectkorra.projectkorra.firebending.combo.FireCombo;
 import com.projectkorra.projectkorra.firebending.combustion.Combustion;
 import com.projectkorra.projectkorra.firebending.lightning.Lightning;
 import com.projectkorra.projectkorra.firebending.util.FireDamageTimer;
+import com.projectkorra.projectkorra.firebending.util.FireTracker;
 import com.projectkorra.projectkorra.firebending.Illumination;
 import com.projectkorra.projectkorra.firebending.WallOfFire;
 import com.projectkorra.projectkorra.object.HorizontalVelocityTracker;
@@ -156,8 +157,12 @@ import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.Flight;
 import com.projectkorra.projectkorra.util.PassiveHandler;
+import com.projectkorra.projectkorra.util.PotionLeases;
+import com.projectkorra.projectkorra.util.StatusRegistry;
+import com.projectkorra.projectkorra.util.StatusRegistry.Status;
 import com.projectkorra.projectkorra.util.TempArmor;
 import com.projectkorra.projectkorra.util.TempBlock;
+import com.projectkorra.projectkorra.util.TickProfiler;
 import com.projectkorra.projectkorra.waterbending.OctopusForm;
 import com.projectkorra.projectkorra.waterbending.blood.Bloodbending;
 import com.projectkorra.projectkorra.waterbending.healing.HealingWaters;
@@ -183,6 +188,7 @@ public class PKListener implements Listener {
 	private static final HashMap<Player, String> BENDING_PLAYER_DEATH = new HashMap<>(); // Player killed by Bending.
 	private static final List<UUID> RIGHT_CLICK_INTERACT = new ArrayList<UUID>(); // Player right click block.
 	private static final ArrayList<UUID> TOGGLED_OUT = new ArrayList<>(); // Stands for toggled = false while logging out.
+	private static final int DISABLED_EXCEPT_BREATHBENT = StatusRegistry.DISABLED & ~Status.BREATHBENT.getFlag();
 	private static final Map<Player, Integer> JUMPS = new HashMap<>();
 
 	public PKListener(ProjectKorra plugin) {
@@ -228,6 +234,15 @@ public class PKListener implements Listener {
 
 	@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
 	public void onBlockFlowTo(BlockFromToEvent event) {
+		long start = TickProfiler.start();
+		try {
+			handleBlockFlowTo(event);
+		} finally {
+			TickProfiler.record("PKListener.onBlockFlowTo", start);
+		}
+	}
+
+	private void handleBlockFlowTo(BlockFromToEvent event) {
 		if (event.isCancelled()) {
 			return;
 		}
@@ -247,6 +262,9 @@ public class PKListener implements Listener {
 				}
 			}
 		}
+		if (!event.isCancelled() && toblock.getType() == Material.FIRE) {
+			FireTracker.checkExtinguished(toblock);
+		}
 	}
 
 	@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
@@ -280,6 +298,8 @@ public class PKListener implements Listener {
 
 		Block block = event.getBlock();
 		if (block.getType() == Material.FIRE) {
+			// Restoring the block that the fire replaced has to stop the fire from fading into air.
+			event.setCancelled(FireTracker.removeBlock(block));
 			return;
 		}
 		event.setCancelled(Illumination.getBlocks().containsKey(block));
@@ -298,13 +318,19 @@ public class PKListener implements Listener {
 		if (!event.isCancelled()) {
 			event.setCancelled(!Torrent.canThaw(block));
 		}
-		if (BlazeArc.getIgnitedBlocks().containsKey(block)) {
-			BlazeArc.removeBlock(block);
-		}
 	}
 
 	@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
 	public void onBlockPhysics(BlockPhysicsEvent event) {
+		long start = TickProfiler.start();
+		try {
+			handleBlockPhysics(event);
+		} finally {
+			TickProfiler.record("PKListener.onBlockPhysics", start);
+		}
+	}
+
+	private void handleBlockPhysics(BlockPhysicsEvent event) {
 		if (event.isCancelled()) {
 			return;
 		}
@@ -333,9 +359,10 @@ public class PKListener implements Listener {
 			return;
 		}
 		Player player = event.getPlayer();
-		if (Paralyze.isParalyzed(player) || ChiCombo.isParalyzed(player) || Bloodbending.isBloodbent(player)
-				|| Suffocate.isBreathbent(player)) {
+		if (hasStatus(player, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
+		} else if (event.getBlockReplacedState().getType() == Material.FIRE) {
+			FireTracker.checkExtinguished(event.getBlock());
 		}
 	}
 
@@ -379,8 +406,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-				|| Suffocate.isBreathbent(entity)) {
+		if (hasStatus(entity, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 
@@ -400,8 +426,9 @@ public class PKListener implements Listener {
 
 		Entity entity = event.getEntity();
 		Block block = entity.getLocation().getBlock();
-		if (BlazeArc.getIgnitedBlocks().containsKey(block) && entity instanceof LivingEntity) {
-			new FireDamageTimer(entity, BlazeArc.getIgnitedBlocks().get(block));
+		Player igniter = FireTracker.getIgniter(block);
+		if (igniter != null && entity instanceof LivingEntity) {
+			new FireDamageTimer(entity, igniter);
 		}
 	}
 
@@ -432,9 +459,11 @@ public class PKListener implements Listener {
 
 		Entity entity = event.getEntity();
 
-		if (event.getCause() == DamageCause.FIRE
-				&& BlazeArc.getIgnitedBlocks().containsKey(entity.getLocation().getBlock())) {
-			new FireDamageTimer(entity, BlazeArc.getIgnitedBlocks().get(entity.getLocation().getBlock()));
+		if (event.getCause() == DamageCause.FIRE) {
+			Player igniter = FireTracker.getIgniter(entity.getLocation().getBlock());
+			if (igniter != null) {
+				new FireDamageTimer(entity, igniter);
+			}
 		}
 
 		if (FireDamageTimer.isEnflamed(entity) && event.getCause() == DamageCause.FIRE_TICK) {
@@ -551,8 +580,7 @@ public class PKListener implements Listener {
 
 		Entity entity = event.getEntity();
 		if (entity != null) {
-			if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-					|| Suffocate.isBreathbent(entity)) {
+			if (hasStatus(entity, StatusRegistry.DISABLED)) {
 				event.setCancelled(true);
 			}
 		}
@@ -565,8 +593,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-				|| Suffocate.isBreathbent(entity)) {
+		if (hasStatus(entity, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 	}
@@ -578,8 +605,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-				|| Suffocate.isBreathbent(entity)) {
+		if (hasStatus(entity, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 	}
@@ -591,8 +617,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-				|| Suffocate.isBreathbent(entity)) {
+		if (hasStatus(entity, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 	}
@@ -604,8 +629,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-				|| Suffocate.isBreathbent(entity)) {
+		if (hasStatus(entity, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 	}
@@ -630,7 +654,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)) {
+		if (hasStatus(entity, DISABLED_EXCEPT_BREATHBENT)) {
 			event.setCancelled(true);
 		}
 	}
@@ -642,7 +666,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)) {
+		if (hasStatus(entity, DISABLED_EXCEPT_BREATHBENT)) {
 			event.setCancelled(true);
 		}
 	}
@@ -654,8 +678,7 @@ public class PKListener implements Listener {
 		}
 
 		Entity entity = event.getEntity();
-		if (Paralyze.isParalyzed(entity) || ChiCombo.isParalyzed(entity) || Bloodbending.isBloodbent(entity)
-				|| Suffocate.isBreathbent(entity)) {
+		if (hasStatus(entity, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 	}
@@ -1010,9 +1033,14 @@ public class PKListener implements Listener {
 				new EarthSmash(player, ClickType.RIGHT_CLICK);
 			}
 		}
-		if (Paralyze.isParalyzed(player) || ChiCombo.isParalyzed(player) || Bloodbending.isBloodbent(player)
-				|| Suffocate.isBreathbent(player)) {
+		if (hasStatus(player, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
+		} else if (event.getAction() == Action.LEFT_CLICK_BLOCK && event.getClickedBlock() != null) {
+			// Punching fire puts it out without a fade event.
+			Block fire = event.getClickedBlock().getRelative(event.getBlockFace());
+			if (fire.getType() == Material.FIRE) {
+				FireTracker.checkExtinguished(fire);
+			}
 		}
 	}
 
@@ -1029,8 +1057,7 @@ public class PKListener implements Listener {
 			ComboManager.addComboAbility(player, ClickType.RIGHT_CLICK_ENTITY);
 		}
 
-		if (Paralyze.isParalyzed(player) || ChiCombo.isParalyzed(player) || Bloodbending.isBloodbent(player)
-				|| Suffocate.isBreathbent(player)) {
+		if (hasStatus(player, StatusRegistry.DISABLED)) {
 			event.setCancelled(true);
 		}
 
@@ -1064,6 +1091,7 @@ public class PKListener implements Listener {
 	public void onPlayerJoin(PlayerJoinEvent event) {
 		final Player player = event.getPlayer();
 		JUMPS.put(player, player.getStatistic(Statistic.JUMP));
+		WhoCommand.invalidateWhoLine(player.getUniqueId());
 		com.projectkorra.projectkorra.earthbending.passive.Tremorsense.create(event.getPlayer());
 		
 		GeneralMethods.createBendingPlayer(player.getUniqueId(), player.getName());
@@ -1100,6 +1128,15 @@ public class PKListener implements Listener {
 
 	@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
 	public void onPlayerMove(PlayerMoveEvent event) {
+		long start = TickProfiler.start();
+		try {
+			handlePlayerMove(event);
+		} finally {
+			TickProfiler.record("PKListener.onPlayerMove", start);
+		}
+	}
+
+	private void handlePlayerMove(PlayerMoveEvent event) {
 		if (event.isCancelled()) {
 			return;
 		}
@@ -1202,6 +1239,7 @@ public class PKListener implements Listener {
 		Player player = event.getPlayer();
 		BendingPlayer bPlayer = BendingPlayer.getBendingPlayer(player);
 		com.projectkorra.projectkorra.earthbending.passive.Tremorsense.remove(player);
+		WhoCommand.invalidateWhoLine(player.getUniqueId());
 		
 		if (bPlayer != null) {
 			if (TOGGLED_OUT.contains(player.getUniqueId()) && bPlayer.isToggled()) {
@@ -1227,11 +1265,21 @@ public class PKListener implements Listener {
 
 		MultiAbilityManager.remove(player);
 		AirFlight.remove(player);
+		PotionLeases.remove(player);
 		JUMPS.remove(player);
 	}
 
 	@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
 	public void onPlayerSneak(PlayerToggleSneakEvent event) {
+		long start = TickProfiler.start();
+		try {
+			handlePlayerSneak(event);
+		} finally {
+			TickProfiler.record("PKListener.onPlayerSneak", start);
+		}
+	}
+
+	private void handlePlayerSneak(PlayerToggleSneakEvent event) {
 		Player player = event.getPlayer();
 		BendingPlayer bPlayer = BendingPlayer.getBendingPlayer(player);
 
@@ -1262,7 +1310,7 @@ public class PKListener implements Listener {
 			}
 		}
 
-		if (Paralyze.isParalyzed(player) || ChiCombo.isParalyzed(player) || Bloodbending.isBloodbent(player)) {
+		if (hasStatus(player, DISABLED_EXCEPT_BREATHBENT)) {
 			event.setCancelled(true);
 			return;
 		}
@@ -1426,6 +1474,15 @@ public class PKListener implements Listener {
 
 	@EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
 	public void onPlayerSwing(PlayerAnimationEvent event) {
+		long start = TickProfiler.start();
+		try {
+			handlePlayerSwing(event);
+		} finally {
+			TickProfiler.record("PKListener.onPlayerSwing", start);
+		}
+	}
+
+	private void handlePlayerSwing(PlayerAnimationEvent event) {
 		if (event.isCancelled()) {
 			return;
 		}
@@ -1452,7 +1509,7 @@ public class PKListener implements Listener {
 		if (Suffocate.isBreathbent(player)) {
 			event.setCancelled(true);
 			return;
-		} else if (Bloodbending.isBloodbent(player) || Paralyze.isParalyzed(player) || ChiCombo.isParalyzed(player)) {
+		} else if (hasStatus(player, DISABLED_EXCEPT_BREATHBENT)) {
 			event.setCancelled(true);
 			return;
 		} else if (bPlayer.isChiBlocked()) {
@@ -1685,4 +1742,17 @@ public class PKListener implements Listener {
 	public static Map<Player, Integer> getJumpStatistics() {
 		return JUMPS;
 	}
+
+	/**
+	 * Checks the statuses of an entity with a single lookup. Paralysis alone
+	 * is confirmed through {@link Paralyze#isParalyzed(Entity)}, because
+	 * players in the Avatar State cannot be paralyzed.
+	 */
+	private static boolean hasStatus(Entity entity, int statuses) {
+		int active = StatusRegistry.getStatuses(entity) & statuses;
+		if (active == Status.PARALYZED.getFlag()) {
+			return Paralyze.isParalyzed(entity);
+		}
+		return active != 0;
+	}
 }
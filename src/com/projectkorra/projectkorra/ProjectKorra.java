@@ -25,10 +25,14 @@ import com.projectkorra.projectkorra.earthbending.util.EarthbendingManager;
 import com.projectkorra.projectkorra.firebending.util.FirebendingManager;
 import com.projectkorra.projectkorra.object.Preset;
 import com.projectkorra.projectkorra.storage.DBConnection;
+import com.projectkorra.projectkorra.util.BlockJournal;
+import com.projectkorra.projectkorra.util.ChunkReverter;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.MetricsLite;
 import com.projectkorra.projectkorra.util.RevertChecker;
 import com.projectkorra.projectkorra.util.TempBlock;
 import com.projectkorra.projectkorra.util.Updater;
+import com.projectkorra.projectkorra.util.VisualTempBlock;
 import com.projectkorra.projectkorra.util.logging.PKLogHandler;
 import com.projectkorra.projectkorra.waterbending.util.WaterbendingManager;
 
@@ -60,7 +64,7 @@ public class ProjectKorra extends JavaPlugin {
 
 		new ConfigManager();
 		new GeneralMethods(this);
-		updater = new Updater(this, "http://projectkorra.com/forums/dev-builds.16/index.rss");
+		updater = new Updater(this, getConfig().getString("Properties.Remote.UpdateURL"), getConfig().getLong("Properties.Remote.CacheDuration"), getConfig().getInt("Properties.Remote.Timeout"));
 		new Commands(this);
 		new MultiAbilityManager();
 		new ComboManager();
@@ -70,6 +74,10 @@ public class ProjectKorra extends JavaPlugin {
 		collisionInitializer.initializeDefaultCollisions(); // must be called after abilities have been registered
 		collisionManager.startCollisionDetection();
 
+		if (getConfig().getBoolean("Properties.BlockJournal.Enabled")) {
+			BlockJournal.start(new File(getDataFolder(), "Journal"), getConfig().getInt("Properties.BlockJournal.SegmentSize") * 1024);
+		}
+
 		Preset.loadExternalPresets();
 
 		DBConnection.host = getConfig().getString("Storage.MySQL.host");
@@ -91,8 +99,11 @@ public class ProjectKorra extends JavaPlugin {
 		getServer().getScheduler().scheduleSyncRepeatingTask(this, new FirebendingManager(this), 0, 1);
 		getServer().getScheduler().scheduleSyncRepeatingTask(this, new ChiblockingManager(this), 0, 1);
 		//getServer().getScheduler().scheduleSyncRepeatingTask(this, new PassiveHandler(), 0, 1);
-		getServer().getScheduler().runTaskTimerAsynchronously(this, new RevertChecker(this), 0, 200);
+		getServer().getScheduler().runTaskTimer(this, new RevertChecker(this), 0, 200);
 		TempBlock.startReversion();
+		VisualTempBlock.startRefreshing();
+		EntityLifecycle.start();
+		ChunkReverter.start();
 
 		for (final Player player : Bukkit.getOnlinePlayers()) {
 			PKListener.getJumpStatistics().put(player, player.getStatistic(Statistic.JUMP));
@@ -128,6 +139,7 @@ public class ProjectKorra extends JavaPlugin {
 	@Override
 	public void onDisable() {
 		GeneralMethods.stopBending();
+		BlockJournal.close();
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			Tremorsense.remove(player);
 		}
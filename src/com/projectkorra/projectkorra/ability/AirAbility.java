@@ -1,8 +1,8 @@
 package com.projectkorra.projectkorra.ability;
 
 import com.projectkorra.projectkorra.Element;
-import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.util.Collision;
+import com.projectkorra.projectkorra.airbending.AirShield;
 import com.projectkorra.projectkorra.airbending.AirSpout;
 import com.projectkorra.projectkorra.airbending.Suffocate;
 import com.projectkorra.projectkorra.util.ParticleEffect;
@@ -14,9 +14,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public abstract class AirAbility extends ElementalAbility {
 	
 	public AirAbility(Player player) {
@@ -100,9 +97,7 @@ public abstract class AirAbility extends ElementalAbility {
 	 */
 	@Deprecated
 	public static boolean isWithinAirShield(Location loc) {
-		List<String> list = new ArrayList<String>();
-		list.add("AirShield");
-		return GeneralMethods.blockAbilities(null, list, loc, 0);
+		return AirShield.isWithinShield(loc);
 	}
 
 	/**
@@ -29,6 +29,7 @@ import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.Element.SubElement;
 import com.projectkorra.projectkorra.ProjectKorra;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.AbilityLoader;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.ability.util.CollisionManager;
@@ -40,6 +41,10 @@ import com.projectkorra.projectkorra.configuration.ConfigManager;
 import com.projectkorra.projectkorra.event.AbilityEndEvent;
 import com.projectkorra.projectkorra.event.AbilityProgressEvent;
 import com.projectkorra.projectkorra.event.AbilityStartEvent;
+import com.projectkorra.projectkorra.util.BlockOwnership;
+import com.projectkorra.projectkorra.util.Flight;
+import com.projectkorra.projectkorra.util.PotionLeases;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 import sun.reflect.ReflectionFactory;
 
@@ -66,6 +71,7 @@ public abstract class CoreAbility implements Ability {
 	private static final Map<Class<? extends CoreAbility>, Set<CoreAbility>> INSTANCES_BY_CLASS = new ConcurrentHashMap<>();
 	private static final Map<String, CoreAbility> ABILITIES_BY_NAME = new ConcurrentSkipListMap<>(); // preserves ordering
 	private static final Map<Class<? extends CoreAbility>, CoreAbility> ABILITIES_BY_CLASS = new ConcurrentHashMap<>();
+	private static final Map<Element, List<CoreAbility>> ABILITIES_BY_ELEMENT = new ConcurrentHashMap<>();
 	private static final double DEFAULT_COLLISION_RADIUS = 0.3;
 
 	private static int idCounter;
@@ -161,6 +167,10 @@ public abstract class CoreAbility implements Ability {
 		INSTANCES_BY_PLAYER.get(clazz).get(uuid).put(this.id, this);
 		INSTANCES_BY_CLASS.get(clazz).add(this);
 		INSTANCES.add(this);
+		if (AbilityIndex.isTracked(clazz)) {
+			AbilityIndex.refresh(this);
+		}
+		Flight.handleAbilityChange(this);
 	}
 
 	/**
@@ -200,26 +210,34 @@ public abstract class CoreAbility implements Ability {
 			INSTANCES_BY_CLASS.get(getClass()).remove(this);
 		}
 		INSTANCES.remove(this);
+		AbilityIndex.remove(this);
+		BlockOwnership.releaseAll(this);
+		PotionLeases.releaseAll(this);
+		Flight.handleAbilityChange(this);
 	}
 
 	/**
 	 * Causes {@link #progress()} to be called on every CoreAbility instance
-	 * that has been started and has not been removed.
+	 * that has been started and has not been removed. Passives are handed to
+	 * {@link PassiveManager#progressPassives(Collection)} one type at a time.
 	 */
 	public static void progressAll() {
-		for (Set<CoreAbility> setAbils : INSTANCES_BY_CLASS.values()) {
-			for (CoreAbility abil : setAbils) {
-				if (abil instanceof PassiveAbility) {
-					BendingPlayer bPlayer = abil.getBendingPlayer();
-					if (bPlayer == null || !abil.getPlayer().isOnline()) {
-						abil.remove();
-						return;
-					} else if (!bPlayer.canBendPassive(abil.getElement())) {
-						abil.remove();
-						return;
-					}
-				}
+		PassiveManager.clearChecks();
+		for (Map.Entry<Class<? extends CoreAbility>, Set<CoreAbility>> entry : INSTANCES_BY_CLASS.entrySet()) {
+			if (PassiveAbility.class.isAssignableFrom(entry.getKey())) {
+				long start = TickProfiler.start();
+				PassiveManager.progressPassives(entry.getValue());
+				TickProfiler.record(entry.getKey(), start);
+				continue;
+			}
+			boolean indexed = AbilityIndex.isTracked(entry.getKey());
+			for (CoreAbility abil : entry.getValue()) {
+				long start = TickProfiler.start();
 				abil.progress();
+				if (indexed) {
+					AbilityIndex.refresh(abil);
+				}
+				TickProfiler.record(entry.getKey(), start);
 				Bukkit.getServer().getPluginManager().callEvent(new AbilityProgressEvent(abil));
 			}
 		}
@@ -348,9 +366,14 @@ public abstract class CoreAbility implements Ability {
 	 * @return a list of fake CoreAbility instances
 	 */
 	public static List<CoreAbility> getAbilitiesByElement(Element element) {
-		ArrayList<CoreAbility> abilities = new ArrayList<CoreAbility>();
-		if (element != null) {
-			for (CoreAbility ability : getAbilities()) {
+		if (element == null) {
+			return new ArrayList<CoreAbility>();
+		}
+
+		List<CoreAbility> abilities = ABILITIES_BY_ELEMENT.get(element);
+		if (abilities == null) {
+			abilities = new ArrayList<CoreAbility>();
+			for (CoreAbility ability : ABILITIES_BY_CLASS.values()) {
 				if (ability.getElement() == element) {
 					abilities.add(ability);
 				} else if (ability.getElement() instanceof SubElement) {
@@ -360,8 +383,9 @@ public abstract class CoreAbility implements Ability {
 					}
 				}
 			}
+			ABILITIES_BY_ELEMENT.put(element, abilities);
 		}
-		return abilities;
+		return new ArrayList<CoreAbility>(abilities);
 	}
 
 	/**
@@ -406,6 +430,18 @@ public abstract class CoreAbility implements Ability {
 		registerAddonAbilities("/Abilities/");
 	}
 
+	/**
+	 * The abilities of each element and the bound ability of each
+	 * BendingPlayer are cached, so they have to be resolved again whenever an
+	 * ability is registered or unregistered.
+	 */
+	private static void clearAbilityCaches() {
+		ABILITIES_BY_ELEMENT.clear();
+		for (BendingPlayer bPlayer : BendingPlayer.getPlayers().values()) {
+			bPlayer.clearBoundAbilityCache();
+		}
+	}
+
 	/**
 	 * Scans a JavaPlugin and registers CoreAbility class files.
 	 * 
@@ -499,6 +535,7 @@ public abstract class CoreAbility implements Ability {
 		catch (IOException e) {
 			e.printStackTrace();
 		}
+		clearAbilityCaches();
 	}
 
 	/**
@@ -570,6 +607,7 @@ public abstract class CoreAbility implements Ability {
 				ABILITIES_BY_NAME.remove(name.toLowerCase());
 			}
 		}
+		clearAbilityCaches();
 	}
 
 	public long getStartTime() {
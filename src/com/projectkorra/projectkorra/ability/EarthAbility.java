@@ -10,6 +10,7 @@ import org.bukkit.Effect;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
@@ -28,10 +29,14 @@ import com.projectkorra.projectkorra.earthbending.lava.LavaFlow;
 import com.projectkorra.projectkorra.earthbending.passive.EarthPassive;
 import com.projectkorra.projectkorra.earthbending.sand.SandSpout;
 import com.projectkorra.projectkorra.firebending.Illumination;
+import com.projectkorra.projectkorra.util.BlockJournal;
+import com.projectkorra.projectkorra.util.BlockMutations;
 import com.projectkorra.projectkorra.util.BlockSource;
+import com.projectkorra.projectkorra.util.ChunkIndex;
 import com.projectkorra.projectkorra.util.Information;
 import com.projectkorra.projectkorra.util.ParticleEffect;
 import com.projectkorra.projectkorra.util.ParticleEffect.ParticleData;
+import com.projectkorra.projectkorra.util.RevertChecker;
 import com.projectkorra.projectkorra.util.TempBlock;
 
 public abstract class EarthAbility extends ElementalAbility {
@@ -39,6 +44,8 @@ public abstract class EarthAbility extends ElementalAbility {
 	private static final HashSet<Block> PREVENT_EARTHBENDING = new HashSet<Block>();
 	private static final Map<Block, Information> MOVED_EARTH = new ConcurrentHashMap<Block, Information>();
 	private static final Map<Integer, Information> TEMP_AIR_LOCATIONS = new ConcurrentHashMap<Integer, Information>();
+	private static final ChunkIndex<Block> MOVED_EARTH_CHUNKS = new ChunkIndex<Block>();
+	private static final ChunkIndex<Integer> TEMP_AIR_CHUNKS = new ChunkIndex<Integer>();
 	private static final ArrayList<Block> PREVENT_PHYSICS = new ArrayList<Block>();
 
 	public EarthAbility(Player player) {
@@ -263,18 +270,20 @@ public abstract class EarthAbility extends ElementalAbility {
 		
 		if (MOVED_EARTH.containsKey(block)) {
 			info = MOVED_EARTH.get(block);
-			MOVED_EARTH.remove(block);
-			
+			removeMovedEarth(block);
+			BlockJournal.recordRestored(block);
 		} else {
 			info = new Information();
 			
 			info.setBlock(block);
 			info.setState(block.getState());
 			info.setData(block.getData());
+			BlockJournal.recordOriginal(info.getState());
 		}
 		block.setType(Material.AIR);
 		info.setTime(System.currentTimeMillis());
-		TEMP_AIR_LOCATIONS.put(info.getID(), info);
+		putTempAir(info);
+		RevertChecker.scheduleAir(info);
 	}
 
 	public static void displaySandParticle(Location loc, float xOffset, float yOffset, float zOffset, float amount, float speed, boolean red) {
@@ -446,11 +455,8 @@ public abstract class EarthAbility extends ElementalAbility {
 	@SuppressWarnings("deprecation")
 	public static boolean isLavabendable(Player player, Block block) {
 		byte full = 0x0;
-		if (TempBlock.isTempBlock(block)) {
-			TempBlock tblock = TempBlock.instances.get(block);
-			if (tblock == null || !LavaFlow.getTempLavaBlocks().values().contains(tblock)) {
-				return false;
-			}
+		if (TempBlock.isTempBlock(block) && LavaFlow.getTempLavaBlocks().get(block) != TempBlock.get(block)) {
+			return false;
 		}
 		if (isLava(block) && block.getData() == full) {
 			return true;
@@ -474,29 +480,32 @@ public abstract class EarthAbility extends ElementalAbility {
 
 		if (MOVED_EARTH.containsKey(source)) {
 			info = MOVED_EARTH.get(source);
-			MOVED_EARTH.remove(source);
+			removeMovedEarth(source);
+			BlockJournal.recordRestored(source);
 		} else {
 			info = new Information();
 			info.setBlock(source);
 			info.setTime(System.currentTimeMillis());
 			info.setState(source.getState());
+			BlockJournal.recordOriginal(info.getState());
 		}
 		info.setTime(System.currentTimeMillis());
-		MOVED_EARTH.put(target, info);
+		BlockJournal.recordOriginal(target);
+		putMovedEarth(target, info);
+		RevertChecker.scheduleEarth(target, info);
 
-		source.setType(Material.AIR);
+		BlockMutations.set(source, Material.AIR, (byte) 0, true);
 		
 		if (info.getState().getType() == Material.SAND) {
 			if (info.getState().getRawData() == (byte) 0x1) {
-				target.setType(Material.RED_SANDSTONE);
+				BlockMutations.set(target, Material.RED_SANDSTONE, (byte) 0, true);
 			} else {
-				target.setType(Material.SANDSTONE);
+				BlockMutations.set(target, Material.SANDSTONE, (byte) 0, true);
 			}
 		} else if (info.getState().getType() == Material.GRAVEL) {
-			target.setType(Material.STONE);
+			BlockMutations.set(target, Material.STONE, (byte) 0, true);
 		} else {
-			target.setType(info.getState().getType());
-			target.setData(info.getState().getRawData());
+			BlockMutations.set(target, info.getState().getType(), info.getState().getRawData(), true);
 		}
 	}
 
@@ -525,6 +534,7 @@ public abstract class EarthAbility extends ElementalAbility {
 		for (Integer i : TEMP_AIR_LOCATIONS.keySet()) {
 			revertAirBlock(i, true);
 		}
+		RevertChecker.clear();
 	}
 
 	public static void removeRevertIndex(Block block) {
@@ -537,7 +547,9 @@ public abstract class EarthAbility extends ElementalAbility {
 				EarthAbility.revertBlock(block);
 			}
 
-			MOVED_EARTH.remove(block);
+			if (removeMovedEarth(block) == info) {
+				forgetMovedEarth(block, info);
+			}
 		}
 	}
 	
@@ -555,14 +567,17 @@ public abstract class EarthAbility extends ElementalAbility {
 
 		if (block.getType() != Material.AIR && !block.isLiquid()) {
 			if (force || !MOVED_EARTH.containsKey(block)) {
-				TEMP_AIR_LOCATIONS.remove(i);
+				removeTempAir(i);
+				BlockJournal.recordRestored(block);
 			} else {
 				info.setTime(info.getTime() + 10000);
+				RevertChecker.scheduleAir(info);
 			}
 			return;
 		} else {
 			info.getState().update(true);
-			TEMP_AIR_LOCATIONS.remove(i);
+			removeTempAir(i);
+			BlockJournal.recordRestored(block);
 		}
 	}
 	
@@ -570,7 +585,10 @@ public abstract class EarthAbility extends ElementalAbility {
 	public static boolean revertBlock(Block block) {
 		byte full = 0x0;
 		if (!isEarthRevertOn()) {
-			MOVED_EARTH.remove(block);
+			Information info = removeMovedEarth(block);
+			if (info != null) {
+				forgetMovedEarth(block, info);
+			}
 			return false;
 		}
 		if (MOVED_EARTH.containsKey(block)) {
@@ -578,7 +596,8 @@ public abstract class EarthAbility extends ElementalAbility {
 			Block sourceblock = info.getState().getBlock();
 
 			if (info.getState().getType() == Material.AIR) {
-				MOVED_EARTH.remove(block);
+				removeMovedEarth(block);
+				forgetMovedEarth(block, info);
 				return true;
 			}
 
@@ -590,13 +609,15 @@ public abstract class EarthAbility extends ElementalAbility {
 				if (RaiseEarth.blockInAllAffectedBlocks(block)) {
 					EarthAbility.revertBlock(block);
 				}
-				MOVED_EARTH.remove(block);
+				if (removeMovedEarth(block) == info) {
+					forgetMovedEarth(block, info);
+				}
 				return true;
 			}
 
 			if (MOVED_EARTH.containsKey(sourceblock)) {
 				addTempAirBlock(block);
-				MOVED_EARTH.remove(block);
+				removeMovedEarth(block);
 				return true;
 			}
 
@@ -620,13 +641,79 @@ public abstract class EarthAbility extends ElementalAbility {
 			if (RaiseEarth.blockInAllAffectedBlocks(block)) {
 				EarthAbility.revertBlock(block);
 			}
-			MOVED_EARTH.remove(block);
+			if (removeMovedEarth(block) == info) {
+				forgetMovedEarth(block, info);
+			}
 		}
 		return true;
-	} 
+	}
+
+	/**
+	 * Reverts the moved earth and temporary air in a chunk that is about to
+	 * unload. Moved earth is found from both the chunk it was taken from and
+	 * the chunk it was moved to, so it is reverted while both are loaded.
+	 */
+	public static void revertChunk(World world, int chunkX, int chunkZ) {
+		for (Block block : MOVED_EARTH_CHUNKS.removeChunk(world, chunkX, chunkZ)) {
+			revertBlock(block);
+		}
+		for (Integer id : TEMP_AIR_CHUNKS.removeChunk(world, chunkX, chunkZ)) {
+			revertAirBlock(id, true);
+		}
+	}
+
+	/**
+	 * Reverts the moved earth and temporary air in a world that is about to
+	 * unload.
+	 */
+	public static void revertWorld(World world) {
+		for (Block block : MOVED_EARTH_CHUNKS.removeWorld(world)) {
+			revertBlock(block);
+		}
+		for (Integer id : TEMP_AIR_CHUNKS.removeWorld(world)) {
+			revertAirBlock(id, true);
+		}
+	}
+
+	private static void putMovedEarth(Block block, Information info) {
+		MOVED_EARTH.put(block, info);
+		MOVED_EARTH_CHUNKS.add(block, block);
+		MOVED_EARTH_CHUNKS.add(info.getState().getBlock(), block);
+	}
+
+	private static Information removeMovedEarth(Block block) {
+		Information info = MOVED_EARTH.remove(block);
+		if (info != null) {
+			MOVED_EARTH_CHUNKS.remove(block, block);
+			MOVED_EARTH_CHUNKS.remove(info.getState().getBlock(), block);
+		}
+		return info;
+	}
+
+	private static void putTempAir(Information info) {
+		TEMP_AIR_LOCATIONS.put(info.getID(), info);
+		TEMP_AIR_CHUNKS.add(info.getState().getBlock(), info.getID());
+	}
+
+	private static void removeTempAir(int id) {
+		Information info = TEMP_AIR_LOCATIONS.remove(id);
+		if (info != null) {
+			TEMP_AIR_CHUNKS.remove(info.getState().getBlock(), id);
+		}
+	}
+
+	/**
+	 * Every moved earth entry journals both the block it currently occupies
+	 * and the block it was taken from, so both are released together.
+	 */
+	private static void forgetMovedEarth(Block block, Information info) {
+		BlockJournal.recordRestored(block);
+		BlockJournal.recordRestored(info.getState().getBlock());
+	}
 	
 	public static void stopBending() {
 		EarthPassive.removeAll();
+		LavaFlow.revertAll();
 		
 		if (isEarthRevertOn()) {
 			removeAllEarthbendedBlocks();
@@ -1,12 +1,6 @@
 package com.projectkorra.projectkorra.ability;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
@@ -15,21 +9,19 @@ import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 
 import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
-import com.projectkorra.projectkorra.firebending.BlazeArc;
-import com.projectkorra.projectkorra.util.Information;
+import com.projectkorra.projectkorra.firebending.FireShield;
+import com.projectkorra.projectkorra.firebending.util.FireTracker;
 import com.projectkorra.projectkorra.util.ParticleEffect;
 import com.projectkorra.projectkorra.util.ParticleEffect.ParticleData;
 import com.projectkorra.rpg.RPGMethods;
 
 public abstract class FireAbility extends ElementalAbility {
 	
-	private static final Map<Location, Information> TEMP_FIRE = new ConcurrentHashMap<Location, Information>();
 	private static final Material[] IGNITABLE_MATERIALS = { Material.BEDROCK, Material.BOOKSHELF, Material.BRICK, Material.CLAY, Material.CLAY_BRICK,
 			Material.COAL_ORE, Material.COBBLESTONE, Material.DIAMOND_ORE, Material.DIAMOND_BLOCK, Material.DIRT,
 			Material.ENDER_STONE, Material.GLOWING_REDSTONE_ORE, Material.GOLD_BLOCK, Material.GRAVEL, Material.GRASS,
@@ -86,25 +78,11 @@ public abstract class FireAbility extends ElementalAbility {
 	/**
 	 * Creates a fire block meant to replace other blocks but reverts when the fire dissipates or is
 	 * destroyed.
+	 * 
+	 * @see FireTracker#createTempFire(Block)
 	 */
 	public static void createTempFire(Location loc) {
-		if (loc.getBlock().getType() == Material.AIR) {
-			loc.getBlock().setType(Material.FIRE);
-			return;
-		}
-		Information info = new Information();
-		long time = getConfig().getLong("Properties.Fire.RevertTicks") 
-				+ (long) ((new Random()).nextDouble() * getConfig().getLong("Properties.Fire.RevertTicks"));
-		if (TEMP_FIRE.containsKey(loc)) {
-			info = TEMP_FIRE.get(loc);
-		} else {
-			info.setBlock(loc.getBlock());
-			info.setLocation(loc);
-			info.setState(loc.getBlock().getState());
-		}
-		info.setTime(time + System.currentTimeMillis());
-		loc.getBlock().setType(Material.FIRE);
-		TEMP_FIRE.put(loc, info);
+		FireTracker.createTempFire(loc.getBlock());
 	}
 
 	public static double getDayFactor() {
@@ -160,9 +138,7 @@ public abstract class FireAbility extends ElementalAbility {
 	 */
 	@Deprecated
 	public static boolean isWithinFireShield(Location loc) {
-		List<String> list = new ArrayList<String>();
-		list.add("FireShield");
-		return GeneralMethods.blockAbilities(null, list, loc, 0);
+		return FireShield.isWithinShield(loc);
 	}
 
 	public static void playCombustionSound(Location loc) {
@@ -192,19 +168,13 @@ public abstract class FireAbility extends ElementalAbility {
 		GeneralMethods.displayColoredParticle(loc, "#01E1FF");
 	}
 
-	/** Removes all temp fire that no longer needs to be there */
+	/**
+	 * @deprecated Temp fire is reverted as it goes out. Use
+	 *             {@link FireTracker#removeExtinguished()}.
+	 */
+	@Deprecated
 	public static void removeFire() {
-		Iterator<Location> it = TEMP_FIRE.keySet().iterator();
-		while (it.hasNext()) {
-			Location loc = it.next();
-			Information info = TEMP_FIRE.get(loc);
-			if (info.getLocation().getBlock().getType() != Material.FIRE
-					&& info.getLocation().getBlock().getType() != Material.AIR) {
-				revertTempFire(loc);
-			} else if (info.getBlock().getType() == Material.AIR || System.currentTimeMillis() > info.getTime()) {
-				revertTempFire(loc);
-			}
-		}
+		FireTracker.removeExtinguished();
 	}
 
 	/**
@@ -212,29 +182,12 @@ public abstract class FireAbility extends ElementalAbility {
 	 * 
 	 * @param location The Location
 	 * */
-	@SuppressWarnings("deprecation")
 	public static void revertTempFire(Location location) {
-		if (!TEMP_FIRE.containsKey(location)) {
-			return;
-		}
-		Information info = TEMP_FIRE.get(location);
-		if (info.getLocation().getBlock().getType() != Material.FIRE && info.getLocation().getBlock().getType() != Material.AIR) {
-			if (info.getState().getType() == Material.RED_ROSE || info.getState().getType() == Material.YELLOW_FLOWER) {
-				ItemStack itemStack = new ItemStack(info.getState().getData().getItemType(), 1, info.getState().getRawData());
-				info.getState().getBlock().getWorld().dropItemNaturally(info.getLocation(), itemStack);
-			}
-		} else {
-			info.getBlock().setType(info.getState().getType());
-			info.getBlock().setData(info.getState().getRawData());
-		}
-		TEMP_FIRE.remove(location);
+		FireTracker.revertTempFire(location.getBlock());
 	}
 
 	public static void stopBending() {
-		BlazeArc.removeAllCleanup();
-		for (Location loc : TEMP_FIRE.keySet()) {
-			revertTempFire(loc);
-		}
+		FireTracker.removeAll();
 	}
 	
 }
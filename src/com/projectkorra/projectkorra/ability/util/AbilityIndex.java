@@ -0,0 +1,244 @@
+package com.projectkorra.projectkorra.ability.util;
+
+import com.projectkorra.projectkorra.ability.CoreAbility;
+import com.projectkorra.projectkorra.util.BlockKey;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A per world grid of ability locations used to answer questions such as
+ * "which AirShields could contain this point" or "which FireBlasts are near
+ * this point" without going through every instance of the ability. Each
+ * ability is indexed under every chunk column that its
+ * {@link CoreAbility#getCollisionRadius() collision radius}, plus a margin for
+ * movement, overlaps. Heights are ignored, so vertical shapes such as spouts
+ * are found from any point of their column.
+ * <p>
+ * An ability class is indexed from the first time it is queried. From then on
+ * {@link CoreAbility#progressAll()} updates its instances after they progress
+ * and {@link CoreAbility#remove()} takes them out. Queries only return
+ * candidates, so callers still do their own exact checks. Queries must use
+ * the concrete class of the ability, and everything in this class must be
+ * accessed from the main thread.
+ */
+public class AbilityIndex {
+
+	/**
+	 * How far, in blocks, an ability may move between being indexed and being
+	 * queried and still be found.
+	 */
+	private static final double MARGIN = 4;
+
+	private static final Set<Class<? extends CoreAbility>> TRACKED = new HashSet<Class<? extends CoreAbility>>();
+	private static final Map<CoreAbility, Entry> ENTRIES = new HashMap<CoreAbility, Entry>();
+	private static final Map<World, Map<Long, Set<CoreAbility>>> CELLS = new HashMap<World, Map<Long, Set<CoreAbility>>>();
+
+	/**
+	 * @param type The class of an ability
+	 * @return true if instances of the class are kept in the index
+	 */
+	public static boolean isTracked(Class<? extends CoreAbility> type) {
+		return TRACKED.contains(type);
+	}
+
+	/**
+	 * Indexes an ability at its current location, or removes it from the
+	 * index if it has been removed or has no location.
+	 *
+	 * @param ability The ability
+	 */
+	public static void refresh(CoreAbility ability) {
+		Location location = ability.isRemoved() ? null : ability.getLocation();
+		if (location == null || location.getWorld() == null) {
+			remove(ability);
+			return;
+		}
+		update(ability, location, ability.getCollisionRadius());
+	}
+
+	/**
+	 * Indexes an ability at a location.
+	 *
+	 * @param ability The ability
+	 * @param location The center of the ability
+	 * @param radius How far the ability reaches from its center
+	 */
+	public static void update(CoreAbility ability, Location location, double radius) {
+		double reach = Math.max(radius, 0) + MARGIN;
+		World world = location.getWorld();
+		int minX = floor(location.getX() - reach) >> 4;
+		int minZ = floor(location.getZ() - reach) >> 4;
+		int maxX = floor(location.getX() + reach) >> 4;
+		int maxZ = floor(location.getZ() + reach) >> 4;
+
+		Entry entry = ENTRIES.get(ability);
+		if (entry == null) {
+			entry = new Entry();
+			ENTRIES.put(ability, entry);
+		} else if (entry.world != world || entry.minX != minX || entry.minZ != minZ || entry.maxX != maxX || entry.maxZ != maxZ) {
+			unlink(ability, entry);
+		} else {
+			entry.set(location, radius);
+			return;
+		}
+
+		entry.world = world;
+		entry.minX = minX;
+		entry.minZ = minZ;
+		entry.maxX = maxX;
+		entry.maxZ = maxZ;
+		entry.set(location, radius);
+
+		Map<Long, Set<CoreAbility>> cells = CELLS.get(world);
+		if (cells == null) {
+			cells = new HashMap<Long, Set<CoreAbility>>();
+			CELLS.put(world, cells);
+		}
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				long key = BlockKey.chunk(x, z);
+				Set<CoreAbility> cell = cells.get(key);
+				if (cell == null) {
+					cell = new HashSet<CoreAbility>();
+					cells.put(key, cell);
+				}
+				cell.add(ability);
+			}
+		}
+	}
+
+	public static void remove(CoreAbility ability) {
+		Entry entry = ENTRIES.remove(ability);
+		if (entry != null) {
+			unlink(ability, entry);
+		}
+	}
+
+	/**
+	 * Finds the abilities of a type that may be within a distance of a point,
+	 * measured from the edge of their collision radius.
+	 *
+	 * @param point The point
+	 * @param radius The distance from the point
+	 * @param type The concrete class of the abilities
+	 * @return The candidates, which the caller may modify
+	 */
+	public static <T extends CoreAbility> List<T> getNear(Location point, double radius, Class<T> type) {
+		track(type);
+		Map<Long, Set<CoreAbility>> cells = CELLS.get(point.getWorld());
+		if (cells == null) {
+			return new ArrayList<T>();
+		}
+
+		double x = point.getX();
+		double z = point.getZ();
+		int minX = floor(x - radius) >> 4;
+		int minZ = floor(z - radius) >> 4;
+		int maxX = floor(x + radius) >> 4;
+		int maxZ = floor(z + radius) >> 4;
+
+		Set<T> found = new LinkedHashSet<T>();
+		for (int cx = minX; cx <= maxX; cx++) {
+			for (int cz = minZ; cz <= maxZ; cz++) {
+				Set<CoreAbility> cell = cells.get(BlockKey.chunk(cx, cz));
+				if (cell == null) {
+					continue;
+				}
+				for (CoreAbility ability : cell) {
+					if (ability.getClass() != type) {
+						continue;
+					}
+					Entry entry = ENTRIES.get(ability);
+					double reach = radius + entry.radius + MARGIN;
+					double dx = entry.x - x;
+					double dz = entry.z - z;
+					if (dx * dx + dz * dz <= reach * reach) {
+						found.add(type.cast(ability));
+					}
+				}
+			}
+		}
+		return new ArrayList<T>(found);
+	}
+
+	/**
+	 * Finds the abilities of a type whose collision radius may contain a
+	 * point, such as the shields that may be protecting it.
+	 *
+	 * @param point The point
+	 * @param type The concrete class of the abilities
+	 * @return The candidates, which the caller may modify
+	 */
+	public static <T extends CoreAbility> List<T> getContaining(Location point, Class<T> type) {
+		return getNear(point, 0, type);
+	}
+
+	public static Set<Class<? extends CoreAbility>> getTracked() {
+		return Collections.unmodifiableSet(TRACKED);
+	}
+
+	public static int getEntryCount() {
+		return ENTRIES.size();
+	}
+
+	private static void track(Class<? extends CoreAbility> type) {
+		if (TRACKED.add(type)) {
+			for (CoreAbility ability : CoreAbility.getAbilities(type)) {
+				refresh(ability);
+			}
+		}
+	}
+
+	private static void unlink(CoreAbility ability, Entry entry) {
+		Map<Long, Set<CoreAbility>> cells = CELLS.get(entry.world);
+		if (cells == null) {
+			return;
+		}
+		for (int x = entry.minX; x <= entry.maxX; x++) {
+			for (int z = entry.minZ; z <= entry.maxZ; z++) {
+				long key = BlockKey.chunk(x, z);
+				Set<CoreAbility> cell = cells.get(key);
+				if (cell != null && cell.remove(ability) && cell.isEmpty()) {
+					cells.remove(key);
+				}
+			}
+		}
+		if (cells.isEmpty()) {
+			CELLS.remove(entry.world);
+		}
+	}
+
+	private static int floor(double value) {
+		int floor = (int) value;
+		return value < floor ? floor - 1 : floor;
+	}
+
+	private static class Entry {
+
+		private World world;
+		private double x;
+		private double z;
+		private double radius;
+		private int minX;
+		private int minZ;
+		private int maxX;
+		private int maxZ;
+
+		private void set(Location location, double radius) {
+			this.x = location.getX();
+			this.z = location.getZ();
+			this.radius = Math.max(radius, 0);
+		}
+	}
+
+}
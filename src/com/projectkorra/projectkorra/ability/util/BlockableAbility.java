@@ -0,0 +1,177 @@
+package com.projectkorra.projectkorra.ability.util;
+
+import com.projectkorra.projectkorra.GeneralMethods;
+import com.projectkorra.projectkorra.airbending.AirBlast;
+import com.projectkorra.projectkorra.airbending.AirShield;
+import com.projectkorra.projectkorra.airbending.AirSpout;
+import com.projectkorra.projectkorra.airbending.AirSuction;
+import com.projectkorra.projectkorra.airbending.AirSwipe;
+import com.projectkorra.projectkorra.airbending.combo.AirCombo;
+import com.projectkorra.projectkorra.earthbending.EarthBlast;
+import com.projectkorra.projectkorra.firebending.FireBlast;
+import com.projectkorra.projectkorra.firebending.FireShield;
+import com.projectkorra.projectkorra.firebending.combo.FireCombo;
+import com.projectkorra.projectkorra.firebending.combustion.Combustion;
+import com.projectkorra.projectkorra.waterbending.WaterManipulation;
+import com.projectkorra.projectkorra.waterbending.WaterSpout;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The abilities that can be checked by
+ * {@link GeneralMethods#blockAbilities(Player, java.util.Collection, Location, double)}.
+ * Instances of the abilities near the point are removed, except for the
+ * shields, which only report whether they contain the point.
+ * <p>
+ * This was used for the old collision detection system. Please see
+ * {@link Collision} for the new system.
+ */
+public enum BlockableAbility {
+
+	FIREBLAST("FireBlast") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return FireBlast.annihilateBlasts(location, radius, player);
+		}
+	},
+	EARTHBLAST("EarthBlast") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return EarthBlast.annihilateBlasts(location, radius, player);
+		}
+	},
+	WATERMANIPULATION("WaterManipulation") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return WaterManipulation.annihilateBlasts(location, radius, player);
+		}
+	},
+	AIRSWIPE("AirSwipe") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirSwipe.removeSwipesAroundPoint(location, radius);
+		}
+	},
+	AIRBLAST("AirBlast") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirBlast.removeAirBlastsAroundPoint(location, radius);
+		}
+	},
+	AIRSUCTION("AirSuction") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirSuction.removeAirSuctionsAroundPoint(location, radius);
+		}
+	},
+	COMBUSTION("Combustion") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return Combustion.removeAroundPoint(location, radius);
+		}
+	},
+	FIRESHIELD("FireShield") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return FireShield.isWithinShield(location);
+		}
+	},
+	AIRSHIELD("AirShield") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirShield.isWithinShield(location);
+		}
+	},
+	WATERSPOUT("WaterSpout") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return WaterSpout.removeSpouts(location, radius, player);
+		}
+	},
+	AIRSPOUT("AirSpout") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirSpout.removeSpouts(location, radius, player);
+		}
+	},
+	TWISTER("Twister") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirCombo.removeAroundPoint(player, getName(), location, radius);
+		}
+	},
+	AIRSTREAM("AirStream") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirCombo.removeAroundPoint(player, getName(), location, radius);
+		}
+	},
+	AIRSWEEP("AirSweep") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return AirCombo.removeAroundPoint(player, getName(), location, radius);
+		}
+	},
+	FIREKICK("FireKick") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return FireCombo.removeAroundPoint(player, getName(), location, radius);
+		}
+	},
+	FIRESPIN("FireSpin") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return FireCombo.removeAroundPoint(player, getName(), location, radius);
+		}
+	},
+	FIREWHEEL("FireWheel") {
+		@Override
+		public boolean block(Player player, Location location, double radius) {
+			return FireCombo.removeAroundPoint(player, getName(), location, radius);
+		}
+	};
+
+	private static final Map<String, BlockableAbility> BY_NAME = new HashMap<String, BlockableAbility>();
+
+	static {
+		for (BlockableAbility ability : values()) {
+			BY_NAME.put(ability.name.toLowerCase(Locale.ENGLISH), ability);
+		}
+	}
+
+	private final String name;
+
+	private BlockableAbility(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Removes the instances of this ability near a point, or checks whether
+	 * a shield contains it.
+	 *
+	 * @param player The player doing the blocking, whose own instances are
+	 *            left alone where the ability supports it
+	 * @param location The point
+	 * @param radius The distance from the point
+	 * @return true if an instance was removed or a shield contains the point
+	 */
+	public abstract boolean block(Player player, Location location, double radius);
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @param name The name of an ability, ignoring case
+	 * @return The ability, or null if it cannot be blocked
+	 */
+	public static BlockableAbility getByName(String name) {
+		return name != null ? BY_NAME.get(name.toLowerCase(Locale.ENGLISH)) : null;
+	}
+
+}
@@ -13,6 +13,7 @@ import org.bukkit.scheduler.BukkitRunnable;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.event.AbilityCollisionEvent;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 /**
  * A CollisionManager is used to monitor possible collisions between all
@@ -192,7 +193,9 @@ public class CollisionManager {
 		detectionRunnable = new BukkitRunnable() {
 			@Override
 			public void run() {
+				long start = TickProfiler.start();
 				detectCollisions();
+				TickProfiler.record("CollisionManager", start);
 			}
 		};
 		detectionRunnable.runTaskTimer(ProjectKorra.plugin, 0L, detectionDelay);
@@ -5,6 +5,7 @@ import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.event.BindChangeEvent;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -24,6 +25,12 @@ public class MultiAbilityManager {
 	public static Map<Player, String> playerBoundAbility = new ConcurrentHashMap<>();
 	public static ArrayList<MultiAbilityInfo> multiAbilityList = new ArrayList<MultiAbilityInfo>();
 
+	static {
+		EntityLifecycle.register("MultiAbilityManager.playerAbilities", playerAbilities);
+		EntityLifecycle.register("MultiAbilityManager.playerSlot", playerSlot);
+		EntityLifecycle.register("MultiAbilityManager.playerBoundAbility", playerBoundAbility);
+	}
+
 	public MultiAbilityManager() {
 		ArrayList<MultiAbilityInfoSub> waterArms = new ArrayList<MultiAbilityInfoSub>();
 		waterArms.add(new MultiAbilityInfoSub("Pull", Element.WATER));
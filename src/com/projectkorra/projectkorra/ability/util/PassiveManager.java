@@ -2,67 +2,121 @@ package com.projectkorra.projectkorra.ability.util;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.ability.PassiveAbility;
+import com.projectkorra.projectkorra.event.AbilityProgressEvent;
 
 public class PassiveManager {
 
 	private static final Map<String, CoreAbility> PASSIVES = new HashMap<>();
 	private static final Map<Element, Set<String>> PASSIVES_BY_ELEMENT = new HashMap<>(); // Parent elements INCLUDE subelement passives.
+	private static final Map<Class<? extends CoreAbility>, Constructor<? extends CoreAbility>> CONSTRUCTORS = new HashMap<>();
+	private static final Map<BendingPlayer, Boolean> CHECKS = new HashMap<>(); // Element independent passive checks for the current tick.
 
 	public static void registerPassives(Player player) {
 		BendingPlayer bPlayer = BendingPlayer.getBendingPlayer(player);
 		if (bPlayer == null) {
 			return;
 		}
-		for (CoreAbility ability : CoreAbility.getAbilities()) {
-			if (ability instanceof PassiveAbility) {
-				if (!ability.isEnabled()) {
-					continue;
-				} else if (!bPlayer.canBendPassive(ability.getElement())) {
-					continue;
-				} else if (CoreAbility.hasAbility(player, ability.getClass())) {
-					continue;
-					/*
-					 * Passive's such as not taking fall damage are managed in
-					 * PKListener, so we do not want to create instances of them
-					 * here. This just enables the passive to be displayed in /b
-					 * d [element]passive
-					 */
-				} else if (!((PassiveAbility) ability).isInstantiable()) {
-					continue;
-				}
-				Class<?> clazz = null;
-				try {
-					clazz = Class.forName(ability.getClass().getName());
-				} catch (ClassNotFoundException e) {
-					e.printStackTrace();
-				}
-				Constructor<?> constructor = null;
-				try {
-					constructor = clazz.getConstructor(Player.class);
-				} catch (NoSuchMethodException | SecurityException e) {
-					e.printStackTrace();
-				}
-				Object object = null;
-				try {
-					object = constructor.newInstance(new Object[] { player });
-				} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-						| InvocationTargetException e) {
-					e.printStackTrace();
-				}
-				((CoreAbility) object).start();
+		for (CoreAbility ability : PASSIVES.values()) {
+			if (!ability.isEnabled()) {
+				continue;
+			} else if (!bPlayer.canBendPassive(ability.getElement())) {
+				continue;
+			} else if (CoreAbility.hasAbility(player, ability.getClass())) {
+				continue;
+				/*
+				 * Passive's such as not taking fall damage are managed in
+				 * PKListener, so we do not want to create instances of them
+				 * here. This just enables the passive to be displayed in /b
+				 * d [element]passive
+				 */
+			} else if (!((PassiveAbility) ability).isInstantiable()) {
+				continue;
 			}
+			Constructor<? extends CoreAbility> constructor = getConstructor(ability.getClass());
+			if (constructor == null) {
+				continue;
+			}
+			try {
+				constructor.newInstance(player).start();
+			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+					| InvocationTargetException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Progresses every instance of a single passive type. Instances whose
+	 * player went offline or can no longer use the passive are removed. The
+	 * checks that do not depend on the element are done once per player per
+	 * tick and shared between all of the player's passives.
+	 * 
+	 * @param passives The started instances of one passive type
+	 */
+	public static void progressPassives(Collection<CoreAbility> passives) {
+		for (CoreAbility passive : passives) {
+			BendingPlayer bPlayer = passive.getBendingPlayer();
+			if (bPlayer == null || !passive.getPlayer().isOnline()) {
+				passive.remove();
+				continue;
+			} else if (!canBendPassive(bPlayer, passive.getElement())) {
+				passive.remove();
+				continue;
+			}
+			passive.progress();
+			Bukkit.getServer().getPluginManager().callEvent(new AbilityProgressEvent(passive));
+		}
+	}
+
+	/**
+	 * Forgets the passive checks made during the previous tick. Called before
+	 * any passive is progressed.
+	 */
+	public static void clearChecks() {
+		CHECKS.clear();
+	}
+
+	private static boolean canBendPassive(BendingPlayer bPlayer, Element element) {
+		if (!bPlayer.canBendPassiveElement(element)) {
+			return false;
+		}
+		Boolean canUse = CHECKS.get(bPlayer);
+		if (canUse == null) {
+			canUse = bPlayer.canUsePassives();
+			CHECKS.put(bPlayer, canUse);
+		}
+		return canUse;
+	}
+
+	/**
+	 * Looks up the player constructor of a passive once and reuses it for
+	 * every player afterwards.
+	 */
+	private static Constructor<? extends CoreAbility> getConstructor(Class<? extends CoreAbility> clazz) {
+		if (CONSTRUCTORS.containsKey(clazz)) {
+			return CONSTRUCTORS.get(clazz);
+		}
+		Constructor<? extends CoreAbility> constructor = null;
+		try {
+			constructor = clazz.getConstructor(Player.class);
+		} catch (NoSuchMethodException | SecurityException e) {
+			e.printStackTrace();
 		}
+		CONSTRUCTORS.put(clazz, constructor);
+		return constructor;
 	}
 
 	public static Set<String> getPassivesForElement(Element element) {
@@ -26,10 +26,12 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.CoreAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.command.Commands;
 import com.projectkorra.projectkorra.object.HorizontalVelocityTracker;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.Flight;
 
 public class AirBlast extends AirAbility {
@@ -37,6 +39,10 @@ public class AirBlast extends AirAbility {
 	private static final int MAX_TICKS = 10000;
 	private static final Map<Player, Location> ORIGINS = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.register("AirBlast.ORIGINS", ORIGINS);
+	}
+
 	private boolean canFlickLevers;
 	private boolean canOpenDoors;
 	private boolean canPressButtons;
@@ -431,13 +437,13 @@ public class AirBlast extends AirAbility {
 	@Deprecated
 	public static boolean removeAirBlastsAroundPoint(Location location, double radius) {
 		boolean removed = false;
-		for (AirBlast airBlast : getAbilities(AirBlast.class)) {
+		for (AirBlast airBlast : AbilityIndex.getNear(location, radius, AirBlast.class)) {
 			Location airBlastlocation = airBlast.location;
 			if (location.getWorld() == airBlastlocation.getWorld()) {
 				if (location.distanceSquared(airBlastlocation) <= radius * radius) {
 					airBlast.remove();
+					removed = true;
 				}
-				removed = true;
 			}
 		}
 		return removed;
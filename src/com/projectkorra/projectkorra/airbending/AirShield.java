@@ -14,9 +14,11 @@ import org.bukkit.util.Vector;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.AirAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.command.Commands;
+import com.projectkorra.projectkorra.util.TrigTable;
 
 public class AirShield extends AirAbility {
 
@@ -65,9 +67,9 @@ public class AirShield extends AirAbility {
 	 */
 	@Deprecated
 	public static boolean isWithinShield(Location loc) {
-		for (AirShield ashield : getAbilities(AirShield.class)) {
+		for (AirShield ashield : AbilityIndex.getContaining(loc, AirShield.class)) {
 			if (!ashield.player.getWorld().equals(loc.getWorld())) {
-				return false;
+				continue;
 			} else if (ashield.player.getLocation().distanceSquared(loc) <= ashield.radius * ashield.radius) {
 				return true;
 			}
@@ -101,16 +103,15 @@ public class AirShield extends AirAbility {
 			}
 			if (origin.distanceSquared(entity.getLocation()) > 4) {
 				double x, z, vx, vz, mag;
-				double angle = 50;
-				angle = Math.toRadians(angle);
+				int angle = 50;
 
 				x = entity.getLocation().getX() - origin.getX();
 				z = entity.getLocation().getZ() - origin.getZ();
 
 				mag = Math.sqrt(x * x + z * z);
 
-				vx = (x * Math.cos(angle) - z * Math.sin(angle)) / mag;
-				vz = (x * Math.sin(angle) + z * Math.cos(angle)) / mag;
+				vx = (x * TrigTable.cos(angle) - z * TrigTable.sin(angle)) / mag;
+				vz = (x * TrigTable.sin(angle) + z * TrigTable.cos(angle)) / mag;
 
 				Vector velocity = entity.getVelocity();
 				if (bPlayer.isAvatarState()) {
@@ -141,18 +142,20 @@ public class AirShield extends AirAbility {
 		}
 
 		Set<Integer> keys = angles.keySet();
+		Location effect = new Location(origin.getWorld(), 0, 0, 0);
 		for (int i : keys) {
 			double x, y, z;
 			double factor = radius / maxRadius;
-			double angle = (double) angles.get(i);
-			angle = Math.toRadians(angle);
+			int angle = angles.get(i);
 			y = origin.getY() + factor * (double) i;
 			double f = Math.sqrt(1 - factor * factor * ((double) i / radius) * ((double) i / radius));
 
-			x = origin.getX() + radius * Math.cos(angle) * f;
-			z = origin.getZ() + radius * Math.sin(angle) * f;
+			x = origin.getX() + radius * TrigTable.cos(angle) * f;
+			z = origin.getZ() + radius * TrigTable.sin(angle) * f;
 
-			Location effect = new Location(origin.getWorld(), x, y, z);
+			effect.setX(x);
+			effect.setY(y);
+			effect.setZ(z);
 			if (!GeneralMethods.isRegionProtectedFromBuild(this, effect)) {
 				playAirbendingParticles(effect, particles);
 				if (random.nextInt(4) == 0) {
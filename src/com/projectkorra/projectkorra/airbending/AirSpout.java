@@ -11,6 +11,7 @@ import org.bukkit.entity.Player;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.AirAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.util.Flight;
 
@@ -66,7 +67,7 @@ public class AirSpout extends AirAbility {
 	@Deprecated
 	public static boolean removeSpouts(Location loc0, double radius, Player sourceplayer) {
 		boolean removed = false;
-		for (AirSpout spout : getAbilities(AirSpout.class)) {
+		for (AirSpout spout : AbilityIndex.getNear(loc0, radius, AirSpout.class)) {
 			if (!spout.player.equals(sourceplayer)) {
 				Location loc1 = spout.player.getLocation().getBlock().getLocation();
 				loc0 = loc0.getBlock().getLocation();
@@ -14,9 +14,11 @@ import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.AirAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.command.Commands;
 import com.projectkorra.projectkorra.object.HorizontalVelocityTracker;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.Flight;
 import com.projectkorra.projectkorra.waterbending.WaterSpout;
 
@@ -25,6 +27,10 @@ public class AirSuction extends AirAbility {
 	private static final int MAX_TICKS = 10000;
 	private static final Map<Player, Location> ORIGINS = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.register("AirSuction.ORIGINS", ORIGINS);
+	}
+
 	private boolean hasOtherOrigin;
 	private int ticks;
 	private int particleCount;
@@ -221,13 +227,13 @@ public class AirSuction extends AirAbility {
 	@Deprecated
 	public static boolean removeAirSuctionsAroundPoint(Location location, double radius) {
 		boolean removed = false;
-		for (AirSuction airSuction : getAbilities(AirSuction.class)) {
+		for (AirSuction airSuction : AbilityIndex.getNear(location, radius, AirSuction.class)) {
 			Location airSuctionlocation = airSuction.location;
 			if (location.getWorld() == airSuctionlocation.getWorld()) {
 				if (location.distanceSquared(airSuctionlocation) <= radius * radius) {
 					airSuction.remove();
+					removed = true;
 				}
-				removed = true;
 			}
 		}
 		return removed;
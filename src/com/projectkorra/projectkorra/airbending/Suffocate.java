@@ -15,6 +15,8 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.StatusRegistry;
+import com.projectkorra.projectkorra.util.StatusRegistry.Status;
 
 /**
  * Suffocate
@@ -187,6 +189,9 @@ public class Suffocate extends AirAbility {
 			return;
 		} else if (!started) {
 			started = true;
+			for (LivingEntity target : targets) {
+				StatusRegistry.add(target, Status.BREATHBENT);
+			}
 			for (LivingEntity targ : targets) {
 				final LivingEntity target = targ;
 				BukkitRunnable br1 = new BukkitRunnable() {
@@ -235,12 +240,7 @@ public class Suffocate extends AirAbility {
 
 	/** Checks if an entity is being suffocated **/
 	public static boolean isBreathbent(Entity entity) {
-		for (Suffocate suffocate : getAbilities(Suffocate.class)) {
-			if (suffocate.targets.contains(entity)) {
-				return suffocate.started;
-			}
-		}
-		return false;
+		return StatusRegistry.has(entity, Status.BREATHBENT);
 	}
 
 	/** Determines if a player is Suffocating entities **/
@@ -323,15 +323,33 @@ public class Suffocate extends AirAbility {
 
 	/** Stops an entity from being suffocated **/
 	public void breakSuffocateLocal(Entity entity) {
-		if (targets.contains(entity)) {
-			targets.remove(entity);
+		if (targets.remove(entity) && started) {
+			release(entity);
+		}
+	}
+
+	/**
+	 * Clears the breathbent status of an entity that is no longer suffocated
+	 * by this instance, unless another instance is still suffocating it.
+	 */
+	private void release(Entity entity) {
+		for (Suffocate suffocate : getAbilities(Suffocate.class)) {
+			if (suffocate != this && suffocate.started && suffocate.targets.contains(entity)) {
+				return;
+			}
 		}
+		StatusRegistry.remove(entity, Status.BREATHBENT);
 	}
 
 	/** Removes this instance of the ability **/
 	@Override
 	public void remove() {
 		super.remove();
+		if (started) {
+			for (LivingEntity target : targets) {
+				release(target);
+			}
+		}
 		for (int i = 0; i < tasks.size(); i++) {
 			tasks.get(i).cancel();
 			tasks.remove(i);
@@ -4,6 +4,7 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.command.Commands;
 import com.projectkorra.projectkorra.util.Flight;
+import com.projectkorra.projectkorra.util.TrigTable;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -104,17 +105,16 @@ public class Tornado extends AirAbility {
 					Location testloc = new Location(origin.getWorld(), origin.getX(), y, origin.getZ());
 					if (testloc.getWorld().equals(entity.getWorld()) && testloc.distance(entity.getLocation()) < currentRadius * factor) {
 						double x, z, vx, vz, mag;
-						double angle = 100;
+						int angle = 100;
 						double vy = 0.7 * npcPushFactor;
-						angle = Math.toRadians(angle);
 
 						x = entity.getLocation().getX() - origin.getX();
 						z = entity.getLocation().getZ() - origin.getZ();
 
 						mag = Math.sqrt(x * x + z * z);
 
-						vx = (x * Math.cos(angle) - z * Math.sin(angle)) / mag;
-						vz = (x * Math.sin(angle) + z * Math.cos(angle)) / mag;
+						vx = (x * TrigTable.cos(angle) - z * TrigTable.sin(angle)) / mag;
+						vz = (x * TrigTable.sin(angle) + z * TrigTable.cos(angle)) / mag;
 
 						if (entity instanceof Player) {
 							vy = 0.05 * playerPushFactor;
@@ -161,18 +161,20 @@ public class Tornado extends AirAbility {
 				}
 			}
 
+			Location effect = new Location(origin.getWorld(), 0, 0, 0);
 			for (int i : angles.keySet()) {
 				double x, y, z, factor;
-				double angle = (double) angles.get(i);
-				angle = Math.toRadians(angle);
+				int angle = angles.get(i);
 
 				y = origin.getY() + timefactor * (double) i;
 				factor = (double) i / currentHeight;
 
-				x = origin.getX() + timefactor * factor * currentRadius * Math.cos(angle);
-				z = origin.getZ() + timefactor * factor * currentRadius * Math.sin(angle);
+				x = origin.getX() + timefactor * factor * currentRadius * TrigTable.cos(angle);
+				z = origin.getZ() + timefactor * factor * currentRadius * TrigTable.sin(angle);
 
-				Location effect = new Location(origin.getWorld(), x, y, z);
+				effect.setX(x);
+				effect.setY(y);
+				effect.setZ(z);
 				if (!GeneralMethods.isRegionProtectedFromBuild(this, effect)) {
 					playAirbendingParticles(effect, particleCount);
 					if (random.nextInt(20) == 0) {
@@ -13,6 +13,8 @@ import com.projectkorra.projectkorra.ability.FlightAbility;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.object.PlayerFlyData;
 import com.projectkorra.projectkorra.util.Flight;
+import com.projectkorra.projectkorra.util.StatusRegistry;
+import com.projectkorra.projectkorra.util.StatusRegistry.Status;
 
 public class AirFlight extends FlightAbility {
 	
@@ -40,6 +42,9 @@ public class AirFlight extends FlightAbility {
 		this.firstProgressIteration = true;
 		hoverY = player.getLocation().getBlockY();
 		start();
+		if (isStarted()) {
+			StatusRegistry.add(player, Status.FLYING);
+		}
 	}
 
 	public static void addHit(Player player) {
@@ -57,7 +62,7 @@ public class AirFlight extends FlightAbility {
 	}
 
 	public static boolean isFlying(Player player) {
-		return hasAbility(player, AirFlight.class);
+		return StatusRegistry.has(player, Status.FLYING);
 	}
 
 	public static boolean isHovering(Player player) {
@@ -145,6 +150,7 @@ public class AirFlight extends FlightAbility {
 	@Override
 	public void remove() {
 		super.remove();
+		StatusRegistry.remove(player, Status.FLYING);
 		HITS.remove(player.getName());
 		HOVERING.remove(player.getName());
 		if (flight != null) {
@@ -2,22 +2,18 @@ package com.projectkorra.projectkorra.airbending.passive;
 
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.PassiveAbility;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.PotionLeases;
 
 public class AirAgilityPassive extends AirAbility implements PassiveAbility {
 	
 	// Configurable variables
 	private int jumpPower;
 	private int speedPower;
-	
-	// Instance related variables
-	private boolean jumpActivate;
-	private boolean speedActivate;
 
 	public AirAgilityPassive(Player player) {
 		super(player);
@@ -32,37 +28,18 @@ public class AirAgilityPassive extends AirAbility implements PassiveAbility {
 	@Override
 	public void progress() {
 		if (!player.isSprinting()) {
+			PotionLeases.release(player, this);
 			return;
 		}
 		
 		// Jump Buff
-		jumpActivate = true;
-		if (player.hasPotionEffect(PotionEffectType.JUMP)) {
-			for (PotionEffect potion : player.getActivePotionEffects()) {
-				if (potion.getType() == PotionEffectType.JUMP) {
-					if (potion.getAmplifier() > jumpPower - 1) {
-						jumpActivate = false;
-					}
-				}
-			}
-		}
-		if (jumpActivate) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.JUMP, 20, jumpPower - 1, true, false), false);
+		if (jumpPower > 0) {
+			PotionLeases.lease(player, this, PotionEffectType.JUMP, jumpPower - 1, true, false);
 		}
 
 		// Speed Buff
-		speedActivate = true;
-		if (player.hasPotionEffect(PotionEffectType.SPEED)) {
-			for (PotionEffect potion : player.getActivePotionEffects()) {
-				if (potion.getType() == PotionEffectType.SPEED) {
-					if (potion.getAmplifier() > speedPower - 1) {
-						speedActivate = false;
-					}
-				}
-			}
-		}
-		if (speedActivate) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 20, speedPower - 1, true, false), false);
+		if (speedPower > 0) {
+			PotionLeases.lease(player, this, PotionEffectType.SPEED, speedPower - 1, true, false);
 		}
 	}
 
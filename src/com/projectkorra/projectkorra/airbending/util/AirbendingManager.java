@@ -4,6 +4,7 @@ import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.airbending.AirBlast;
 import com.projectkorra.projectkorra.airbending.AirBubble;
 import com.projectkorra.projectkorra.airbending.AirSuction;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 public class AirbendingManager implements Runnable {
 
@@ -15,9 +16,14 @@ public class AirbendingManager implements Runnable {
 
 	@Override
 	public void run() {
-		AirBlast.progressOrigins();
-		AirBubble.handleBubbles();
-		AirSuction.progressOrigins();
+		long start = TickProfiler.start();
+		try {
+			AirBlast.progressOrigins();
+			AirBubble.handleBubbles();
+			AirSuction.progressOrigins();
+		} finally {
+			TickProfiler.record(AirbendingManager.class, start);
+		}
 	}
 
 }
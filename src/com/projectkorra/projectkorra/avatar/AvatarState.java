@@ -3,11 +3,11 @@ package com.projectkorra.projectkorra.avatar;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.AvatarAbility;
 import com.projectkorra.projectkorra.util.Flight;
+import com.projectkorra.projectkorra.util.PotionLeases;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import java.util.HashMap;
@@ -97,18 +97,17 @@ public class AvatarState extends AvatarAbility {
 	}
 
 	private void addPotionEffects() {
-		int duration = 70;
 		if (regenEnabled) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.REGENERATION, duration, regenPower));
+			PotionLeases.lease(player, this, PotionEffectType.REGENERATION, regenPower);
 		}
 		if (speedEnabled) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, duration, speedPower));
+			PotionLeases.lease(player, this, PotionEffectType.SPEED, speedPower);
 		}
 		if (resistanceEnabled) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.DAMAGE_RESISTANCE, duration, resistancePower));
+			PotionLeases.lease(player, this, PotionEffectType.DAMAGE_RESISTANCE, resistancePower);
 		}
 		if (fireResistanceEnabled) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.FIRE_RESISTANCE, duration, fireResistancePower));
+			PotionLeases.lease(player, this, PotionEffectType.FIRE_RESISTANCE, fireResistancePower);
 		}
 	}
 
@@ -3,12 +3,12 @@ package com.projectkorra.projectkorra.chiblocking;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.ChiAbility;
+import com.projectkorra.projectkorra.util.PotionLeases;
 
 public class AcrobatStance extends ChiAbility {
 	
@@ -51,12 +51,8 @@ public class AcrobatStance extends ChiAbility {
 			return;
 		}
 		
-		if (!player.hasPotionEffect(PotionEffectType.SPEED)) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 60, speed, true));
-		}
-		if (!player.hasPotionEffect(PotionEffectType.JUMP)) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.JUMP, 60, jump, true));
-		}
+		PotionLeases.lease(player, this, PotionEffectType.SPEED, speed, true, true);
+		PotionLeases.lease(player, this, PotionEffectType.JUMP, jump, true, true);
 	}
 	
 	@Override
@@ -65,8 +61,6 @@ public class AcrobatStance extends ChiAbility {
 		bPlayer.setStance(null);
 		GeneralMethods.displayMovePreview(player, this);
 		player.playSound(player.getLocation(), Sound.ENTITY_ENDERDRAGON_SHOOT, 0.5F, 2F);
-		player.removePotionEffect(PotionEffectType.SPEED);
-		player.removePotionEffect(PotionEffectType.JUMP);
 	}
 	
 	@Override
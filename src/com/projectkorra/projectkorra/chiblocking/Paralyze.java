@@ -12,11 +12,18 @@ import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.ability.ChiAbility;
 import com.projectkorra.projectkorra.airbending.Suffocate;
 import com.projectkorra.projectkorra.command.Commands;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
+import com.projectkorra.projectkorra.util.StatusRegistry;
+import com.projectkorra.projectkorra.util.StatusRegistry.Status;
 
 public class Paralyze extends ChiAbility {
 
 	private static final Map<Entity, Long> ENTITIES = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.register("Paralyze.ENTITIES", ENTITIES);
+	}
+
 	private long cooldown;
 	private Entity target;
 
@@ -48,6 +55,7 @@ public class Paralyze extends ChiAbility {
 
 	private static void paralyze(Entity entity) {
 		ENTITIES.put(entity, System.currentTimeMillis());
+		StatusRegistry.add(entity, Status.PARALYZED, getDuration());
 		if (entity instanceof Creature) {
 			((Creature) entity).setTarget(null);
 		}
@@ -61,19 +69,17 @@ public class Paralyze extends ChiAbility {
 
 	//TODO change paralyze to use Spigot metadata rather than checking this class
 	public static boolean isParalyzed(Entity entity) {
+		if (!StatusRegistry.has(entity, Status.PARALYZED)) {
+			ENTITIES.remove(entity);
+			return false;
+		}
 		if (entity instanceof Player) {
 			BendingPlayer bPlayer = BendingPlayer.getBendingPlayer((Player) entity);
 			if (bPlayer != null && bPlayer.isAvatarState()) {
 				return false;
 			}
 		}
-		if (ENTITIES.containsKey(entity)) {
-			if (System.currentTimeMillis() < ENTITIES.get(entity) + getDuration()) {
-				return true;
-			}
-			ENTITIES.remove(entity);
-		}
-		return false;
+		return true;
 
 	}
 
@@ -3,6 +3,7 @@ package com.projectkorra.projectkorra.chiblocking;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.ChiAbility;
 import com.projectkorra.projectkorra.command.Commands;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 
 import org.bukkit.Effect;
 import org.bukkit.Location;
@@ -21,6 +22,11 @@ public class Smokescreen extends ChiAbility {
 	private static final Map<String, Long> BLINDED_TIMES = new ConcurrentHashMap<>();
 	private static final Map<String, Smokescreen> BLINDED_TO_ABILITY = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.registerByName("Smokescreen.BLINDED_TIMES", BLINDED_TIMES);
+		EntityLifecycle.registerByName("Smokescreen.BLINDED_TO_ABILITY", BLINDED_TO_ABILITY);
+	}
+
 	private int duration;
 	private long cooldown;
 	private double radius;
@@ -3,12 +3,12 @@ package com.projectkorra.projectkorra.chiblocking;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.ChiAbility;
+import com.projectkorra.projectkorra.util.PotionLeases;
 
 public class WarriorStance extends ChiAbility {
 
@@ -46,12 +46,8 @@ public class WarriorStance extends ChiAbility {
 			return;
 		}
 		
-		if (!player.hasPotionEffect(PotionEffectType.DAMAGE_RESISTANCE)) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.DAMAGE_RESISTANCE, 60, resistance, true));
-		}
-		if (!player.hasPotionEffect(PotionEffectType.INCREASE_DAMAGE)) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.INCREASE_DAMAGE, 60, strength, true));
-		}
+		PotionLeases.lease(player, this, PotionEffectType.DAMAGE_RESISTANCE, resistance, true, true);
+		PotionLeases.lease(player, this, PotionEffectType.INCREASE_DAMAGE, strength, true, true);
 	}
 	
 	@Override
@@ -60,8 +56,6 @@ public class WarriorStance extends ChiAbility {
 		bPlayer.setStance(null);
 		GeneralMethods.displayMovePreview(player, this);
 		player.playSound(player.getLocation(), Sound.ENTITY_ENDERDRAGON_SHOOT, 0.5F, 2F);
-		player.removePotionEffect(PotionEffectType.DAMAGE_RESISTANCE);
-		player.removePotionEffect(PotionEffectType.INCREASE_DAMAGE);
 	}
 	
 	@Override
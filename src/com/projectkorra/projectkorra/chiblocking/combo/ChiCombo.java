@@ -4,6 +4,9 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.ChiAbility;
 import com.projectkorra.projectkorra.ability.ComboAbility;
 import com.projectkorra.projectkorra.ability.util.ComboManager.AbilityInformation;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
+import com.projectkorra.projectkorra.util.StatusRegistry;
+import com.projectkorra.projectkorra.util.StatusRegistry.Status;
 
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -26,6 +29,10 @@ public class ChiCombo extends ChiAbility implements ComboAbility {
 	 */
 	private static final Map<Entity, Long> PARALYZED_ENTITIES = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.register("ChiCombo.PARALYZED_ENTITIES", PARALYZED_ENTITIES);
+	}
+
 	private long duration;
 	private long cooldown;
 	private Entity target;
@@ -64,6 +71,7 @@ public class ChiCombo extends ChiAbility implements ComboAbility {
 	private static void paralyze(Entity target, Long duration) {
 		if (target != null) {
 			PARALYZED_ENTITIES.put(target, (System.currentTimeMillis() + duration));
+			StatusRegistry.add(target, Status.IMMOBILIZED, duration);
 		}
 	}
 
@@ -86,7 +94,7 @@ public class ChiCombo extends ChiAbility implements ComboAbility {
 	 * @return True if the entity is paralyzed, false otherwise
 	 */
 	public static boolean isParalyzed(Entity entity) {
-		return PARALYZED_ENTITIES.containsKey(entity);
+		return StatusRegistry.has(entity, Status.IMMOBILIZED);
 	}
 
 	/**
@@ -100,6 +108,7 @@ public class ChiCombo extends ChiAbility implements ComboAbility {
 			entity.setFallDistance(0);
 			if (PARALYZED_ENTITIES.get(entity) <= System.currentTimeMillis()) {
 				PARALYZED_ENTITIES.remove(entity);
+				StatusRegistry.remove(entity, Status.IMMOBILIZED);
 
 				for (ChiCombo combo : getAbilities(ChiCombo.class)) {
 					if (combo.target == null) {
@@ -2,23 +2,18 @@ package com.projectkorra.projectkorra.chiblocking.passive;
 
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import com.projectkorra.projectkorra.ability.ChiAbility;
 import com.projectkorra.projectkorra.ability.PassiveAbility;
-import com.projectkorra.projectkorra.chiblocking.AcrobatStance;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.PotionLeases;
 
 public class ChiAgilityPassive extends ChiAbility implements PassiveAbility {
 
 	// Configurable variables
 	private int jumpPower;
 	private int speedPower;
-	
-	// Instance related variables
-	private boolean jumpActivate;
-	private boolean speedActivate;
 
 	public ChiAgilityPassive(Player player) {
 		super(player);
@@ -33,47 +28,18 @@ public class ChiAgilityPassive extends ChiAbility implements PassiveAbility {
 	@Override
 	public void progress() {
 		if (!player.isSprinting()) {
+			PotionLeases.release(player, this);
 			return;
 		}
 		
 		// Jump Buff
-		int jMax = jumpPower;
-		if (hasAbility(player, AcrobatStance.class)) {
-			AcrobatStance stance = getAbility(player, AcrobatStance.class);
-			jMax = Math.max(jMax, stance.getJump());
-		}
-		jumpActivate = true;
-		if (player.hasPotionEffect(PotionEffectType.JUMP)) {
-			for (PotionEffect potion : player.getActivePotionEffects()) {
-				if (potion.getType() == PotionEffectType.JUMP) {
-					if (potion.getAmplifier() > jMax - 1) {
-						jumpActivate = false;
-					}
-				}
-			}
-		}
-		if (jumpActivate) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.JUMP, 20, jMax - 1, true, false), false);
+		if (jumpPower > 0) {
+			PotionLeases.lease(player, this, PotionEffectType.JUMP, jumpPower - 1, true, false);
 		}
 
 		// Speed Buff
-		int sMax = speedPower;
-		if (hasAbility(player, AcrobatStance.class)) {
-			AcrobatStance stance = getAbility(player, AcrobatStance.class);
-			sMax = Math.max(sMax, stance.getJump());
-		}
-		speedActivate = true;
-		if (player.hasPotionEffect(PotionEffectType.SPEED)) {
-			for (PotionEffect potion : player.getActivePotionEffects()) {
-				if (potion.getType() == PotionEffectType.SPEED) {
-					if (potion.getAmplifier() > sMax - 1) {
-						speedActivate = false;
-					}
-				}
-			}
-		}
-		if (speedActivate) {
-			player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 20, sMax - 1, true, false), false);
+		if (speedPower > 0) {
+			PotionLeases.lease(player, this, PotionEffectType.SPEED, speedPower - 1, true, false);
 		}
 	}
 
@@ -3,6 +3,7 @@ package com.projectkorra.projectkorra.chiblocking.util;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.chiblocking.Paralyze;
 import com.projectkorra.projectkorra.chiblocking.Smokescreen;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -18,14 +19,19 @@ public class ChiblockingManager implements Runnable {
 	
 	@Override
 	public void run() {
-		for (Player player : Bukkit.getOnlinePlayers()) {
-			Smokescreen.removeFromHashMap(player);
-			if (Paralyze.isParalyzed(player)) {
-				if (player.getLocation().subtract(0, 0.1, 0).getBlock().getType().equals(Material.AIR)) {
-					player.setVelocity(new Vector(0, -0.4, 0));
+		long start = TickProfiler.start();
+		try {
+			for (Player player : Bukkit.getOnlinePlayers()) {
+				Smokescreen.removeFromHashMap(player);
+				if (Paralyze.isParalyzed(player)) {
+					if (player.getLocation().subtract(0, 0.1, 0).getBlock().getType().equals(Material.AIR)) {
+						player.setVelocity(new Vector(0, -0.4, 0));
+					}
+					player.setFallDistance(0F);
 				}
-				player.setFallDistance(0F);
 			}
+		} finally {
+			TickProfiler.record(ChiblockingManager.class, start);
 		}
 	}
 
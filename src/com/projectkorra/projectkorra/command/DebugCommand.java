@@ -1,11 +1,19 @@
 package com.projectkorra.projectkorra.command;
 
 import com.projectkorra.projectkorra.GeneralMethods;
+import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.BlockOwnership;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
+import com.projectkorra.projectkorra.util.PotionLeases;
+import com.projectkorra.projectkorra.util.TickProfiler;
+import com.projectkorra.projectkorra.util.TickProfiler.Section;
 
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -13,14 +21,28 @@ import java.util.List;
  */
 public class DebugCommand extends PKCommand {
 
+	private static final int TOP_SECTIONS = 10;
+
 	public DebugCommand() {
-		super("debug", "/bending debug", ConfigManager.languageConfig.get().getString("Commands.Debug.Description"), new String[] { "debug", "de" });
+		super("debug", "/bending debug [profile [reset | allocations] | leaks | owners | potions]", ConfigManager.languageConfig.get().getString("Commands.Debug.Description"), new String[] { "debug", "de" });
 	}
 
 	@Override
 	public void execute(CommandSender sender, List<String> args) {
 		if (!hasPermission(sender)) {
 			return;
+		} else if (args.size() >= 1 && args.get(0).equalsIgnoreCase("profile")) {
+			profile(sender, args.subList(1, args.size()));
+			return;
+		} else if (args.size() == 1 && args.get(0).equalsIgnoreCase("leaks")) {
+			leaks(sender);
+			return;
+		} else if (args.size() == 1 && args.get(0).equalsIgnoreCase("owners")) {
+			owners(sender);
+			return;
+		} else if (args.size() == 1 && args.get(0).equalsIgnoreCase("potions")) {
+			potions(sender);
+			return;
 		} else if (args.size() != 0) {
 			help(sender, false);
 			return;
@@ -30,6 +52,86 @@ public class DebugCommand extends PKCommand {
 		sender.sendMessage(ChatColor.GREEN + ConfigManager.languageConfig.get().getString("Commands.Debug.SuccessfullyExported"));
 	}
 
+	/**
+	 * Shows the sections that have taken the most time since the profiler
+	 * was last reset and exports the full profile to profile.txt, resets the
+	 * profiler or turns tracking allocations on or off.
+	 */
+	private void profile(CommandSender sender, List<String> args) {
+		if (args.size() == 1 && args.get(0).equalsIgnoreCase("reset")) {
+			TickProfiler.reset();
+			sender.sendMessage(ChatColor.GREEN + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.Reset"));
+			return;
+		} else if (args.size() == 1 && args.get(0).equalsIgnoreCase("allocations")) {
+			if (TickProfiler.isTrackingAllocations()) {
+				TickProfiler.setTrackAllocations(false);
+				sender.sendMessage(ChatColor.GREEN + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.AllocationsOff"));
+			} else if (TickProfiler.setTrackAllocations(true)) {
+				sender.sendMessage(ChatColor.GREEN + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.AllocationsOn"));
+			} else {
+				sender.sendMessage(ChatColor.RED + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.AllocationsUnsupported"));
+			}
+			return;
+		} else if (args.size() != 0) {
+			help(sender, false);
+			return;
+		}
+
+		long seconds = (System.currentTimeMillis() - TickProfiler.getResetTime()) / 1000;
+		sender.sendMessage(ChatColor.GOLD + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.Header").replace("{seconds}", String.valueOf(seconds)));
+		sender.sendMessage(ChatColor.GOLD + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.Collections").replace("{collections}", String.valueOf(TickProfiler.getCollectionsSinceReset())).replace("{millis}", String.valueOf(TickProfiler.getCollectionMillisSinceReset())));
+		List<Section> sections = TickProfiler.getSections();
+		for (int i = 0; i < TOP_SECTIONS && i < sections.size(); i++) {
+			Section section = sections.get(i);
+			String allocated = section.getAllocatedCount() > 0 ? String.format(", %.0fB allocated/call", section.getAverageAllocatedBytes()) : "";
+			sender.sendMessage(ChatColor.YELLOW + section.getName() + ChatColor.WHITE + String.format(" %.1fms total, %d calls, %.1fus avg, %.1fus max", section.getTotalMillis(), section.getCount(), section.getAverageMicros(), section.getMaxMicros()) + allocated);
+		}
+
+		try {
+			TickProfiler.writeReport(new File(ProjectKorra.plugin.getDataFolder(), "profile.txt"));
+			sender.sendMessage(ChatColor.GREEN + ConfigManager.languageConfig.get().getString("Commands.Debug.Profile.SuccessfullyExported"));
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Shows how many entries each entity map holds and how many of them
+	 * belong to entities that are gone.
+	 */
+	private void leaks(CommandSender sender) {
+		long seconds = (System.currentTimeMillis() - EntityLifecycle.getLastSweep()) / 1000;
+		sender.sendMessage(ChatColor.GOLD + ConfigManager.languageConfig.get().getString("Commands.Debug.Leaks.Header").replace("{seconds}", String.valueOf(seconds)));
+		for (String line : EntityLifecycle.getReport()) {
+			sender.sendMessage(ChatColor.YELLOW + line);
+		}
+	}
+
+	/**
+	 * Shows how many blocks are claimed by abilities and checks the claims
+	 * against the abilities and TempBlocks they refer to.
+	 */
+	private void owners(CommandSender sender) {
+		sender.sendMessage(ChatColor.GOLD + ConfigManager.languageConfig.get().getString("Commands.Debug.Owners.Header").replace("{blocks}", String.valueOf(BlockOwnership.getClaimCount())).replace("{abilities}", String.valueOf(BlockOwnership.getOwnerCount())));
+		List<String> problems = BlockOwnership.check();
+		if (problems.isEmpty()) {
+			sender.sendMessage(ChatColor.GREEN + ConfigManager.languageConfig.get().getString("Commands.Debug.Owners.Consistent"));
+			return;
+		}
+		for (String problem : problems) {
+			sender.sendMessage(ChatColor.RED + problem);
+		}
+	}
+
+	/**
+	 * Shows how many potion effects are leased by abilities and how many
+	 * times an effect has been sent for them.
+	 */
+	private void potions(CommandSender sender) {
+		sender.sendMessage(ChatColor.GOLD + ConfigManager.languageConfig.get().getString("Commands.Debug.Potions").replace("{leases}", String.valueOf(PotionLeases.getLeaseCount())).replace("{entities}", String.valueOf(PotionLeases.getEntityCount())).replace("{sent}", String.valueOf(PotionLeases.getSentCount())));
+	}
+
 	/**
 	 * Checks if the CommandSender has the permission 'bending.admin.debug'. If
 	 * not, it tells them they don't have permission.
@@ -9,11 +9,13 @@ import java.util.Set;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
 
 import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.Element.SubElement;
 import com.projectkorra.projectkorra.GeneralMethods;
+import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.ability.SubAbility;
 import com.projectkorra.projectkorra.ability.util.ComboManager;
@@ -31,6 +33,7 @@ public class DisplayCommand extends PKCommand {
 	private String playersOnly;
 	private String noAbilitiesAvailable;
 	private String noBinds;
+	private String loadFailed;
 
 	public DisplayCommand() {
 		super("display", "/bending display <Element>", ConfigManager.languageConfig.get().getString("Commands.Display.Description"), new String[] { "display", "dis", "d" });
@@ -41,6 +44,7 @@ public class DisplayCommand extends PKCommand {
 		this.invalidArgument = ConfigManager.languageConfig.get().getString("Commands.Display.InvalidArgument");
 		this.playersOnly = ConfigManager.languageConfig.get().getString("Commands.Display.PlayersOnly");
 		this.noBinds = ConfigManager.languageConfig.get().getString("Commands.Display.NoBinds");
+		this.loadFailed = ConfigManager.languageConfig.get().getString("Commands.Display.LoadFailed");
 	}
 
 	@Override
@@ -254,12 +258,34 @@ public class DisplayCommand extends PKCommand {
 	 * 
 	 * @param sender The CommandSender to output the bound abilities to
 	 */
-	private void displayBinds(CommandSender sender) {
+	private void displayBinds(final CommandSender sender) {
 		BendingPlayer bPlayer = BendingPlayer.getBendingPlayer(sender.getName());
-		if (bPlayer == null) {
-			GeneralMethods.createBendingPlayer(((Player) sender).getUniqueId(), sender.getName());
-			bPlayer = BendingPlayer.getBendingPlayer(sender.getName());
+		if (bPlayer != null) {
+			displayBinds(sender, bPlayer);
+			return;
 		}
+		GeneralMethods.loadBendingPlayerAsync(((Player) sender).getUniqueId(), sender.getName()).whenComplete((loaded, error) -> {
+			new BukkitRunnable() {
+				@Override
+				public void run() {
+					if (!((Player) sender).isOnline()) {
+						return;
+					}
+					BendingPlayer bPlayer = BendingPlayer.getBendingPlayer(sender.getName());
+					if (error != null || bPlayer == null) {
+						if (error != null) {
+							ProjectKorra.log.warning("Unable to load the binds of " + sender.getName() + ": " + error.getMessage());
+						}
+						sender.sendMessage(ChatColor.RED + loadFailed);
+						return;
+					}
+					displayBinds(sender, bPlayer);
+				}
+			}.runTask(ProjectKorra.plugin);
+		});
+	}
+
+	private void displayBinds(CommandSender sender, BendingPlayer bPlayer) {
 		HashMap<Integer, String> abilities = bPlayer.getAbilities();
 
 		if (abilities.isEmpty()) {
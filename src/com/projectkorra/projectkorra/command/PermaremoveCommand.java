@@ -74,6 +74,7 @@ public class PermaremoveCommand extends PKCommand {
 				sender.sendMessage(ChatColor.GREEN + this.restoredConfirm.replace("{target}", ChatColor.DARK_AQUA + player.getName() + ChatColor.GREEN));
 		} else {
 			bPlayer.getElements().clear();
+			WhoCommand.invalidateWhoLine(bPlayer.getUUID());
 			GeneralMethods.saveElements(bPlayer);
 			bPlayer.setPermaRemoved(true);
 			GeneralMethods.savePermaRemoved(bPlayer);
@@ -63,6 +63,7 @@ public class RemoveCommand extends PKCommand {
 						if (e instanceof SubElement) {
 							if (senderBPlayer.hasElement(e)) {
 								senderBPlayer.getSubElements().remove(e);
+								WhoCommand.invalidateWhoLine(senderBPlayer.getUUID());
 								GeneralMethods.saveSubElements(senderBPlayer);
 								GeneralMethods.removeUnusableAbilities(sender.getName());
 								sender.sendMessage(e.getColor() + this.succesfullyRemovedElementSelf
@@ -80,6 +81,7 @@ public class RemoveCommand extends PKCommand {
 								for (SubElement sub : SubElement.getSubElements(e)) {
 									senderBPlayer.getSubElements().remove(sub);
 								}
+								WhoCommand.invalidateWhoLine(senderBPlayer.getUUID());
 								GeneralMethods.saveElements(senderBPlayer);
 								GeneralMethods.removeUnusableAbilities(sender.getName());
 
@@ -126,6 +128,7 @@ public class RemoveCommand extends PKCommand {
 					bPlayer.getElements().remove(e);
 					GeneralMethods.saveElements(bPlayer);
 				}
+				WhoCommand.invalidateWhoLine(bPlayer.getUUID());
 
 				GeneralMethods.removeUnusableAbilities(player.getName());
 				player.sendMessage(e.getColor()
@@ -140,6 +143,7 @@ public class RemoveCommand extends PKCommand {
 		} else if (args.size() == 1) {
 			bPlayer.getElements().clear();
 			bPlayer.getSubElements().clear();
+			WhoCommand.invalidateWhoLine(bPlayer.getUUID());
 			GeneralMethods.saveElements(bPlayer);
 			GeneralMethods.saveSubElements(bPlayer);
 			GeneralMethods.removeUnusableAbilities(player.getName());
@@ -1,24 +1,22 @@
 package com.projectkorra.projectkorra.command;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
-import java.nio.charset.Charset;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
 import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.Element;
@@ -28,6 +26,7 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.RemoteResource;
 import com.projectkorra.rpg.RPGMethods;
 import com.projectkorra.spirits.SpiritElement;
 import com.projectkorra.spirits.SpiritPlayer;
@@ -40,6 +39,10 @@ public class WhoCommand extends PKCommand {
 	 * Map storage of all ProjectKorra staffs' UUIDs and titles
 	 */
 	final Map<String, String> staff = new HashMap<String, String>(), playerInfoWords = new HashMap<String, String>();
+	/**
+	 * Cached /bending who lines of online players, keyed by UUID
+	 */
+	private static final Map<UUID, String> WHO_LINES = new ConcurrentHashMap<UUID, String>();
 	
 	private String databaseOverload, noPlayersOnline, playerOffline;
 	
@@ -50,40 +53,26 @@ public class WhoCommand extends PKCommand {
 		noPlayersOnline = ConfigManager.languageConfig.get().getString("Commands.Who.NoPlayersOnline");
 		playerOffline = ConfigManager.languageConfig.get().getString("Commands.Who.PlayerOffline");
 		
-		new BukkitRunnable()
-		{
-			public void run()
-			{
-				try
-				{
-					staff.clear();
-					// Create a URL for the desired page
-					URLConnection url = new URL("http://www.projectkorra.com/staff.txt").openConnection();
-					url.setRequestProperty("User-Agent", "Mozilla/5.0 (Windows NT 6.1; WOW64) AppleWebKit/537.11 (KHTML, like Gecko) Chrome/23.0.1271.95 Safari/537.11");
-					
-					// Read all the text returned by the server
-					BufferedReader in = new BufferedReader(new InputStreamReader(url.getInputStream(), Charset.forName("UTF-8")));
-					String unparsed;
-					while ((unparsed = in.readLine()) != null)
-					{
-						String[] staffEntry = unparsed.split("/");
-						if (staffEntry.length >= 2)
-						{
-							staff.put(staffEntry[0], ChatColor.translateAlternateColorCodes('&', staffEntry[1]));
+		FileConfiguration config = ConfigManager.defaultConfig.get();
+		final RemoteResource staffList = new RemoteResource(config.getString("Properties.Remote.StaffURL"), new File(ProjectKorra.plugin.getDataFolder(), "Cache" + File.separator + "staff.txt"), config.getLong("Properties.Remote.CacheDuration"), config.getInt("Properties.Remote.Timeout"));
+		new BukkitRunnable() {
+			@Override
+			public void run() {
+				staffList.fetch(new Consumer<String>() {
+					@Override
+					public void accept(String content) {
+						staff.clear();
+						for (String unparsed : content.split("\\r?\\n")) {
+							String[] staffEntry = unparsed.split("/");
+							if (staffEntry.length >= 2) {
+								staff.put(staffEntry[0], ChatColor.translateAlternateColorCodes('&', staffEntry[1]));
+							}
 						}
+						invalidateWhoLines();
 					}
-					in.close();
-				}
-				catch (MalformedURLException e)
-				{
-					e.printStackTrace();
-				}
-				catch (IOException e)
-				{
-					e.printStackTrace();
-				}
+				});
 			}
-		}.runTaskTimerAsynchronously(ProjectKorra.plugin, 0, 20 * 60);
+		}.runTaskTimer(ProjectKorra.plugin, 0, 20 * 60);
 	}
 
 	@Override
@@ -99,32 +88,7 @@ public class WhoCommand extends PKCommand {
 			}
 			List<String> players = new ArrayList<String>();
 			for (Player player : Bukkit.getOnlinePlayers()) {
-				String playerName = player.getName();
-				String result = "";
-				BendingPlayer bp = BendingPlayer.getBendingPlayer(playerName);
-				
-				if (bp == null) {
-					GeneralMethods.createBendingPlayer(player.getUniqueId(), player.getName());
-					bp = BendingPlayer.getBendingPlayer(player.getName());
-				}
-				for (Element element : bp.getElements()) {
-					if (result == "") {
-						result = ChatColor.WHITE + playerName + " - " + (((!bp.isElementToggled(element) || !bp.isToggled()) ? element.getColor() + "" + ChatColor.STRIKETHROUGH : element.getColor()) + element.getName().substring(0, 1));
-					} else {
-						result = result + ChatColor.WHITE + " | " + (((!bp.isElementToggled(element) || !bp.isToggled()) ? element.getColor() + "" + ChatColor.STRIKETHROUGH : element.getColor()) + element.getName().substring(0, 1));
-					}
-				}
-				if (staff.containsKey(player.getUniqueId().toString())) {
-					if (result == "") {
-						result = ChatColor.WHITE + playerName + " | " + staff.get(player.getUniqueId().toString());
-					} else {
-						result = result + ChatColor.WHITE + " | " + staff.get(player.getUniqueId().toString());
-					}
-				}
-				if (result == "") {
-					result = ChatColor.WHITE + playerName;
-				}
-				players.add(result);
+				players.add(getWhoLine(player));
 			}
 			if (players.isEmpty()) {
 				sender.sendMessage(ChatColor.RED + noPlayersOnline);
@@ -136,6 +100,64 @@ public class WhoCommand extends PKCommand {
 		}
 	}
 
+	/**
+	 * Gets the line shown for a player in the /bending who list. A player
+	 * whose BendingPlayer has not been loaded yet is listed by name while it
+	 * loads in the background; that placeholder is not cached.
+	 * 
+	 * @param player The online player
+	 * @return The colored line
+	 */
+	private String getWhoLine(Player player) {
+		String cached = WHO_LINES.get(player.getUniqueId());
+		if (cached != null) {
+			return cached;
+		}
+		BendingPlayer bp = BendingPlayer.getBendingPlayer(player);
+		if (bp == null) {
+			GeneralMethods.loadBendingPlayerAsync(player.getUniqueId(), player.getName());
+			return ChatColor.WHITE + player.getName();
+		}
+
+		List<Element> elements = bp.getElements();
+		StringBuilder result = new StringBuilder(ChatColor.WHITE + player.getName());
+		for (int i = 0; i < elements.size(); i++) {
+			Element element = elements.get(i);
+			result.append(ChatColor.WHITE).append(i == 0 ? " - " : " | ");
+			result.append(element.getColor());
+			if (!bp.isElementToggled(element) || !bp.isToggled()) {
+				result.append(ChatColor.STRIKETHROUGH);
+			}
+			result.append(element.getName().substring(0, 1));
+		}
+		String title = staff.get(player.getUniqueId().toString());
+		if (title != null) {
+			result.append(ChatColor.WHITE).append(" | ").append(title);
+		}
+		String line = result.toString();
+		WHO_LINES.put(player.getUniqueId(), line);
+		return line;
+	}
+
+	/**
+	 * Drops the cached /bending who line of a player so it is rebuilt the
+	 * next time the list is shown. Called whenever the player's elements,
+	 * toggles or online state change.
+	 * 
+	 * @param uuid The player's UUID
+	 */
+	public static void invalidateWhoLine(UUID uuid) {
+		WHO_LINES.remove(uuid);
+	}
+
+	/**
+	 * Drops every cached /bending who line, e.g. after the staff titles
+	 * were refreshed.
+	 */
+	public static void invalidateWhoLines() {
+		WHO_LINES.clear();
+	}
+
 	/**
 	 * Sends information on the given player to the CommandSender.
 	 * 
@@ -161,31 +183,29 @@ public class WhoCommand extends PKCommand {
 		BendingPlayer bPlayer = BendingPlayer.getBendingPlayer(player);
 
 		if (bPlayer == null) {
-			GeneralMethods.createBendingPlayer(player.getUniqueId(), playerName);
-			BukkitRunnable runnable = new BukkitRunnable() {
+			//After 5 seconds of waiting, tell the user the database is busy and to try again in a few seconds.
+			final BukkitTask timeout = new BukkitRunnable() {
 				@Override
 				public void run() {
-					int count = 0;
-					final long delay = 200L;
-					while (!BendingPlayer.getPlayers().containsKey(player.getUniqueId())) {
-						if (count > 5 * (1000 / delay)) { //After 5 seconds of waiting, tell the user the database is busy and to try again in a few seconds.
-							sender.sendMessage(ChatColor.DARK_RED + databaseOverload);
-							break;
-						}
-						count++;
-						try {
-							Thread.sleep(delay);
+					sender.sendMessage(ChatColor.DARK_RED + databaseOverload);
+				}
+			}.runTaskLater(ProjectKorra.plugin, 100);
+			GeneralMethods.loadBendingPlayerAsync(player.getUniqueId(), playerName).whenComplete((loaded, error) -> {
+				new BukkitRunnable() {
+					@Override
+					public void run() {
+						if (!Bukkit.getScheduler().isQueued(timeout.getTaskId())) {
+							return;
 						}
-						catch (InterruptedException e) {
-							e.printStackTrace();
+						timeout.cancel();
+						if (loaded == null) {
 							sender.sendMessage(ChatColor.DARK_RED + databaseOverload);
-							break;
+						} else {
+							whoPlayer(sender, playerName);
 						}
 					}
-					whoPlayer(sender, playerName);
-				}
-			};
-			runnable.runTaskAsynchronously(ProjectKorra.plugin);
+				}.runTask(ProjectKorra.plugin);
+			});
 			return;
 		}
 		
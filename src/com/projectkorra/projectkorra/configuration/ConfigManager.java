@@ -167,9 +167,21 @@ public class ConfigManager {
 			config.addDefault("Commands.Display.InvalidArgument", "Not a valid argument.");
 			config.addDefault("Commands.Display.PlayersOnly", "This command is only useable by players.");
 			config.addDefault("Commands.Display.NoBinds", "You do not have any abilities bound.\nIf you would like to see a list of available abilities, please use the /bending display [Element] command. Use /bending help for more information.");
+			config.addDefault("Commands.Display.LoadFailed", "Your bending could not be loaded. Please try again in a few seconds.");
 
 			config.addDefault("Commands.Debug.Description", "Outputs information on the current ProjectKorra installation to /plugins/ProjectKorra/debug.txt");
 			config.addDefault("Commands.Debug.SuccessfullyExported", "Debug File Created as debug.txt in the ProjectKorra plugin folder.\nPut contents on pastie.org and create a bug report  on the ProjectKorra forum if you need to.");
+			config.addDefault("Commands.Debug.Profile.Header", "Most expensive sections over the last {seconds} seconds:");
+			config.addDefault("Commands.Debug.Profile.SuccessfullyExported", "The full profile has been exported to profile.txt in the ProjectKorra plugin folder.");
+			config.addDefault("Commands.Debug.Profile.Reset", "The profiler has been reset.");
+			config.addDefault("Commands.Debug.Profile.Collections", "Garbage collection: {collections} collections taking {millis}ms.");
+			config.addDefault("Commands.Debug.Profile.AllocationsOn", "The profiler is now tracking the memory allocated on this thread.");
+			config.addDefault("Commands.Debug.Profile.AllocationsOff", "The profiler is no longer tracking allocations.");
+			config.addDefault("Commands.Debug.Profile.AllocationsUnsupported", "This JVM cannot measure allocations per thread.");
+			config.addDefault("Commands.Debug.Leaks.Header", "Entity maps, last swept {seconds} seconds ago:");
+			config.addDefault("Commands.Debug.Owners.Header", "{blocks} blocks are owned by {abilities} abilities.");
+			config.addDefault("Commands.Debug.Owners.Consistent", "Every block owner is consistent.");
+			config.addDefault("Commands.Debug.Potions", "{leases} potion effects are leased on {entities} entities. Effects have been sent or removed {sent} times.");
 
 			config.addDefault("Commands.Copy.Description", "This command will allow the user to copy the binds of another player either for himself or assign them to <Player> if specified.");
 			config.addDefault("Commands.Copy.PlayerNotFound", "Couldn't find player.");
@@ -469,6 +481,14 @@ public class ConfigManager {
 			config.addDefault("Properties.TogglePassivesWithAllBending", true);
 			config.addDefault("Properties.SeaLevel", 62);
 
+			config.addDefault("Properties.BlockJournal.Enabled", true);
+			config.addDefault("Properties.BlockJournal.SegmentSize", 1024);
+
+			config.addDefault("Properties.Remote.UpdateURL", "http://projectkorra.com/forums/dev-builds.16/index.rss");
+			config.addDefault("Properties.Remote.StaffURL", "http://www.projectkorra.com/staff.txt");
+			config.addDefault("Properties.Remote.Timeout", 5000);
+			config.addDefault("Properties.Remote.CacheDuration", 3600000);
+
 			config.addDefault("Properties.HorizontalCollisionPhysics.Enabled", true);
 			config.addDefault("Properties.HorizontalCollisionPhysics.DamageOnBarrierBlock", false);
 			config.addDefault("Properties.HorizontalCollisionPhysics.WallDamageMinimumDistance", 5.0);
@@ -501,6 +521,7 @@ public class ConfigManager {
 			config.addDefault("Properties.Earth.RevertEarthbending", true);
 			config.addDefault("Properties.Earth.SafeRevert", true);
 			config.addDefault("Properties.Earth.RevertCheckTime", 300000);
+			config.addDefault("Properties.Earth.RevertsPerTick", 50);
 			config.addDefault("Properties.Earth.CanBendWithWeapons", true);
 			config.addDefault("Properties.Earth.EarthBlocks", earthBlocks);
 			config.addDefault("Properties.Earth.MetalBlocks", metalBlocks);
@@ -934,6 +955,7 @@ public class ConfigManager {
 			config.addDefault("Abilities.Water.WaterSpout.Interval", 50);
 			config.addDefault("Abilities.Water.WaterSpout.BlockSpiral", true);
 			config.addDefault("Abilities.Water.WaterSpout.Particles", false);
+			config.addDefault("Abilities.Water.WaterSpout.ClientSideBlocks", false);
 			config.addDefault("Abilities.Water.WaterSpout.Wave.Particles", false);
 			config.addDefault("Abilities.Water.WaterSpout.Wave.Enabled", true);
 			config.addDefault("Abilities.Water.WaterSpout.Wave.AllowPlantSource", true);
@@ -1183,6 +1205,7 @@ public class ConfigManager {
 			config.addDefault("Abilities.Fire.Illumination.Range", 5);
 			config.addDefault("Abilities.Fire.Illumination.Cooldown", 500);
 			config.addDefault("Abilities.Fire.Illumination.LightThreshold", 7);
+			config.addDefault("Abilities.Fire.Illumination.ClientSideBlocks", false);
 
 			config.addDefault("Abilities.Fire.Lightning.Enabled", true);
 			config.addDefault("Abilities.Fire.Lightning.Damage", 4.0);
@@ -14,6 +14,7 @@ import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.EarthAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.earthbending.passive.EarthPassive;
 import com.projectkorra.projectkorra.util.BlockSource;
@@ -393,7 +394,7 @@ public class EarthBlast extends EarthAbility {
 	@Deprecated
 	public static boolean annihilateBlasts(Location location, double radius, Player source) {
 		boolean broke = false;
-		for (EarthBlast blast : getAbilities(EarthBlast.class)) {
+		for (EarthBlast blast : AbilityIndex.getNear(location, radius, EarthBlast.class)) {
 			if (blast.location.getWorld().equals(location.getWorld()) && !source.equals(blast.player)) {
 				if (blast.location.distanceSquared(location) <= radius * radius) {
 					blast.remove();
@@ -406,7 +407,7 @@ public class EarthBlast extends EarthAbility {
 
 	public static ArrayList<EarthBlast> getAroundPoint(Location location, double radius) {
 		ArrayList<EarthBlast> list = new ArrayList<EarthBlast>();
-		for (EarthBlast blast : getAbilities(EarthBlast.class)) {
+		for (EarthBlast blast : AbilityIndex.getNear(location, radius, EarthBlast.class)) {
 			if (blast.location.getWorld().equals(location.getWorld())) {
 				if (blast.location.distanceSquared(location) <= radius * radius) {
 					list.add(blast);
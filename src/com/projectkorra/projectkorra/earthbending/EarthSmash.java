@@ -15,6 +15,8 @@ import org.bukkit.util.Vector;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.EarthAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
+import com.projectkorra.projectkorra.util.BlockBody;
 import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.ParticleEffect;
@@ -56,8 +58,7 @@ public class EarthSmash extends EarthAbility {
 	private Location location;
 	private Location destination;
 	private ArrayList<Entity> affectedEntities;
-	private ArrayList<BlockRepresenter> currentBlocks;
-	private ArrayList<TempBlock> affectedBlocks;
+	private BlockBody body;
 
 	public EarthSmash(Player player, ClickType type) {
 		super(player);
@@ -84,8 +85,22 @@ public class EarthSmash extends EarthAbility {
 		this.flightRemoveTimer = getConfig().getLong("Abilities.Earth.EarthSmash.FlightTimer");
 		this.removeTimer = getConfig().getLong("Abilities.Earth.EarthSmash.RemoveTimer");
 		this.affectedEntities = new ArrayList<>();
-		this.currentBlocks = new ArrayList<>();
-		this.affectedBlocks = new ArrayList<>();
+		this.body = new BlockBody() {
+			@Override
+			protected boolean canPlace(Block block) {
+				return player != null && isTransparent(block);
+			}
+
+			@Override
+			protected void onPlace(TempBlock tempBlock) {
+				getPreventEarthbendingBlocks().add(tempBlock.getBlock());
+			}
+
+			@Override
+			protected void onRevert(TempBlock tempBlock) {
+				getPreventEarthbendingBlocks().remove(tempBlock.getBlock());
+			}
+		};
 
 		if (type == ClickType.SHIFT_DOWN || type == ClickType.SHIFT_UP && !player.isSneaking()) {
 			if (bPlayer.isAvatarState()) {
@@ -100,7 +115,7 @@ public class EarthSmash extends EarthAbility {
 				this.shootRange = getConfig().getDouble("Abilities.Avatar.AvatarState.Earth.EarthSmash.ShootRange");
 			}
 
-			EarthSmash flySmash = flyingInSmashCheck(player);
+			EarthSmash flySmash = flyingInSmashCheck(player, flightDetectionRadius);
 			if (flySmash != null) {
 				flySmash.state = State.FLYING;
 				flySmash.player = player;
@@ -195,13 +210,13 @@ public class EarthSmash extends EarthAbility {
 			}
 		} else if (state == State.GRABBED) {
 			if (player.isSneaking()) {
-				revert();
+				checkRemainingBlocks();
 				Location oldLoc = location.clone();
 				location = player.getEyeLocation().add(player.getEyeLocation().getDirection().normalize().multiply(grabbedDistance));
 
 				// Check to make sure the new location is available to move to
 				for (Block block : getBlocks()) {
-					if (block.getType() != Material.AIR && !isTransparent(block)) {
+					if (!body.isPlacedOn(block) && block.getType() != Material.AIR && !isTransparent(block)) {
 						location = oldLoc;
 						break;
 					}
@@ -221,7 +236,7 @@ public class EarthSmash extends EarthAbility {
 					return;
 				}
 
-				revert();
+				checkRemainingBlocks();
 				location.add(GeneralMethods.getDirection(location, destination).normalize().multiply(1));
 				if (location.distanceSquared(destination) < 4) {
 					remove();
@@ -231,7 +246,7 @@ public class EarthSmash extends EarthAbility {
 				// If an earthsmash runs into too many blocks we should remove it
 				int badBlocksFound = 0;
 				for (Block block : getBlocks()) {
-					if (block.getType() != Material.AIR && (!isTransparent(block) || block.getType() == Material.WATER || block.getType() == Material.STATIONARY_WATER)) {
+					if (!body.isPlacedOn(block) && block.getType() != Material.AIR && (!isTransparent(block) || block.getType() == Material.WATER || block.getType() == Material.STATIONARY_WATER)) {
 						badBlocksFound++;
 					}
 				}
@@ -255,7 +270,7 @@ public class EarthSmash extends EarthAbility {
 					remove();
 					return;
 				}
-				revert();
+				checkRemainingBlocks();
 				destination = player.getEyeLocation().clone().add(player.getEyeLocation().getDirection().normalize().multiply(shootRange));
 				Vector direction = GeneralMethods.getDirection(location, destination).normalize();
 
@@ -295,7 +310,7 @@ public class EarthSmash extends EarthAbility {
 	@SuppressWarnings("deprecation")
 	public void animateLift() {
 		if (animationCounter < 4) {
-			revert();
+			checkRemainingBlocks();
 			location.add(0, 1, 0);
 			//Remove the blocks underneath the rising smash
 			if (animationCounter == 0) {
@@ -327,14 +342,14 @@ public class EarthSmash extends EarthAbility {
 						return;
 					}
 				}
-				//Design what this EarthSmash looks like by using BlockRepresenters
+				//Design what this EarthSmash looks like by adding the blocks to its body
 				Location tempLoc = location.clone().add(0, -2, 0);
 				for (int x = -1; x <= 1; x++) {
 					for (int y = -1; y <= 1; y++) {
 						for (int z = -1; z <= 1; z++) {
 							if ((Math.abs(x) + Math.abs(y) + Math.abs(z)) % 2 == 0) {
 								Block block = tempLoc.clone().add(x, y, z).getBlock();
-								currentBlocks.add(new BlockRepresenter(x, y, z, selectMaterialForRepresenter(block.getType()), block.getData()));
+								body.add(x, y, z, selectMaterialForRepresenter(block.getType()), block.getData());
 							}
 						}
 					}
@@ -382,52 +397,36 @@ public class EarthSmash extends EarthAbility {
 	}
 
 	/**
-	 * Redraws the blocks for this instance of EarthSmash.
+	 * Redraws the blocks for this instance of EarthSmash. Only the blocks
+	 * that change between the old and the new location are written.
 	 */
 	public void draw() {
-		if (currentBlocks.size() == 0) {
+		if (body.size() == 0) {
 			remove();
 			return;
 		}
-		for (BlockRepresenter blockRep : currentBlocks) {
-			Block block = location.clone().add(blockRep.getX(), blockRep.getY(), blockRep.getZ()).getBlock();
-			if (block.getType().equals(Material.SAND) || block.getType().equals(Material.GRAVEL)) { //Check if block can be affected by gravity.
-
-			}
-			if (player != null && isTransparent(block)) {
-				affectedBlocks.add(new TempBlock(block, blockRep.getType(), blockRep.getData()));
-				getPreventEarthbendingBlocks().add(block);
-			}
-		}
+		body.moveTo(location);
 	}
 
 	public void revert() {
 		checkRemainingBlocks();
-		for (int i = 0; i < affectedBlocks.size(); i++) {
-			TempBlock tblock = affectedBlocks.get(i);
-			getPreventEarthbendingBlocks().remove(tblock.getBlock());
-			tblock.revertBlock();
-			affectedBlocks.remove(i);
-			i--;
-		}
+		body.revert();
 	}
 
 	/**
 	 * Checks to see which of the blocks are still attached to the EarthSmash,
 	 * remember that blocks can be broken or used in other abilities so we need
 	 * to double check and remove any that are not still attached.
-	 * 
-	 * Also when we remove the blocks from instances, movedearth, or tempair we
-	 * should do it on a delay because tempair takes a couple seconds before the
-	 * block shows up in that map.
 	 */
 	public void checkRemainingBlocks() {
-		for (int i = 0; i < currentBlocks.size(); i++) {
-			BlockRepresenter brep = currentBlocks.get(i);
-			final Block block = location.clone().add(brep.getX(), brep.getY(), brep.getZ()).getBlock();
+		if (body.getWorld() == null) {
+			return;
+		}
+		for (int i = 0; i < body.size(); i++) {
+			Block block = body.getBlock(i);
 			// Check for grass because sometimes the dirt turns into grass.
-			if (block.getType() != brep.getType() && (block.getType() != Material.GRASS) && (block.getType() != Material.COBBLESTONE)) {
-				currentBlocks.remove(i);
+			if (block.getType() != body.getType(i) && (block.getType() != Material.GRASS) && (block.getType() != Material.COBBLESTONE)) {
+				body.remove(i);
 				i--;
 			}
 		}
@@ -495,10 +494,10 @@ public class EarthSmash extends EarthAbility {
 		Material tempMat = selectMaterial(mat);
 		Random rand = new Random();
 		if (!isEarthbendable(tempMat) && !isMetalbendable(tempMat)) {
-			if (currentBlocks.size() < 1) {
+			if (body.size() < 1) {
 				return Material.DIRT;
 			} else {
-				return currentBlocks.get(rand.nextInt(currentBlocks.size())).getType();
+				return body.getType(rand.nextInt(body.size()));
 			}
 		}
 		return tempMat;
@@ -513,8 +512,9 @@ public class EarthSmash extends EarthAbility {
 			return null;
 		}
 
-		List<Block> blocks = GeneralMethods.getBlocksAroundPoint(GeneralMethods.getTargetedLocation(player, grabRange, GeneralMethods.NON_OPAQUE), 1);
-		for (EarthSmash smash : getAbilities(EarthSmash.class)) {
+		Location target = GeneralMethods.getTargetedLocation(player, grabRange, GeneralMethods.NON_OPAQUE);
+		List<Block> blocks = GeneralMethods.getBlocksAroundPoint(target, 1);
+		for (EarthSmash smash : AbilityIndex.getNear(target, 2 + grabDetectionRadius, EarthSmash.class)) {
 			if (reqState == null || smash.state == reqState) {
 				for (Block block : blocks) {
 					if (block == null || smash.getLocation() == null) {
@@ -539,7 +539,7 @@ public class EarthSmash extends EarthAbility {
 		for (Entity entity : entities) {
 			if (entity instanceof LivingEntity && entity != player && !affectedEntities.contains(entity)) {
 				affectedEntities.add(entity);
-				double damage = currentBlocks.size() / 13.0 * this.damage;
+				double damage = body.size() / 13.0 * this.damage;
 				DamageHandler.damageEntity(entity, damage, this);
 				Vector travelVec = GeneralMethods.getDirection(location, entity.getLocation());
 				entity.setVelocity(travelVec.setY(knockup).normalize().multiply(knockback));
@@ -554,7 +554,7 @@ public class EarthSmash extends EarthAbility {
 	 * time.
 	 */
 	public void smashToSmashCollisionDetection() {
-		for (EarthSmash smash : getAbilities(EarthSmash.class)) {
+		for (EarthSmash smash : AbilityIndex.getNear(location, flightDetectionRadius, EarthSmash.class)) {
 			if (smash.location != null && smash != this && smash.location.getWorld() == location.getWorld() && smash.location.distanceSquared(location) < Math.pow(flightDetectionRadius, 2)) {
 				smash.remove();
 				remove();
@@ -568,14 +568,14 @@ public class EarthSmash extends EarthAbility {
 	 * EarthSmash. A player is considered "flying" if they are standing ontop of
 	 * the earthsmash and holding shift.
 	 */
-	private static EarthSmash flyingInSmashCheck(Player player) {
-		for (EarthSmash smash : getAbilities(EarthSmash.class)) {
+	private static EarthSmash flyingInSmashCheck(Player player, double radius) {
+		for (EarthSmash smash : AbilityIndex.getNear(player.getLocation(), radius, EarthSmash.class)) {
 			if (!smash.allowFlight) {
 				continue;
 			}
 			//Check to see if the player is standing on top of the smash.
 			if (smash.state == State.LIFTED) {
-				if (smash.location.getWorld().equals(player.getWorld()) && smash.location.clone().add(0, 2, 0).distanceSquared(player.getLocation()) <= Math.pow(smash.flightDetectionRadius, 2)) {
+				if (smash.location.getWorld().equals(player.getWorld()) && smash.location.clone().add(0, 2, 0).distanceSquared(player.getLocation()) <= radius * radius) {
 					return smash;
 				}
 			}
@@ -589,7 +589,11 @@ public class EarthSmash extends EarthAbility {
 	 * then an EarthSmash can only be made up of 1 material at a time. For
 	 * example, an ESmash that is entirely dirt, coalore, or sandstone. Using
 	 * the representer will allow all the materials to be mixed together.
+	 * 
+	 * @deprecated The blocks of an EarthSmash are kept in a {@link BlockBody}.
+	 *             Use {@link #getBody()}.
 	 */
+	@Deprecated
 	public class BlockRepresenter {
 		private int x, y, z;
 		private Material type;
@@ -648,6 +652,10 @@ public class EarthSmash extends EarthAbility {
 		}
 	}
 
+	/**
+	 * @deprecated No longer used by EarthSmash.
+	 */
+	@Deprecated
 	public class Pair<F, S> {
 		private F first; //first member of pair
 		private S second; //second member of pair
@@ -702,7 +710,7 @@ public class EarthSmash extends EarthAbility {
 	@Override
 	public List<Location> getLocations() {
 		ArrayList<Location> locations = new ArrayList<>();
-		for (TempBlock tblock : affectedBlocks) {
+		for (TempBlock tblock : body.getTempBlocks()) {
 			locations.add(tblock.getLocation());
 		}
 		return locations;
@@ -928,12 +936,29 @@ public class EarthSmash extends EarthAbility {
 		return affectedEntities;
 	}
 
-	public ArrayList<BlockRepresenter> getCurrentBlocks() {
-		return currentBlocks;
+	public BlockBody getBody() {
+		return body;
 	}
 
+	/**
+	 * @return A copy of the TempBlocks currently showing this EarthSmash
+	 */
 	public ArrayList<TempBlock> getAffectedBlocks() {
-		return affectedBlocks;
+		return new ArrayList<TempBlock>(body.getTempBlocks());
+	}
+
+	/**
+	 * @return A copy of the blocks of this EarthSmash as offsets from its
+	 *         location
+	 * @deprecated Use {@link #getBody()}.
+	 */
+	@Deprecated
+	public ArrayList<BlockRepresenter> getCurrentBlocks() {
+		ArrayList<BlockRepresenter> blocks = new ArrayList<BlockRepresenter>(body.size());
+		for (int i = 0; i < body.size(); i++) {
+			blocks.add(new BlockRepresenter(body.getOffsetX(i), body.getOffsetY(i), body.getOffsetZ(i), body.getType(i), body.getData(i)));
+		}
+		return blocks;
 	}
 
 	public void setCooldown(long cooldown) {
@@ -14,12 +14,15 @@ import org.bukkit.util.Vector;
 
 import com.projectkorra.projectkorra.ability.EarthAbility;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.BlockOwnership;
 import com.projectkorra.projectkorra.util.BlockSource;
 import com.projectkorra.projectkorra.util.ClickType;
 
 public class RaiseEarth extends EarthAbility {
 	
 	private static final Map<Block, Block> ALL_AFFECTED_BLOCKS = new ConcurrentHashMap<>();
+	/** The {@link BlockOwnership} role of the blocks of the column. */
+	public static final String COLUMN = "Column";
 
 	private int distance;
 	private int height;
@@ -65,6 +68,7 @@ public class RaiseEarth extends EarthAbility {
 			bPlayer.addCooldown("RaiseEarthPillar", cooldown);
 			time = System.currentTimeMillis() - interval;
 			start();
+			claimAffectedBlocks();
 		}
 	}
 
@@ -87,6 +91,7 @@ public class RaiseEarth extends EarthAbility {
 		if (distance != 0 && canInstantiate()) {
 			time = System.currentTimeMillis() - interval;
 			start();
+			claimAffectedBlocks();
 		}
 	}
 	
@@ -114,6 +119,9 @@ public class RaiseEarth extends EarthAbility {
 	}
 
 	private void loadAffectedBlocks() {
+		for (Block block : affectedBlocks.keySet()) {
+			BlockOwnership.release(block, this);
+		}
 		affectedBlocks.clear();
 		Block thisBlock;
 		for (int i = 0; i <= distance; i++) {
@@ -123,6 +131,16 @@ public class RaiseEarth extends EarthAbility {
 				Collapse.revert(thisBlock);
 			}
 		}
+		claimAffectedBlocks();
+	}
+
+	private void claimAffectedBlocks() {
+		if (!isStarted() || isRemoved()) {
+			return;
+		}
+		for (Block block : affectedBlocks.keySet()) {
+			BlockOwnership.claim(block, this, COLUMN);
+		}
 	}
 	
 	@Override
@@ -150,8 +168,10 @@ public class RaiseEarth extends EarthAbility {
 
 	public static void revertAffectedBlock(Block block) {
 		ALL_AFFECTED_BLOCKS.remove(block);
-		for (RaiseEarth raiseEarth : getAbilities(RaiseEarth.class)) {
+		RaiseEarth raiseEarth = BlockOwnership.getOwner(block, RaiseEarth.class, COLUMN);
+		if (raiseEarth != null) {
 			raiseEarth.affectedBlocks.remove(block);
+			BlockOwnership.release(block);
 		}
 	}
 
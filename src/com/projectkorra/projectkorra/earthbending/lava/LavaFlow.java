@@ -17,6 +17,7 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.ability.LavaAbility;
+import com.projectkorra.projectkorra.util.BlockOwnership;
 import com.projectkorra.projectkorra.util.BlockSource;
 import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.ParticleEffect;
@@ -31,6 +32,12 @@ public class LavaFlow extends LavaAbility {
 	private static final Map<Block, TempBlock> TEMP_LAVA_BLOCKS = new ConcurrentHashMap<>();
 	private static final Map<Block, TempBlock> TEMP_LAND_BLOCKS = new ConcurrentHashMap<>();
 	private static final Map<Block, TempBlock> TEMP_AIR_BLOCKS = new ConcurrentHashMap<>();
+	/** The {@link BlockOwnership} role of the lava created by LavaFlow. */
+	public static final String LAVA = "Lava";
+	/** The {@link BlockOwnership} role of the lava turned back into land. */
+	public static final String LAND = "Land";
+	/** The {@link BlockOwnership} role of the plants cleared above new lava. */
+	public static final String AIR = "Air";
 
 	private boolean removing;
 	private boolean makeLava;
@@ -385,18 +392,18 @@ public class LavaFlow extends LavaAbility {
 				Block above = block.getRelative(BlockFace.UP);
 				Block above2 = above.getRelative(BlockFace.UP);
 				if (isPlant(above) || isSnow(above)) {
-					TempBlock tb = new TempBlock(above, Material.AIR, (byte) 0);
+					TempBlock tb = new TempBlock(above, Material.AIR, (byte) 0).setOwner(this, AIR);
 					TEMP_AIR_BLOCKS.put(above, tb);
 					affectedBlocks.add(tb);
 					if (isPlant(above2) && above2.getType().equals(Material.DOUBLE_PLANT)) {
-						TempBlock tb2 = new TempBlock(above2, Material.AIR, (byte) 0);
+						TempBlock tb2 = new TempBlock(above2, Material.AIR, (byte) 0).setOwner(this, AIR);
 						TEMP_AIR_BLOCKS.put(above2, tb2);
 						affectedBlocks.add(tb);
 					}
 				} else
 					return;
 			}
-			TempBlock tblock = new TempBlock(block, Material.LAVA, (byte) 0);
+			TempBlock tblock = new TempBlock(block, Material.LAVA, (byte) 0).setOwner(this, LAVA);
 			TEMP_LAVA_BLOCKS.put(block, tblock);
 			affectedBlocks.add(tblock);
 
@@ -421,7 +428,7 @@ public class LavaFlow extends LavaAbility {
 			return;
 		}
 
-		TempBlock tblock = new TempBlock(testBlock, revertMaterial, testBlock.getData());
+		TempBlock tblock = new TempBlock(testBlock, revertMaterial, testBlock.getData()).setOwner(this, LAND);
 		affectedBlocks.add(tblock);
 		TEMP_LAND_BLOCKS.put(testBlock, tblock);
 	}
@@ -447,17 +454,21 @@ public class LavaFlow extends LavaAbility {
 	 * remaining in TEMP_LAVA_BLOCKS, and cancels any remaining tasks.
 	 * 
 	 * This version of remove will create tasks that remove each lava block with
-	 * an animation.
+	 * an animation. Each block stays in TEMP_LAVA_BLOCKS, TEMP_LAND_BLOCKS or
+	 * TEMP_AIR_BLOCKS until its task reverts it, so lava that is still visible
+	 * can still be bent. Blocks whose task never runs are reverted by
+	 * {@link #revertAll()}.
 	 */
 	public void removeSlowly() {
 		super.remove();
 		for (int i = affectedBlocks.size() - 1; i > -1; i--) {
 			final TempBlock tblock = affectedBlocks.get(i);
-			final boolean isTempAir = TEMP_AIR_BLOCKS.values().contains(tblock);
+			final boolean isTempAir = isIn(TEMP_AIR_BLOCKS, tblock);
 			new BukkitRunnable() {
 				@SuppressWarnings("deprecation")
 				@Override
 				public void run() {
+					forget(tblock);
 					tblock.revertBlock();
 					if (isTempAir && tblock.getState().getType() == Material.DOUBLE_PLANT) {
 						tblock.getBlock().getRelative(BlockFace.UP).setType(Material.DOUBLE_PLANT);
@@ -467,18 +478,7 @@ public class LavaFlow extends LavaAbility {
 				}
 			}.runTaskLater(ProjectKorra.plugin, (long) (i / shiftRemoveSpeed));
 
-			if (TEMP_LAVA_BLOCKS.values().contains(tblock)) {
-				affectedBlocks.remove(tblock);
-				TEMP_LAVA_BLOCKS.remove(tblock);
-			}
-			if (TEMP_LAND_BLOCKS.values().contains(tblock)) {
-				affectedBlocks.remove(tblock);
-				TEMP_LAND_BLOCKS.remove(tblock);
-			}
-			if (TEMP_AIR_BLOCKS.values().contains(tblock)) {
-				affectedBlocks.remove(tblock);
-				TEMP_AIR_BLOCKS.remove(tblock);
-			}
+			affectedBlocks.remove(tblock);
 		}
 
 		for (BukkitRunnable task : tasks) {
@@ -496,13 +496,13 @@ public class LavaFlow extends LavaAbility {
 		for (int i = affectedBlocks.size() - 1; i > -1; i--) {
 			final TempBlock tblock = affectedBlocks.get(i);
 			tblock.revertBlock();
-			if (TEMP_LAVA_BLOCKS.values().contains(tblock)) {
+			if (isIn(TEMP_LAVA_BLOCKS, tblock)) {
 				affectedBlocks.remove(tblock);
-				TEMP_LAVA_BLOCKS.remove(tblock);
+				TEMP_LAVA_BLOCKS.remove(tblock.getBlock());
 			}
-			if (TEMP_LAND_BLOCKS.values().contains(tblock)) {
+			if (isIn(TEMP_LAND_BLOCKS, tblock)) {
 				affectedBlocks.remove(tblock);
-				TEMP_LAND_BLOCKS.remove(tblock);
+				TEMP_LAND_BLOCKS.remove(tblock.getBlock());
 			}
 		}
 
@@ -511,6 +511,35 @@ public class LavaFlow extends LavaAbility {
 		}
 	}
 
+	private static boolean isIn(Map<Block, TempBlock> blocks, TempBlock tblock) {
+		return blocks.get(tblock.getBlock()) == tblock;
+	}
+
+	private static void forget(TempBlock tblock) {
+		Block block = tblock.getBlock();
+		TEMP_LAVA_BLOCKS.remove(block, tblock);
+		TEMP_LAND_BLOCKS.remove(block, tblock);
+		TEMP_AIR_BLOCKS.remove(block, tblock);
+	}
+
+	/**
+	 * Reverts every block still left by LavaFlow, including the blocks of
+	 * removed instances whose {@link #removeSlowly()} tasks have not run yet,
+	 * for when the plugin stops and those tasks are cancelled.
+	 */
+	public static void revertAll() {
+		List<TempBlock> remaining = new ArrayList<TempBlock>();
+		remaining.addAll(TEMP_LAVA_BLOCKS.values());
+		remaining.addAll(TEMP_LAND_BLOCKS.values());
+		remaining.addAll(TEMP_AIR_BLOCKS.values());
+		TEMP_LAVA_BLOCKS.clear();
+		TEMP_LAND_BLOCKS.clear();
+		TEMP_AIR_BLOCKS.clear();
+		for (TempBlock tblock : remaining) {
+			tblock.revertBlock();
+		}
+	}
+
 	/**
 	 * Returns a list of all the Lava blocks that are adjacent to the block at
 	 * loc.
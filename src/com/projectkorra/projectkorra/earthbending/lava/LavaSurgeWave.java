@@ -5,6 +5,7 @@ import com.projectkorra.projectkorra.ability.LavaAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.firebending.FireBlast;
+import com.projectkorra.projectkorra.util.BlockOwnership;
 import com.projectkorra.projectkorra.util.BlockSource;
 import com.projectkorra.projectkorra.util.BlockSource.BlockSourceType;
 import com.projectkorra.projectkorra.util.ClickType;
@@ -24,6 +25,9 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class LavaSurgeWave extends LavaAbility {
 
+	/** The {@link BlockOwnership} role of the lava of the wave. */
+	public static final String WAVE = "Wave";
+
 	private boolean progressing;
 	private boolean canHitSelf;
 	private long time;
@@ -259,7 +263,7 @@ public class LavaSurgeWave extends LavaAbility {
 		if (GeneralMethods.isRegionProtectedFromBuild(this, block.getLocation())) {
 			return;
 		} else if (!TempBlock.isTempBlock(block)) {
-			new TempBlock(block, Material.STATIONARY_LAVA, (byte) 8);
+			new TempBlock(block, Material.STATIONARY_LAVA, (byte) 8).setOwner(this, WAVE);
 			waveBlocks.put(block, block);
 		}
 	}
@@ -274,12 +278,7 @@ public class LavaSurgeWave extends LavaAbility {
 	}
 
 	public static boolean isBlockWave(Block block) {
-		for (LavaSurgeWave lavaWave : getAbilities(LavaSurgeWave.class)) {
-			if (lavaWave.waveBlocks.containsKey(block)) {
-				return true;
-			}
-		}
-		return false;
+		return BlockOwnership.isOwnedBy(block, LavaSurgeWave.class, WAVE);
 	}
 
 	public static void launch(Player player) {
@@ -21,6 +21,7 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.ability.MetalAbility;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.TempArmor;
 
 public class MetalClips extends MetalAbility {
@@ -32,6 +33,11 @@ public class MetalClips extends MetalAbility {
 		Material.IRON_BOOTS, Material.IRON_BLOCK, Material.IRON_AXE, Material.IRON_PICKAXE, 
 		Material.IRON_SWORD, Material.IRON_HOE, Material.IRON_SPADE, Material.IRON_DOOR 
 	};
+
+	static {
+		EntityLifecycle.register("MetalClips.ENTITY_CLIPS_COUNT", ENTITY_CLIPS_COUNT);
+		EntityLifecycle.register("MetalClips.TARGET_TO_ABILITY", TARGET_TO_ABILITY);
+	}
 	
 	private boolean isBeingWorn;
 	private boolean isControlling;
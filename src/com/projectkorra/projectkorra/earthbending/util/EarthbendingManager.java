@@ -6,6 +6,7 @@ import com.projectkorra.projectkorra.earthbending.Shockwave;
 import com.projectkorra.projectkorra.earthbending.Tremorsense;
 import com.projectkorra.projectkorra.earthbending.passive.EarthPassive;
 import com.projectkorra.projectkorra.util.RevertChecker;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 import org.bukkit.Bukkit;
 
@@ -18,12 +19,17 @@ public class EarthbendingManager implements Runnable {
 	}
 
 	public void run() {
-		EarthPassive.revertSands();
-		EarthPassive.handleMetalPassives();
-		RevertChecker.revertEarthBlocks();
-		Shockwave.progressAll();
-		Tremorsense.manage(Bukkit.getServer());
-		EarthTunnel.revertAirBlocks();
-		com.projectkorra.projectkorra.earthbending.passive.Tremorsense.updateGlow();
+		long start = TickProfiler.start();
+		try {
+			EarthPassive.revertSands();
+			EarthPassive.handleMetalPassives();
+			RevertChecker.revertEarthBlocks();
+			Shockwave.progressAll();
+			Tremorsense.manage(Bukkit.getServer());
+			EarthTunnel.revertAirBlocks();
+			com.projectkorra.projectkorra.earthbending.passive.Tremorsense.updateGlow();
+		} finally {
+			TickProfiler.record(EarthbendingManager.class, start);
+		}
 	}
 }
@@ -2,6 +2,7 @@ package com.projectkorra.projectkorra.firebending;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.FireAbility;
+import com.projectkorra.projectkorra.firebending.util.FireTracker;
 import com.projectkorra.projectkorra.waterbending.plant.PlantRegrowth;
 
 import org.bukkit.Location;
@@ -14,17 +15,12 @@ import org.bukkit.util.Vector;
 
 import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class BlazeArc extends FireAbility {
 	
-	private static final long DISSIPATE_REMOVE_TIME = 400;
 	private static final Material[] OVERWRITABLE_MATERIALS = { Material.SAPLING, Material.LONG_GRASS, Material.DEAD_BUSH, 
 			Material.YELLOW_FLOWER, Material.RED_ROSE, Material.BROWN_MUSHROOM, Material.RED_MUSHROOM, 
 			Material.FIRE, Material.SNOW, Material.TORCH };
-	private static final Map<Block, Player> IGNITED_BLOCKS = new ConcurrentHashMap<Block, Player>();
-	private static final Map<Block, Long> IGNITED_TIMES = new ConcurrentHashMap<Block, Long>();
-	private static final Map<Location, MaterialData> REPLACED_BLOCKS = new ConcurrentHashMap<Location, MaterialData>();
 	
 	private long time;
 	private long interval;
@@ -57,14 +53,13 @@ public class BlazeArc extends FireAbility {
 				if (isPlant(block) || isSnow(block)) {
 					new PlantRegrowth(player, block);
 				}
-			} else if (block.getType() != Material.FIRE) {
-				REPLACED_BLOCKS.put(block.getLocation(), block.getState().getData());
+			} else {
+				FireTracker.setReplaced(block);
 			}
 		}
 		
 		block.setType(Material.FIRE);
-		IGNITED_BLOCKS.put(block, this.player);
-		IGNITED_TIMES.put(block, System.currentTimeMillis());
+		FireTracker.setIgnited(block, this.player);
 	}
 
 	@Override
@@ -103,30 +98,6 @@ public class BlazeArc extends FireAbility {
 		}
 	}
 
-	public static void dissipateAll() {
-		if (DISSIPATE_REMOVE_TIME != 0) {
-			for (Block block : IGNITED_TIMES.keySet()) {
-				if (block.getType() != Material.FIRE) {
-					removeBlock(block);
-				} else {
-					long time = IGNITED_TIMES.get(block);
-					if (System.currentTimeMillis() > time + DISSIPATE_REMOVE_TIME) {
-						block.setType(Material.AIR);
-						removeBlock(block);
-					}
-				}
-			}
-		}
-	}
-
-	public static void handleDissipation() {
-		for (Block block : IGNITED_BLOCKS.keySet()) {
-			if (block.getType() != Material.FIRE) {
-				IGNITED_BLOCKS.remove(block);
-			}
-		}
-	}
-
 	public static boolean isIgnitable(Player player, Block block) {
 		if (block.getType() == Material.FIRE) {
 			return true;
@@ -140,12 +111,6 @@ public class BlazeArc extends FireAbility {
 		return isIgnitable(belowBlock);
 	}
 
-	public static void removeAllCleanup() {
-		for (Block block : IGNITED_BLOCKS.keySet()) {
-			removeBlock(block);
-		}
-	}
-
 	public static void removeAroundPoint(Location location, double radius) {
 		for (BlazeArc stream : getAbilities(BlazeArc.class)) {
 			if (stream.location.getWorld().equals(location.getWorld())) {
@@ -156,21 +121,6 @@ public class BlazeArc extends FireAbility {
 		}
 	}
 
-	@SuppressWarnings("deprecation")
-	public static void removeBlock(Block block) {
-		if (IGNITED_BLOCKS.containsKey(block)) {
-			IGNITED_BLOCKS.remove(block);
-		}
-		if (IGNITED_TIMES.containsKey(block)) {
-			IGNITED_TIMES.remove(block);
-		}
-		if (REPLACED_BLOCKS.containsKey(block.getLocation())) {
-			block.setType(REPLACED_BLOCKS.get(block.getLocation()).getItemType());
-			block.setData(REPLACED_BLOCKS.get(block.getLocation()).getData());
-			REPLACED_BLOCKS.remove(block.getLocation());
-		}
-	}
-
 	@Override
 	public String getName() {
 		return "Blaze";
@@ -248,23 +198,68 @@ public class BlazeArc extends FireAbility {
 	}
 
 	public static long getDissipateRemoveTime() {
-		return DISSIPATE_REMOVE_TIME;
+		return FireTracker.getDissipateRemoveTime();
 	}
 
 	public static Material[] getOverwritableMaterials() {
 		return OVERWRITABLE_MATERIALS;
 	}
 
+	/**
+	 * @deprecated Fire is tracked by {@link FireTracker}; this returns a copy.
+	 */
+	@Deprecated
 	public static Map<Block, Player> getIgnitedBlocks() {
-		return IGNITED_BLOCKS;
+		return FireTracker.getIgnitedBlocks();
 	}
 
+	/**
+	 * @deprecated Fire is tracked by {@link FireTracker}; this returns a copy.
+	 */
+	@Deprecated
 	public static Map<Block, Long> getIgnitedTimes() {
-		return IGNITED_TIMES;
+		return FireTracker.getIgnitedTimes();
 	}
 
+	/**
+	 * @deprecated Fire is tracked by {@link FireTracker}; this returns a copy.
+	 */
+	@Deprecated
 	public static Map<Location, MaterialData> getReplacedBlocks() {
-		return REPLACED_BLOCKS;
+		return FireTracker.getReplacedBlocks();
+	}
+
+	/**
+	 * @deprecated Use {@link FireTracker#removeBlock(Block)}.
+	 */
+	@Deprecated
+	public static void removeBlock(Block block) {
+		FireTracker.removeBlock(block);
+	}
+
+	/**
+	 * @deprecated Ignited fire dissipates on its own. Use
+	 *             {@link FireTracker#removeExtinguished()}.
+	 */
+	@Deprecated
+	public static void dissipateAll() {
+		FireTracker.removeExtinguished();
+	}
+
+	/**
+	 * @deprecated Use {@link FireTracker#removeExtinguished()}.
+	 */
+	@Deprecated
+	public static void handleDissipation() {
+		FireTracker.removeExtinguished();
+	}
+
+	/**
+	 * @deprecated Use {@link FireTracker#removeIgnited()}.
+	 */
+	@Deprecated
+	public static void removeAllCleanup() {
+		FireTracker.removeIgnited();
 	}
 
 	public void setLocation(Location location) {
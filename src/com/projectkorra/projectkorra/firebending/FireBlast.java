@@ -18,9 +18,11 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.FireAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.firebending.util.FireDamageTimer;
+import com.projectkorra.projectkorra.firebending.util.FireTracker;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.ParticleEffect;
 import com.projectkorra.projectkorra.waterbending.plant.PlantRegrowth;
@@ -59,7 +61,7 @@ public class FireBlast extends FireAbility {
 		setFields();
 		this.safeBlocks = safeBlocks;
 		this.damage = damage;
-
+
 		this.location = location.clone();
 		this.origin = location.clone();
 		this.direction = direction.clone().normalize();
@@ -150,8 +152,7 @@ public class FireBlast extends FireAbility {
 				}
 				
 				if (dissipate) {
-					BlazeArc.getIgnitedBlocks().put(block, player);
-					BlazeArc.getIgnitedTimes().put(block, System.currentTimeMillis());
+					FireTracker.setIgnited(block, player);
 				}
 			}
 		}
@@ -211,7 +212,7 @@ public class FireBlast extends FireAbility {
 	@Deprecated
 	public static boolean annihilateBlasts(Location location, double radius, Player source) {
 		boolean broke = false;
-		for (FireBlast blast : getAbilities(FireBlast.class)) {
+		for (FireBlast blast : AbilityIndex.getNear(location, radius, FireBlast.class)) {
 			Location fireBlastLocation = blast.location;
 			if (location.getWorld().equals(fireBlastLocation.getWorld()) && !blast.player.equals(source)) {
 				if (location.distanceSquared(fireBlastLocation) <= radius * radius) {
@@ -228,7 +229,7 @@ public class FireBlast extends FireAbility {
 
 	public static ArrayList<FireBlast> getAroundPoint(Location location, double radius) {
 		ArrayList<FireBlast> list = new ArrayList<FireBlast>();
-		for (FireBlast fireBlast : getAbilities(FireBlast.class)) {
+		for (FireBlast fireBlast : AbilityIndex.getNear(location, radius, FireBlast.class)) {
 			Location fireblastlocation = fireBlast.location;
 			if (location.getWorld().equals(fireblastlocation.getWorld())) {
 				if (location.distanceSquared(fireblastlocation) <= radius * radius) {
@@ -240,7 +241,7 @@ public class FireBlast extends FireAbility {
 	}
 
 	public static void removeFireBlastsAroundPoint(Location location, double radius) {
-		for (FireBlast fireBlast : getAbilities(FireBlast.class)) {
+		for (FireBlast fireBlast : AbilityIndex.getNear(location, radius, FireBlast.class)) {
 			Location fireBlastLocation = fireBlast.location;
 			if (location.getWorld().equals(fireBlastLocation.getWorld())) {
 				if (location.distanceSquared(fireBlastLocation) <= radius * radius) {
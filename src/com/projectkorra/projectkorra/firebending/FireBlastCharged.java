@@ -4,8 +4,11 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.ability.FireAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.avatar.AvatarState;
+import com.projectkorra.projectkorra.firebending.util.FireTracker;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.ParticleEffect;
 
 import org.bukkit.Effect;
@@ -28,6 +31,10 @@ public class FireBlastCharged extends FireAbility {
 
 	private static final Map<Entity, FireBlastCharged> EXPLOSIONS = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.register("FireBlastCharged.EXPLOSIONS", EXPLOSIONS);
+	}
+
 	private boolean charged;
 	private boolean launched;
 	private boolean canDamageBlocks;
@@ -87,7 +94,7 @@ public class FireBlastCharged extends FireAbility {
 
 	public static boolean annihilateBlasts(Location location, double radius, Player source) {
 		boolean broke = false;
-		for (FireBlastCharged chargedBlast : getAbilities(FireBlastCharged.class)) {
+		for (FireBlastCharged chargedBlast : AbilityIndex.getNear(location, radius, FireBlastCharged.class)) {
 			if (!chargedBlast.launched) {
 				continue;
 			}
@@ -117,7 +124,7 @@ public class FireBlastCharged extends FireAbility {
 	}
 
 	public static void removeFireballsAroundPoint(Location location, double radius) {
-		for (FireBlastCharged fireball : getAbilities(FireBlastCharged.class)) {
+		for (FireBlastCharged fireball : AbilityIndex.getNear(location, radius, FireBlastCharged.class)) {
 			if (!fireball.launched) {
 				continue;
 			}
@@ -226,13 +233,10 @@ public class FireBlastCharged extends FireAbility {
 	private void ignite(Location location) {
 		for (Block block : GeneralMethods.getBlocksAroundPoint(location, collisionRadius)) {
 			if (BlazeArc.isIgnitable(player, block)) {
-				if (block.getType() != Material.FIRE) {
-					BlazeArc.getReplacedBlocks().put(block.getLocation(), block.getState().getData());
-				}
+				FireTracker.setReplaced(block);
 				block.setType(Material.FIRE);
 				if (dissipate) {
-					BlazeArc.getIgnitedBlocks().put(block, player);
-					BlazeArc.getIgnitedTimes().put(block, System.currentTimeMillis());
+					FireTracker.setIgnited(block, player);
 				}
 			}
 		}
@@ -15,6 +15,7 @@ import org.bukkit.util.Vector;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.FireAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.firebending.util.FireDamageTimer;
 import com.projectkorra.projectkorra.util.ParticleEffect;
@@ -67,21 +68,19 @@ public class FireShield extends FireAbility {
 	 */
 	@Deprecated
 	public static boolean isWithinShield(Location loc) {
-		for (FireShield fshield : getAbilities(FireShield.class)) {
-			Location playerLoc = fshield.player.getLocation();
-
+		for (FireShield fshield : AbilityIndex.getContaining(loc, FireShield.class)) {
 			if (fshield.shield) {
+				Location playerLoc = fshield.player.getLocation();
 				if (!playerLoc.getWorld().equals(loc.getWorld())) {
-					return false;
+					continue;
 				} else if (playerLoc.distanceSquared(loc) <= fshield.radius * fshield.radius) {
 					return true;
 				}
-			} else {
-				Location tempLoc = playerLoc.clone().add(playerLoc.multiply(fshield.discRadius));
-				if (!tempLoc.getWorld().equals(loc.getWorld())) {
-					return false;
-				} else if (tempLoc.getWorld().equals(loc.getWorld())
-						&& tempLoc.distance(loc) <= fshield.discRadius * fshield.discRadius) {
+			} else if (fshield.location != null) {
+				Location discLoc = fshield.location;
+				if (!discLoc.getWorld().equals(loc.getWorld())) {
+					continue;
+				} else if (discLoc.distanceSquared(loc) <= fshield.discRadius * fshield.discRadius) {
 					return true;
 				}
 			}
@@ -155,9 +154,10 @@ public class FireShield extends FireAbility {
 				Vector direction = location.getDirection();
 				location = location.clone().add(direction.multiply(radius));
 
+				Vector vector = new Vector();
 				for (double theta = 0; theta < 360; theta += 20) {
-					Vector vector = GeneralMethods.getOrthogonalVector(direction, theta, discRadius);
-					Block block = location.clone().add(vector).getBlock();
+					GeneralMethods.getOrthogonalVector(direction, theta, discRadius, vector);
+					Block block = location.getWorld().getBlockAt(Location.locToBlock(location.getX() + vector.getX()), Location.locToBlock(location.getY() + vector.getY()), Location.locToBlock(location.getZ() + vector.getZ()));
 					if (!blocks.contains(block) && !GeneralMethods.isSolid(block) && !block.isLiquid()) {
 						blocks.add(block);
 					}
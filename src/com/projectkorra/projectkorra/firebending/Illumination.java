@@ -12,6 +12,7 @@ import org.bukkit.entity.Player;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.FireAbility;
 import com.projectkorra.projectkorra.util.TempBlock;
+import com.projectkorra.projectkorra.util.VisualTempBlock;
 
 public class Illumination extends FireAbility {
 	
@@ -24,6 +25,7 @@ public class Illumination extends FireAbility {
 	private Material normalType;
 	private TempBlock block;
 	private int oldLevel;
+	private boolean clientSideBlocks;
 	
 	public Illumination(Player player) {
 		super(player);
@@ -32,6 +34,7 @@ public class Illumination extends FireAbility {
 		this.cooldown = getConfig().getLong("Abilities.Fire.Illumination.Cooldown");
 		this.range = getDayFactor(this.range);
 		this.lightThreshold = getConfig().getInt("Abilities.Fire.Illumination.LightThreshold");
+		this.clientSideBlocks = getConfig().getBoolean("Abilities.Fire.Illumination.ClientSideBlocks");
 		
 		Illumination oldIllumination = getAbility(player, Illumination.class);
 		if (oldIllumination != null) {
@@ -90,7 +93,9 @@ public class Illumination extends FireAbility {
 
 	private void revert() {
 		if (block != null) {
-			TempBlock.removeBlock(block.getBlock());
+			if (!(block instanceof VisualTempBlock)) {
+				TempBlock.removeBlock(block.getBlock());
+			}
 			BLOCKS.remove(block);
 			
 			block.revertBlock();
@@ -108,7 +113,7 @@ public class Illumination extends FireAbility {
 				&& standBlock.getType() != Material.LEAVES && standBlock.getType() != Material.LEAVES_2) 
 				&& block == null && !BLOCKS.containsKey(standBlock)) {
 			
-			this.block = new TempBlock(standingBlock, Material.TORCH, (byte)0);
+			this.block = createTorch(standingBlock);
 			BLOCKS.put(block, player);
 		} else if ((BlazeArc.isIgnitable(player, standingBlock) 
 				&& standBlock.getType() != Material.LEAVES && standBlock.getType() != Material.LEAVES_2)
@@ -117,7 +122,7 @@ public class Illumination extends FireAbility {
 				&& GeneralMethods.isSolid(standBlock)) {
 			revert();
 			
-			this.block = new TempBlock(standingBlock, Material.TORCH, (byte)0);
+			this.block = createTorch(standingBlock);
 			BLOCKS.put(block, player);
 		} else if (block == null) {
 			return;
@@ -128,6 +133,13 @@ public class Illumination extends FireAbility {
 		}
 	}
 
+	private TempBlock createTorch(Block block) {
+		if (clientSideBlocks) {
+			return new VisualTempBlock(block, Material.TORCH, (byte) 0);
+		}
+		return new TempBlock(block, Material.TORCH, (byte) 0);
+	}
+
 	@Override
 	public String getName() {
 		return "Illumination";
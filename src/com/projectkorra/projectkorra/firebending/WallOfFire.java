@@ -17,6 +17,7 @@ import com.projectkorra.projectkorra.ability.FireAbility;
 import com.projectkorra.projectkorra.firebending.util.FireDamageTimer;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.ParticleEffect;
+import com.projectkorra.projectkorra.util.ShapeTemplate;
 import com.projectkorra.projectkorra.util.TempBlock;
 
 public class WallOfFire extends FireAbility {
@@ -152,20 +153,20 @@ public class WallOfFire extends FireAbility {
 		Vector orthoud = GeneralMethods.getOrthogonalVector(direction, 90, 1);
 		orthoud = orthoud.normalize();
 
-		double w = width;
-		double h = height;
-
-		for (double i = -w; i <= w; i++) {
-			for (double j = -h; j <= h; j++) {
-				Location location = origin.clone().add(orthoud.clone().multiply(j));
-				location = location.add(ortholr.clone().multiply(i));
-				if (GeneralMethods.isRegionProtectedFromBuild(this, location)) {
-					continue;
-				}
-				Block block = location.getBlock();
-				if (!blocks.contains(block)) {
-					blocks.add(block);
-				}
+		ShapeTemplate wall = ShapeTemplate.getWall(width, height);
+		Location location = origin.clone();
+		for (int k = 0; k < wall.size(); k++) {
+			int i = wall.getX(k);
+			int j = wall.getY(k);
+			location.setX(origin.getX() + orthoud.getX() * j + ortholr.getX() * i);
+			location.setY(origin.getY() + orthoud.getY() * j + ortholr.getY() * i);
+			location.setZ(origin.getZ() + orthoud.getZ() * j + ortholr.getZ() * i);
+			if (GeneralMethods.isRegionProtectedFromBuild(this, location)) {
+				continue;
+			}
+			Block block = location.getBlock();
+			if (!blocks.contains(block)) {
+				blocks.add(block);
 			}
 		}
 	}
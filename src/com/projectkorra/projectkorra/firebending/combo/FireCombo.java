@@ -30,6 +30,7 @@ import com.projectkorra.projectkorra.firebending.util.FireDamageTimer;
 import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.ParticleEffect;
+import com.projectkorra.projectkorra.util.TrigTable;
 
 /*
  * TODO: Combo classes should eventually be rewritten so that each combo is
@@ -388,11 +389,12 @@ public class FireCombo extends FireAbility implements ComboAbility {
 			fs.runTaskTimer(ProjectKorra.plugin, 0, 1L);
 			tasks.add(fs);
 
-			for (double i = -180; i <= 180; i += 3) {
-				Location tempLoc = location.clone();
-				Vector newDir = direction.clone().multiply(radius * Math.cos(Math.toRadians(i)));
-				tempLoc.add(newDir);
-				tempLoc.setY(tempLoc.getY() + (radius * Math.sin(Math.toRadians(i))));
+			Location tempLoc = location.clone();
+			for (int i = -180; i <= 180; i += 3) {
+				double cos = radius * TrigTable.cos(i);
+				tempLoc.setX(location.getX() + direction.getX() * cos);
+				tempLoc.setY(location.getY() + direction.getY() * cos + radius * TrigTable.sin(i));
+				tempLoc.setZ(location.getZ() + direction.getZ() * cos);
 				ParticleEffect.FLAME.display(tempLoc, 0, 0, 0, 0, 1);
 			}
 
@@ -4,6 +4,7 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.CombustionAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.util.DamageHandler;
@@ -84,7 +85,7 @@ public class Combustion extends CombustionAbility {
 	 */
 	@Deprecated
 	public static boolean removeAroundPoint(Location loc, double radius) {
-		for (Combustion combustion : getAbilities(Combustion.class)) {
+		for (Combustion combustion : AbilityIndex.getNear(loc, radius, Combustion.class)) {
 			if (combustion.location.getWorld().equals(loc.getWorld())) {
 				if (combustion.location.distanceSquared(loc) <= radius * radius) {
 					explode(combustion.getPlayer());
@@ -107,14 +108,12 @@ public class Combustion extends CombustionAbility {
 			if(canFireGrief()) {
 				block.getWorld().createExplosion(block.getX(), block.getY(), block.getZ(), power, true, canBreakBlocks);
 			}
-			for (Entity entity : block.getWorld().getEntities()) {
+			for (Entity entity : GeneralMethods.getEntitiesAroundPoint(block, radius)) {
 				if (entity instanceof LivingEntity) {
-					if (entity.getLocation().distanceSquared(block) < radius * radius) { // They are close enough to the explosion.
-						DamageHandler.damageEntity((LivingEntity) entity, damage, this);
-						AirAbility.breakBreathbendingHold(entity);
+					DamageHandler.damageEntity((LivingEntity) entity, damage, this);
+					AirAbility.breakBreathbendingHold(entity);
 				}
 			}
-		}
 		remove();
 	}
 
@@ -142,15 +141,14 @@ public class Combustion extends CombustionAbility {
 		if (block != null) {
 			if (block.getType() != Material.AIR && !isWater(block)) {
 				createExplosion(block.getLocation(), power, breakBlocks);
+				return;
 			}
 		}
 
-		for (Entity entity : location.getWorld().getEntities()) {
-			if (entity instanceof LivingEntity) {
-				if (entity.getLocation().distanceSquared(location) <= 4 && !entity.equals(player)) {
-					createExplosion(location, power, breakBlocks);
-				}
-			}
+		// Sweep the distance travelled this tick so that fast shots cannot skip past an entity.
+		if (GeneralMethods.getNearestEntityAlongPath(location, direction, speedFactor, 2, true, player, null) != null) {
+			createExplosion(location, power, breakBlocks);
+			return;
 		}
 		advanceLocation();
 	}
@@ -1,10 +1,12 @@
 package com.projectkorra.projectkorra.firebending.lightning;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.bukkit.Location;
 import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -24,6 +26,12 @@ public class Lightning extends LightningAbility {
 	}
 
 	private static final int POINT_GENERATION = 5;
+	/** How far apart the particles of an arc are, in blocks. */
+	private static final double PARTICLE_SPACING = 0.15;
+	/** How many ticks each particle stays visible for. */
+	private static final int PARTICLE_TICKS = 6;
+	/** How close an entity needs to be to an arc to be electrocuted. */
+	private static final double HIT_RADIUS = 2.5;
 	
 	private boolean charged;
 	private boolean hitWater;
@@ -51,8 +59,12 @@ public class Lightning extends LightningAbility {
 	private Location destination;
 	private ArrayList<Entity> affectedEntities;
 	private ArrayList<Arc> arcs;
-	private ArrayList<BukkitRunnable> tasks;
+	private ArrayList<Arc> strikingArcs;
 	private ArrayList<Location> locations;
+	private Location display;
+	private World segmentWorld;
+	private double[] segments;
+	private int segmentCount;
 	
 	public Lightning(Player player) {
 		super(player);
@@ -73,8 +85,10 @@ public class Lightning extends LightningAbility {
 		this.state = State.START;
 		this.affectedEntities = new ArrayList<>();
 		this.arcs = new ArrayList<>();
-		this.tasks = new ArrayList<>();
+		this.strikingArcs = new ArrayList<>();
 		this.locations = new ArrayList<>();
+		this.display = player.getLocation();
+		this.segments = new double[96];
 	
 		this.selfHitWater = getConfig().getBoolean("Abilities.Fire.Lightning.SelfHitWater");
 		this.selfHitClose = getConfig().getBoolean("Abilities.Fire.Lightning.SelfHitClose");
@@ -175,15 +189,16 @@ public class Lightning extends LightningAbility {
 
 	/**
 	 * Progresses the instance of this ability by 1 tick. This is the heart of the ability, it
-	 * checks if it needs to remove itself, and handles the initial Lightning Arc generation.
+	 * checks if it needs to remove itself, handles the initial Lightning Arc generation and
+	 * animates the arcs once they strike.
 	 * 
-	 * Once all of the arcs have been created then this ability instance gets removed, but the
-	 * BukkitRunnables continue until they remove themselves.
+	 * Every arc is animated from here, so a strike does not schedule any tasks of its own. The
+	 * ability removes itself once all of its arcs have finished animating.
 	 **/
 	@Override
 	public void progress() {
 		if (player.isDead() || !player.isOnline()) {
-			removeWithTasks();
+			remove();
 			return;
 		} else if (!bPlayer.canBendIgnoreCooldowns(this)) {
 			remove();
@@ -246,31 +261,24 @@ public class Lightning extends LightningAbility {
 			arcs.addAll(subArcs);
 			state = State.STRIKE;
 		} else if (state == State.STRIKE) {
-			for (int i = 0; i < arcs.size(); i++) {
-				Arc arc = arcs.get(i);
-				for (int j = 0; j < arc.getAnimationLocations().size() - 1; j++) {
-					final Location iterLoc = arc.getAnimationLocations().get(j).getLocation().clone();
-					final Location dest = arc.getAnimationLocations().get(j + 1).getLocation().clone();
-					if (selfHitClose 
-							&& player.getLocation().distanceSquared(iterLoc) < 9 
-							&& !isTransparentForLightning(player, iterLoc.getBlock()) 
-							&& !affectedEntities.contains(player)) {
-						affectedEntities.add(player);
-						electrocute(player);
-					}
+			// Arcs added by water or chain hits during the last tick start animating now.
+			for (Arc arc : arcs) {
+				strike(arc);
+				strikingArcs.add(arc);
+			}
+			arcs.clear();
 
-					while (iterLoc.distanceSquared(dest) > 0.15 * 0.15) {
-						BukkitRunnable task = new LightningParticle(arc, iterLoc.clone(), selfHitWater, waterArcs);
-						double timer = arc.getAnimationLocations().get(j).getAnimCounter() / 2;
-						task.runTaskTimer(ProjectKorra.plugin, (long) timer, 1);
-						tasks.add(task);
-						iterLoc.add(GeneralMethods.getDirection(iterLoc, dest).normalize().multiply(0.15));
-					}
+			segmentCount = 0;
+			for (int i = 0; i < strikingArcs.size(); i++) {
+				if (!animate(strikingArcs.get(i))) {
+					strikingArcs.remove(i);
+					i--;
 				}
-				arcs.remove(i);
-				i--;
 			}
-			if (tasks.size() == 0) {
+			if (!hitEntities()) {
+				return;
+			}
+			if (strikingArcs.isEmpty() && arcs.isEmpty()) {
 				remove();
 				return;
 			}
@@ -278,20 +286,235 @@ public class Lightning extends LightningAbility {
 	}
 
 	/**
-	 * Removes the instance of this ability and cancels any current runnables
+	 * Lays out the particles of an arc as it strikes and electrocutes the player if the arc
+	 * passes through a solid block close to them.
 	 */
-	public void removeWithTasks() {
-		for (int i = 0; i < tasks.size(); i++) {
-			tasks.get(i).cancel();
-			i--;
+	private void strike(Arc arc) {
+		Location playerLoc = player.getLocation();
+		if (selfHitClose && playerLoc.getWorld().equals(arc.world)) {
+			double[] points = arc.points;
+			for (int i = 0; i < (arc.pointCount - 1) * 3 && !affectedEntities.contains(player); i += 3) {
+				double dx = playerLoc.getX() - points[i];
+				double dy = playerLoc.getY() - points[i + 1];
+				double dz = playerLoc.getZ() - points[i + 2];
+				if (dx * dx + dy * dy + dz * dz < 9 && !isTransparentForLightning(player, getBlock(arc.world, points, i))) {
+					affectedEntities.add(player);
+					electrocute(player);
+				}
+			}
+		}
+		arc.layOutParticles();
+	}
+
+	/**
+	 * Shows the particles of an arc for the current tick. Particles on their first tick stop the
+	 * arc when they reach a solid block, branch out when they reach water and are queued as
+	 * segments for the entity hit test.
+	 * 
+	 * @return false once the arc has finished animating
+	 */
+	private boolean animate(Arc arc) {
+		int age = arc.age++;
+		if (arc.cancelled || arc.particleCount == 0) {
+			return false;
+		}
+
+		double[] particles = arc.particles;
+		int[] ticks = arc.particleTicks;
+		int firstNew = -1;
+		int newCount = 0;
+		for (int i = 0; i < arc.particleCount; i++) {
+			int start = ticks[i];
+			if (start > age) {
+				break;
+			} else if (age - start >= PARTICLE_TICKS) {
+				continue;
+			}
+
+			int p = i * 3;
+			display.setWorld(arc.world);
+			display.setX(particles[p]);
+			display.setY(particles[p + 1]);
+			display.setZ(particles[p + 2]);
+			playLightningbendingParticle(display, 0F, 0F, 0F);
+			if (start != age) {
+				continue;
+			}
+
+			Block block = getBlock(arc.world, particles, p);
+			if (!isTransparentForLightning(player, block)) {
+				arc.cancel();
+				break;
+			}
+			// We only want to consider this particle as part of the location
+			// on the its first tick, when it actually does the electrocution.
+			// The later ticks are just for visual purposes.
+			locations.add(block.getLocation());
+
+			// Handle Water electrocution
+			if (!hitWater && (isWater(block) || (arcOnIce && isIce(block)))) {
+				hitWater = true;
+				if (isIce(block)) {
+					hitIce = true;
+				}
+
+				for (int w = 0; w < waterArcs; w++) {
+					Location origin = new Location(arc.world, particles[p], particles[p + 1], particles[p + 2]);
+					origin.add(new Vector((Math.random() - 0.5) * 2, 0, (Math.random() - 0.5) * 2));
+					Location destination = origin.clone().add(new Vector((Math.random() - 0.5) * waterArcRange, Math.random() - 0.7, (Math.random() - 0.5) * waterArcRange));
+					Arc newArc = new Arc(origin, destination);
+					newArc.generatePoints(POINT_GENERATION);
+					arcs.add(newArc);
+				}
+			}
+
+			if (firstNew < 0) {
+				firstNew = i;
+			}
+			newCount++;
+		}
+
+		// The particles that start on the same tick are consecutive, so they form one polyline.
+		if (newCount == 1) {
+			addSegment(arc.world, particles, firstNew, firstNew);
+		} else {
+			for (int i = firstNew; i < firstNew + newCount - 1; i++) {
+				addSegment(arc.world, particles, i, i + 1);
+			}
+		}
+		return !arc.cancelled && age + 1 < ticks[arc.particleCount - 1] + PARTICLE_TICKS;
+	}
+
+	private void addSegment(World world, double[] particles, int from, int to) {
+		if (segmentCount > 0 && !world.equals(segmentWorld)) {
+			return;
+		}
+		segmentWorld = world;
+		if ((segmentCount + 1) * 6 > segments.length) {
+			segments = Arrays.copyOf(segments, segments.length * 2);
+		}
+		System.arraycopy(particles, from * 3, segments, segmentCount * 6, 3);
+		System.arraycopy(particles, to * 3, segments, segmentCount * 6 + 3, 3);
+		segmentCount++;
+	}
+
+	/**
+	 * Electrocutes the entities close to any of the segments queued this tick. The entities
+	 * around all of the segments are looked up once, and each one is then measured against the
+	 * segments.
+	 * 
+	 * @return false if this ability was removed
+	 */
+	private boolean hitEntities() {
+		if (segmentCount == 0) {
+			return true;
 		}
+
+		double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, minZ = Double.MAX_VALUE;
+		double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, maxZ = -Double.MAX_VALUE;
+		for (int i = 0; i < segmentCount * 6; i += 3) {
+			minX = Math.min(minX, segments[i]);
+			minY = Math.min(minY, segments[i + 1]);
+			minZ = Math.min(minZ, segments[i + 2]);
+			maxX = Math.max(maxX, segments[i]);
+			maxY = Math.max(maxY, segments[i + 1]);
+			maxZ = Math.max(maxZ, segments[i + 2]);
+		}
+		double halfX = (maxX - minX) / 2, halfY = (maxY - minY) / 2, halfZ = (maxZ - minZ) / 2;
+		Location center = new Location(segmentWorld, minX + halfX, minY + halfY, minZ + halfZ);
+		double radius = Math.sqrt(halfX * halfX + halfY * halfY + halfZ * halfZ) + HIT_RADIUS;
+
+		for (Entity entity : GeneralMethods.getEntitiesAroundPoint(center, radius)) {
+			/*
+			 * If the player is in water we will electrocute them only if they are standing
+			 * in water. If the lightning hit ice we can electrocute them all the time.
+			 */
+			if (entity.equals(player) 
+					&& !(selfHitWater && hitWater && isWater(player.getLocation().getBlock()))
+					&& !(selfHitWater && hitIce)) {
+				continue;
+			}
+
+			if (entity instanceof LivingEntity && !affectedEntities.contains(entity) && isNearSegment(entity.getLocation())) {
+				affectedEntities.add(entity);
+				LivingEntity lent = (LivingEntity) entity;
+				if (lent instanceof Player) {
+					lent.getWorld().playSound(lent.getLocation(), Sound.ENTITY_CREEPER_HURT, 1, 0.01F);
+					player.getWorld().playSound(player.getLocation(), Sound.ENTITY_CREEPER_HURT, 1, 0.01F);
+					Player p = (Player) lent;
+					Lightning light = getAbility(p, Lightning.class);
+					if (light != null && light.state == State.START) {
+						light.charged = true;
+						remove();
+						return false;
+					}
+				}
+				
+				electrocute(lent);
+
+				// Handle Chain Lightning
+				if (maxChainArcs >= 1 && Math.random() <= chainArcChance) {
+					maxChainArcs--;
+					for (Entity ent : GeneralMethods.getEntitiesAroundPoint(lent.getLocation(), chainRange)) {
+						if (!ent.equals(player) && !ent.equals(lent) && ent instanceof LivingEntity
+								&& !affectedEntities.contains(ent)) {
+							origin = lent.getLocation().add(0, 1, 0);
+							destination = ent.getLocation().add(0, 1, 0);
+							Arc newArc = new Arc(origin, destination);
+							newArc.generatePoints(POINT_GENERATION);
+							arcs.add(newArc);
+							break;
+						}
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean isNearSegment(Location location) {
+		double x = location.getX();
+		double y = location.getY();
+		double z = location.getZ();
+		for (int i = 0; i < segmentCount * 6; i += 6) {
+			double ax = segments[i], ay = segments[i + 1], az = segments[i + 2];
+			double dx = segments[i + 3] - ax, dy = segments[i + 4] - ay, dz = segments[i + 5] - az;
+			double lengthSquared = dx * dx + dy * dy + dz * dz;
+			double t = 0;
+			if (lengthSquared > 0) {
+				t = ((x - ax) * dx + (y - ay) * dy + (z - az) * dz) / lengthSquared;
+				t = Math.max(0, Math.min(1, t));
+			}
+			double px = ax + dx * t - x, py = ay + dy * t - y, pz = az + dz * t - z;
+			if (px * px + py * py + pz * pz <= HIT_RADIUS * HIT_RADIUS) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Block getBlock(World world, double[] coordinates, int index) {
+		return world.getBlockAt(Location.locToBlock(coordinates[index]), Location.locToBlock(coordinates[index + 1]), Location.locToBlock(coordinates[index + 2]));
+	}
+
+	/**
+	 * Removes the instance of this ability. The arcs are animated by the ability itself, so
+	 * there are no runnables left to cancel.
+	 * 
+	 * @deprecated Use {@link #remove()}
+	 */
+	@Deprecated
+	public void removeWithTasks() {
 		remove();
 	}
 
 	/**
 	 * Represents a Lightning Arc Point particle animation. This basically just holds a location and
 	 * counts the amount of times that a particle has been animated.
-	 * **/
+	 * 
+	 * @deprecated Arcs keep their points in a flat array now. Use {@link Arc#getPoints()}.
+	 **/
+	@Deprecated
 	public class AnimationLocation {
 		private Location location;
 		private int animationCounter;
@@ -313,32 +536,38 @@ public class Lightning extends LightningAbility {
 			this.animationCounter = animationCounter;
 		}
 
-		public void setLocation(Location location) {
+		public void setLocation(Location location) {
 			this.location = location;
 		}
 	}
 
 	/**
-	 * An Arc represents a Lightning arc for the specific ability. These Arcs contain a list of
-	 * Particles that are used to display the entire arc. Arcs can also generate a list of subarcs
-	 * that chain off of their own instance.
+	 * An Arc represents a Lightning arc for the specific ability. The points of an arc are kept
+	 * in a flat array of x, y, z coordinates, and so are the particles used to display it once it
+	 * strikes, each with the tick on which it first shows. Arcs can also generate a list of
+	 * subarcs that chain off of their own instance.
 	 **/
 	public class Arc {
 		private int animationCounter;
+		private int firstCounter;
+		private int pointCount;
+		private int particleCount;
+		private int age;
+		private boolean cancelled;
+		private double[] points;
+		private double[] particles;
+		private int[] particleTicks;
+		private World world;
 		private Vector direction;
-		private ArrayList<Location> points;
-		private ArrayList<AnimationLocation> animationLocations;
-		private ArrayList<LightningParticle> particles;
 		private ArrayList<Arc> subArcs;
+		private ArrayList<Location> pointLocations;
 
 		public Arc(Location startPoint, Location endPoint) {
-			points = new ArrayList<>();
-			points.add(startPoint.clone());
-			points.add(endPoint.clone());
+			world = startPoint.getWorld();
+			points = new double[] { startPoint.getX(), startPoint.getY(), startPoint.getZ(), endPoint.getX(), endPoint.getY(), endPoint.getZ() };
+			pointCount = 2;
 			direction = GeneralMethods.getDirection(startPoint, endPoint);
-			particles = new ArrayList<>();
 			subArcs = new ArrayList<>();
-			animationLocations = new ArrayList<>();
 			animationCounter = 0;
 		}
 
@@ -346,10 +575,7 @@ public class Lightning extends LightningAbility {
 		 * Stops this Arc from further animating or doing damage.
 		 */
 		public void cancel() {
-			for (int i = 0; i < particles.size(); i++) {
-				particles.get(i).cancel();
-			}
-
+			cancelled = true;
 			for (Arc subArc : subArcs) {
 				subArc.cancel();
 			}
@@ -367,9 +593,9 @@ public class Lightning extends LightningAbility {
 		public ArrayList<Arc> generateArcs(double chance, double range, double maxArcAngle) {
 			ArrayList<Arc> arcs = new ArrayList<>();
 			
-			for (int i = 0; i < animationLocations.size(); i++) {
+			for (int i = 0; i < pointCount; i++) {
 				if (Math.random() < chance) {
-					Location loc = animationLocations.get(i).getLocation();
+					Location loc = new Location(world, points[i * 3], points[i * 3 + 1], points[i * 3 + 2]);
 					double angle = (Math.random() - 0.5) * maxArcAngle * 2;
 					Vector dir = GeneralMethods.rotateXZ(direction.clone(), angle);
 					double randRange = (Math.random() * range) + (range / 3.0);
@@ -378,7 +604,7 @@ public class Lightning extends LightningAbility {
 					Arc arc = new Arc(loc, loc2);
 					
 					subArcs.add(arc);
-					arc.setAnimationCounter(animationLocations.get(i).getAnimCounter());
+					arc.setAnimationCounter(firstCounter + i);
 					arc.generatePoints(POINT_GENERATION);
 					arcs.add(arc);
 					arcs.addAll(arc.generateArcs(chance / 2.0, range / 2.0, maxArcAngle));
@@ -398,14 +624,17 @@ public class Lightning extends LightningAbility {
 		 *            complexity
 		 **/
 		public void generatePoints(int times) {
+			double dirX = direction.getX();
+			double dirY = direction.getY();
+			double dirZ = direction.getZ();
 			for (int i = 0; i < times; i++) {
-				for (int j = 0; j < points.size() - 1; j += 2) {
-					Location loc1 = points.get(j);
-					Location loc2 = points.get(j + 1);
-					double adjac = 0;
-					if (loc1.getWorld().equals(loc2.getWorld())) {
-						adjac = loc1.distance(loc2) / 2;
-					}
+				double[] split = new double[(pointCount * 2 - 1) * 3];
+				for (int j = 0; j < pointCount - 1; j++) {
+					int from = j * 3;
+					int to = from + 3;
+					double x = points[from], y = points[from + 1], z = points[from + 2];
+					double ex = points[to] - x, ey = points[to + 1] - y, ez = points[to + 2] - z;
+					double adjac = Math.sqrt(ex * ex + ey * ey + ez * ez) / 2;
 					
 					double angle = (Math.random() - 0.5) * maxArcAngle;
 					
@@ -413,17 +642,71 @@ public class Lightning extends LightningAbility {
 					
 					double radians = Math.toRadians(angle);
 					double hypot = adjac / Math.cos(radians);
-					Vector dir = GeneralMethods.rotateXZ(direction.clone(), angle);
-					Location newLoc = loc1.clone().add(dir.normalize().multiply(hypot));
+					double cos = Math.cos(radians);
+					double sin = Math.sin(radians);
+					double rx = dirX * cos - dirZ * sin;
+					double rz = dirX * sin + dirZ * cos;
+					double length = Math.sqrt(rx * rx + dirY * dirY + rz * rz);
+					double scale = length > 0 ? hypot / length : 0;
 					
-					newLoc.add(0, (Math.random() - 0.5) / 2.0, 0);
-					points.add(j + 1, newLoc);
+					int out = j * 6;
+					split[out] = x;
+					split[out + 1] = y;
+					split[out + 2] = z;
+					split[out + 3] = x + rx * scale;
+					split[out + 4] = y + dirY * scale + (Math.random() - 0.5) / 2.0;
+					split[out + 5] = z + rz * scale;
 				}
+				System.arraycopy(points, (pointCount - 1) * 3, split, split.length - 3, 3);
+				points = split;
+				pointCount = pointCount * 2 - 1;
 			}
-			for (int i = 0; i < points.size(); i++) {
-				animationLocations.add(new AnimationLocation(points.get(i), animationCounter));
-				animationCounter++;
+			pointLocations = null;
+			firstCounter = animationCounter;
+			animationCounter += pointCount;
+		}
+
+		/**
+		 * Fills in the particles along the arc, spaced {@link Lightning#PARTICLE_SPACING} apart.
+		 * Each particle first shows on half the animation counter of the point it follows, so the
+		 * arc travels outwards from its start.
+		 */
+		private void layOutParticles() {
+			int count = 0;
+			for (int j = 0; j < pointCount - 1; j++) {
+				count += getParticleCount(j);
 			}
+			particles = new double[count * 3];
+			particleTicks = new int[count];
+			particleCount = 0;
+			for (int j = 0; j < pointCount - 1; j++) {
+				int segmentParticles = getParticleCount(j);
+				if (segmentParticles == 0) {
+					continue;
+				}
+				int from = j * 3;
+				double dx = points[from + 3] - points[from];
+				double dy = points[from + 4] - points[from + 1];
+				double dz = points[from + 5] - points[from + 2];
+				double step = PARTICLE_SPACING / Math.sqrt(dx * dx + dy * dy + dz * dz);
+				int tick = (firstCounter + j) / 2;
+				for (int k = 0; k < segmentParticles; k++) {
+					int p = particleCount * 3;
+					particles[p] = points[from] + dx * step * k;
+					particles[p + 1] = points[from + 1] + dy * step * k;
+					particles[p + 2] = points[from + 2] + dz * step * k;
+					particleTicks[particleCount++] = tick;
+				}
+			}
+		}
+
+		private int getParticleCount(int segment) {
+			int from = segment * 3;
+			double dx = points[from + 3] - points[from];
+			double dy = points[from + 4] - points[from + 1];
+			double dz = points[from + 5] - points[from + 2];
+			double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+			return length > PARTICLE_SPACING ? (int) Math.ceil(length / PARTICLE_SPACING) - 1 : 0;
 		}
 
 		public int getAnimationCounter() {
@@ -442,16 +725,54 @@ public class Lightning extends LightningAbility {
 			this.direction = direction;
 		}
 
+		/**
+		 * The list is built on the first call after the points are generated and reused after
+		 * that, so it must not be modified.
+		 * 
+		 * @return The points of this arc
+		 */
 		public ArrayList<Location> getPoints() {
-			return points;
+			if (pointLocations == null) {
+				pointLocations = new ArrayList<>(pointCount);
+				for (int i = 0; i < pointCount; i++) {
+					pointLocations.add(new Location(world, points[i * 3], points[i * 3 + 1], points[i * 3 + 2]));
+				}
+			}
+			return pointLocations;
 		}
 
+		/**
+		 * @deprecated Use {@link #getPoints()}.
+		 */
+		@Deprecated
 		public ArrayList<AnimationLocation> getAnimationLocations() {
+			ArrayList<AnimationLocation> animationLocations = new ArrayList<>(pointCount);
+			ArrayList<Location> locations = getPoints();
+			for (int i = 0; i < locations.size(); i++) {
+				animationLocations.add(new AnimationLocation(locations.get(i), firstCounter + i));
+			}
 			return animationLocations;
 		}
 
+		/**
+		 * @deprecated Arcs are animated by {@link Lightning#progress()} and have no particle
+		 *             tasks, so this list is always empty. Use {@link #getParticleCount()}.
+		 */
+		@Deprecated
 		public ArrayList<LightningParticle> getParticles() {
-			return particles;
+			return new ArrayList<>();
+		}
+
+		public int getPointCount() {
+			return pointCount;
+		}
+
+		public int getParticleCount() {
+			return particleCount;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
 		}
 
 		public ArrayList<Arc> getSubArcs() {
@@ -463,10 +784,10 @@ public class Lightning extends LightningAbility {
 	/**
 	 * A Runnable Particle that continuously displays itself until it reaches a certain time limit.
 	 * 
-	 * These LightningParticles do the actual checking for player collision and handle damaging any
-	 * entities. These Runnables also check to see if they reach water, in which case they will
-	 * generate subarcs to branch out.
-	 * **/
+	 * @deprecated Arcs are animated by {@link Lightning#progress()}, which also handles the
+	 *             collision checks, so this Runnable only displays its location.
+	 **/
+	@Deprecated
 	public class LightningParticle extends BukkitRunnable {
 		private boolean selfHitWater;
 		private int count = 0;
@@ -479,100 +800,14 @@ public class Lightning extends LightningAbility {
 			this.location = location;
 			this.selfHitWater = selfHitWater;
 			this.waterArcs = waterArcs;
-			arc.particles.add(this);
-		}
-
-		/** Cancels this Runnable **/
-		@Override
-		public void cancel() {
-			super.cancel();
-			tasks.remove(this);
 		}
 
-		/**
-		 * Animates the Location, checks for water/player collision and also deals with any chain
-		 * subarcs.
-		 */
 		@Override
 		public void run() {
 			playLightningbendingParticle(location, 0F, 0F, 0F);
 			count++;
 			if (count > 5) {
-				this.cancel();
-			} else if (count == 1) {
-				if (!isTransparentForLightning(player, location.getBlock())) {
-					arc.cancel();
-					return;
-				}
-				Block block = location.getBlock();
-				// We only want to consider this particle as part of the location
-				// on the its first tick, when it actually does the electrocution.
-				// The later ticks are just for visual purposes.
-				locations.add(block.getLocation());
-				
-				// Handle Water electrocution
-				if (!hitWater && (isWater(block) || (arcOnIce && isIce(block)))) {
-					hitWater = true;
-					if (isIce(block)) {
-						hitIce = true;
-					}
-					
-					for (int i = 0; i < waterArcs; i++) {
-						Location origin = location.clone();
-						origin.add(new Vector((Math.random() - 0.5) * 2, 0, (Math.random() - 0.5) * 2));
-						destination = origin.clone().add(new Vector((Math.random() - 0.5) * waterArcRange, Math.random() - 0.7, (Math.random() - 0.5)* waterArcRange));
-						Arc newArc = new Arc(origin, destination);
-						newArc.generatePoints(POINT_GENERATION);
-						arcs.add(newArc);
-					}
-				}
-
-				for (Entity entity : GeneralMethods.getEntitiesAroundPoint(location, 2.5)) {
-					/*
-					 * If the player is in water we will electrocute them only if they are standing
-					 * in water. If the lightning hit ice we can electrocute them all the time.
-					 */
-					if (entity.equals(player) 
-							&& !(selfHitWater && hitWater && isWater(player.getLocation().getBlock()))
-							&& !(selfHitWater && hitIce)) {
-						continue;
-					}
-
-					if (entity instanceof LivingEntity && !affectedEntities.contains(entity)) {
-						affectedEntities.add(entity);
-						LivingEntity lent = (LivingEntity) entity;
-						if (lent instanceof Player) {
-							lent.getWorld().playSound(lent.getLocation(), Sound.ENTITY_CREEPER_HURT, 1, 0.01F);
-							player.getWorld().playSound(player.getLocation(), Sound.ENTITY_CREEPER_HURT, 1, 0.01F);
-							Player p = (Player) lent;
-							Lightning light = getAbility(p, Lightning.class);
-							if (light != null && light.state == State.START) {
-								light.charged = true;
-								remove();
-								return;
-							}
-						}
-						
-						electrocute(lent);
-
-						// Handle Chain Lightning
-						if (maxChainArcs >= 1 && Math.random() <= chainArcChance) {
-							maxChainArcs--;
-							for (Entity ent : GeneralMethods.getEntitiesAroundPoint(lent.getLocation(), chainRange)) {
-								if (!ent.equals(player) && !ent.equals(lent) && ent instanceof LivingEntity
-										&& !affectedEntities.contains(ent)) {
-									origin = lent.getLocation().add(0, 1, 0);
-									destination = ent.getLocation().add(0, 1, 0);
-									Arc newArc = new Arc(origin, destination);
-									newArc.generatePoints(POINT_GENERATION);
-									arcs.add(newArc);
-									cancel();
-									return;
-								}
-							}
-						}
-					}
-				}
+				cancel();
 			}
 		}
 
@@ -844,12 +1079,27 @@ public class Lightning extends LightningAbility {
 		return affectedEntities;
 	}
 
+	/**
+	 * @return The arcs that have been generated but have not started striking yet
+	 */
 	public ArrayList<Arc> getArcs() {
 		return arcs;
 	}
 
+	/**
+	 * @return The arcs that are currently being animated
+	 */
+	public ArrayList<Arc> getStrikingArcs() {
+		return strikingArcs;
+	}
+
+	/**
+	 * @deprecated The arcs are animated by {@link #progress()}, so there are no tasks and this
+	 *             list is always empty.
+	 */
+	@Deprecated
 	public ArrayList<BukkitRunnable> getTasks() {
-		return tasks;
+		return new ArrayList<>();
 	}
 
 	public void setCooldown(long cooldown) {
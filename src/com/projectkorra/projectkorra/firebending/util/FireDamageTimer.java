@@ -4,6 +4,7 @@ import com.projectkorra.projectkorra.Element;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.firebending.HeatControl;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
@@ -20,6 +21,11 @@ public class FireDamageTimer {
 	private static final Map<Entity, Player> INSTANCES = new ConcurrentHashMap<>();
 	private static final Map<Entity, Long> TIMES = new ConcurrentHashMap<>();
 
+	static {
+		EntityLifecycle.register("FireDamageTimer.INSTANCES", INSTANCES);
+		EntityLifecycle.register("FireDamageTimer.TIMES", TIMES);
+	}
+
 	public FireDamageTimer(Entity entity, Player source) {
 		if (entity.getEntityId() == source.getEntityId()) {
 			return;
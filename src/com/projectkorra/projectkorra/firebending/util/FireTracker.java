@@ -0,0 +1,424 @@
+package com.projectkorra.projectkorra.firebending.util;
+
+import com.projectkorra.projectkorra.configuration.ConfigManager;
+import com.projectkorra.projectkorra.util.BlockJournal;
+import com.projectkorra.projectkorra.util.BlockKey;
+import com.projectkorra.projectkorra.util.DeadlineScheduler;
+import com.projectkorra.projectkorra.util.DeadlineScheduler.Deadline;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.material.MaterialData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Tracks every fire block created by firebending: temporary fire that
+ * replaces a block and reverts after a while, and ignited fire that
+ * dissipates shortly after an ability passes and is credited to the player
+ * that lit it.
+ * <p>
+ * Fires are keyed by packed block coordinates per world and indexed by chunk.
+ * Their expiry is handed to the {@link DeadlineScheduler}, so nothing is
+ * scanned per tick and the work done is proportional to the number of fires
+ * actually expiring. All methods must be called from the main thread.
+ */
+public class FireTracker {
+
+	private static final long DISSIPATE_REMOVE_TIME = 400;
+	private static final Random RANDOM = new Random();
+	private static final Map<World, Map<Long, FireEntry>> FIRES = new HashMap<World, Map<Long, FireEntry>>();
+	private static final Map<World, Map<Long, Set<FireEntry>>> CHUNKS = new HashMap<World, Map<Long, Set<FireEntry>>>();
+
+	/**
+	 * Creates a fire block meant to replace other blocks but reverts when the
+	 * fire dissipates or is destroyed. Fire placed in air is not tracked.
+	 *
+	 * @param block The block to set on fire
+	 */
+	public static void createTempFire(Block block) {
+		if (block.getType() == Material.AIR) {
+			block.setType(Material.FIRE);
+			return;
+		}
+
+		long revertTicks = ConfigManager.getConfig().getLong("Properties.Fire.RevertTicks");
+		long time = revertTicks + (long) (RANDOM.nextDouble() * revertTicks);
+		FireEntry entry = getOrCreate(block);
+		entry.setOriginal();
+		entry.temporary = true;
+		if (entry.revert != null) {
+			entry.revert.cancel();
+		}
+		final FireEntry scheduled = entry;
+		entry.revert = DeadlineScheduler.schedule(System.currentTimeMillis() + time, new Runnable() {
+			@Override
+			public void run() {
+				scheduled.revert = null;
+				revertTempFire(scheduled);
+			}
+		});
+		block.setType(Material.FIRE);
+	}
+
+	/**
+	 * Marks a fire block as lit by a player. The fire is put out shortly
+	 * afterwards, and until then entities burning in it are credited to the
+	 * player.
+	 *
+	 * @param block The fire block
+	 * @param player The player that lit it
+	 */
+	public static void setIgnited(Block block, Player player) {
+		FireEntry entry = getOrCreate(block);
+		entry.source = player;
+		if (entry.dissipate != null) {
+			entry.dissipate.cancel();
+		}
+		final FireEntry scheduled = entry;
+		entry.dissipate = DeadlineScheduler.schedule(System.currentTimeMillis() + DISSIPATE_REMOVE_TIME, new Runnable() {
+			@Override
+			public void run() {
+				scheduled.dissipate = null;
+				dissipate(scheduled);
+			}
+		});
+	}
+
+	/**
+	 * Remembers the current state of a block that is about to be replaced
+	 * by fire so that it is restored when the fire is removed.
+	 *
+	 * @param block The block that is about to be set on fire
+	 */
+	public static void setReplaced(Block block) {
+		if (block.getType() != Material.FIRE) {
+			getOrCreate(block).setOriginal();
+		}
+	}
+
+	public static boolean isTracked(Block block) {
+		return get(block) != null;
+	}
+
+	public static boolean isIgnited(Block block) {
+		return getIgniter(block) != null;
+	}
+
+	/**
+	 * @return The player that lit the fire in the block, or null if the
+	 *         block is not burning fire lit by a player
+	 */
+	public static Player getIgniter(Block block) {
+		FireEntry entry = get(block);
+		if (entry == null || entry.source == null || block.getType() != Material.FIRE) {
+			return null;
+		}
+		return entry.source;
+	}
+
+	/**
+	 * Stops tracking a block, restoring the block it replaced if there was
+	 * one.
+	 *
+	 * @param block The block to remove
+	 * @return true if the replaced block was restored
+	 */
+	public static boolean removeBlock(Block block) {
+		FireEntry entry = get(block);
+		if (entry == null) {
+			return false;
+		}
+		boolean restored = entry.original != null;
+		if (restored) {
+			entry.restore();
+		}
+		remove(entry);
+		return restored;
+	}
+
+	/**
+	 * Reverts the temporary fire in the block if there is any.
+	 *
+	 * @param block The block
+	 */
+	public static void revertTempFire(Block block) {
+		FireEntry entry = get(block);
+		if (entry != null && entry.temporary) {
+			revertTempFire(entry);
+		}
+	}
+
+	/**
+	 * Reverts a fire on the next tick if it has gone out or been replaced by
+	 * then. Called for the ways of putting out fire that do not fire a
+	 * {@link org.bukkit.event.block.BlockFadeEvent}, such as punching it,
+	 * water flowing into it or a block being placed in it, so that the block
+	 * it replaced comes back at once instead of when the fire expires.
+	 *
+	 * @param block A block that may be a tracked fire about to go out
+	 */
+	public static void checkExtinguished(Block block) {
+		final FireEntry entry = get(block);
+		if (entry == null) {
+			return;
+		}
+		DeadlineScheduler.schedule(System.currentTimeMillis(), new Runnable() {
+			@Override
+			public void run() {
+				if (get(entry.block) == entry) {
+					removeIfOut(entry);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Reverts every tracked fire that is no longer burning. Fires are
+	 * normally reverted as they go out, so this is only needed after blocks
+	 * have been changed without an event.
+	 */
+	public static void removeExtinguished() {
+		for (FireEntry entry : getEntries()) {
+			removeIfOut(entry);
+		}
+	}
+
+	/**
+	 * Removes every tracked fire, restoring the blocks they replaced.
+	 */
+	public static void removeAll() {
+		for (FireEntry entry : getEntries()) {
+			removeBlock(entry.block);
+		}
+	}
+
+	/**
+	 * Removes every fire lit by a player, restoring the blocks they replaced.
+	 */
+	public static void removeIgnited() {
+		for (FireEntry entry : getEntries()) {
+			if (entry.source != null) {
+				removeBlock(entry.block);
+			}
+		}
+	}
+
+	/**
+	 * @return A copy of the fires lit by players and who lit them
+	 */
+	public static Map<Block, Player> getIgnitedBlocks() {
+		Map<Block, Player> ignited = new HashMap<Block, Player>();
+		for (FireEntry entry : getEntries()) {
+			if (entry.source != null) {
+				ignited.put(entry.block, entry.source);
+			}
+		}
+		return ignited;
+	}
+
+	/**
+	 * @return A copy of the fires lit by players and when they were lit
+	 */
+	public static Map<Block, Long> getIgnitedTimes() {
+		Map<Block, Long> times = new HashMap<Block, Long>();
+		for (FireEntry entry : getEntries()) {
+			if (entry.source != null && entry.dissipate != null) {
+				times.put(entry.block, entry.dissipate.getTime() - DISSIPATE_REMOVE_TIME);
+			}
+		}
+		return times;
+	}
+
+	/**
+	 * @return A copy of the blocks replaced by fire, by location
+	 */
+	public static Map<Location, MaterialData> getReplacedBlocks() {
+		Map<Location, MaterialData> replaced = new HashMap<Location, MaterialData>();
+		for (FireEntry entry : getEntries()) {
+			if (entry.original != null) {
+				replaced.put(entry.block.getLocation(), entry.original.getData());
+			}
+		}
+		return replaced;
+	}
+
+	/**
+	 * Removes every tracked fire in a chunk, restoring the blocks they
+	 * replaced.
+	 *
+	 * @return The number of fires removed
+	 */
+	public static int removeChunk(World world, int chunkX, int chunkZ) {
+		Map<Long, Set<FireEntry>> chunks = CHUNKS.get(world);
+		if (chunks == null) {
+			return 0;
+		}
+		Set<FireEntry> entries = chunks.get(BlockKey.chunk(chunkX, chunkZ));
+		if (entries == null) {
+			return 0;
+		}
+		List<FireEntry> removed = new ArrayList<FireEntry>(entries);
+		for (FireEntry entry : removed) {
+			removeBlock(entry.block);
+		}
+		return removed.size();
+	}
+
+	public static int getTrackedCount() {
+		int count = 0;
+		for (Map<Long, FireEntry> fires : FIRES.values()) {
+			count += fires.size();
+		}
+		return count;
+	}
+
+	public static long getDissipateRemoveTime() {
+		return DISSIPATE_REMOVE_TIME;
+	}
+
+	private static List<FireEntry> getEntries() {
+		List<FireEntry> entries = new ArrayList<FireEntry>();
+		for (Map<Long, FireEntry> fires : FIRES.values()) {
+			entries.addAll(fires.values());
+		}
+		return entries;
+	}
+
+	private static FireEntry get(Block block) {
+		Map<Long, FireEntry> fires = FIRES.get(block.getWorld());
+		return fires != null ? fires.get(BlockKey.pack(block)) : null;
+	}
+
+	private static FireEntry getOrCreate(Block block) {
+		World world = block.getWorld();
+		Map<Long, FireEntry> fires = FIRES.get(world);
+		if (fires == null) {
+			fires = new HashMap<Long, FireEntry>();
+			FIRES.put(world, fires);
+			CHUNKS.put(world, new HashMap<Long, Set<FireEntry>>());
+		}
+
+		long key = BlockKey.pack(block);
+		FireEntry entry = fires.get(key);
+		if (entry == null) {
+			entry = new FireEntry(block, key);
+			fires.put(key, entry);
+
+			Map<Long, Set<FireEntry>> chunks = CHUNKS.get(world);
+			long chunk = BlockKey.chunkOf(key);
+			Set<FireEntry> entries = chunks.get(chunk);
+			if (entries == null) {
+				entries = new HashSet<FireEntry>();
+				chunks.put(chunk, entries);
+			}
+			entries.add(entry);
+		}
+		return entry;
+	}
+
+	private static void remove(FireEntry entry) {
+		if (entry.revert != null) {
+			entry.revert.cancel();
+		}
+		if (entry.dissipate != null) {
+			entry.dissipate.cancel();
+		}
+
+		World world = entry.block.getWorld();
+		Map<Long, FireEntry> fires = FIRES.get(world);
+		if (fires == null || fires.get(entry.key) != entry) {
+			return;
+		}
+		fires.remove(entry.key);
+		if (entry.original != null) {
+			BlockJournal.recordRestored(entry.block);
+		}
+		Map<Long, Set<FireEntry>> chunks = CHUNKS.get(world);
+		long chunk = BlockKey.chunkOf(entry.key);
+		Set<FireEntry> entries = chunks.get(chunk);
+		if (entries != null) {
+			entries.remove(entry);
+			if (entries.isEmpty()) {
+				chunks.remove(chunk);
+			}
+		}
+	}
+
+	private static void removeIfOut(FireEntry entry) {
+		if (entry.block.getType() == Material.FIRE) {
+			return;
+		} else if (entry.temporary) {
+			revertTempFire(entry);
+		} else {
+			removeBlock(entry.block);
+		}
+	}
+
+	private static void dissipate(FireEntry entry) {
+		if (entry.block.getType() == Material.FIRE && entry.original == null) {
+			entry.block.setType(Material.AIR);
+		}
+		removeBlock(entry.block);
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void revertTempFire(FireEntry entry) {
+		Material type = entry.block.getType();
+		if (type != Material.FIRE && type != Material.AIR) {
+			// Something else has taken the place of the fire, so drop the flowers it burnt instead.
+			BlockState state = entry.original;
+			if (state != null && (state.getType() == Material.RED_ROSE || state.getType() == Material.YELLOW_FLOWER)) {
+				ItemStack itemStack = new ItemStack(state.getData().getItemType(), 1, state.getRawData());
+				entry.block.getWorld().dropItemNaturally(entry.block.getLocation(), itemStack);
+			}
+			remove(entry);
+		} else {
+			removeBlock(entry.block);
+		}
+	}
+
+	private static class FireEntry {
+
+		private final Block block;
+		private final long key;
+		private BlockState original;
+		private Player source;
+		private boolean temporary;
+		private Deadline revert;
+		private Deadline dissipate;
+
+		public FireEntry(Block block, long key) {
+			this.block = block;
+			this.key = key;
+		}
+
+		private void setOriginal() {
+			if (original == null) {
+				original = block.getState();
+				if (original.getType() == Material.FIRE) {
+					original.setType(Material.AIR);
+				}
+				BlockJournal.recordOriginal(original);
+			}
+		}
+
+		@SuppressWarnings("deprecation")
+		private void restore() {
+			block.setType(original.getType());
+			block.setData(original.getRawData());
+		}
+	}
+
+}
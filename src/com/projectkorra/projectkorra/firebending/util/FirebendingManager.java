@@ -1,9 +1,8 @@
 package com.projectkorra.projectkorra.firebending.util;
 
 import com.projectkorra.projectkorra.ProjectKorra;
-import com.projectkorra.projectkorra.ability.FireAbility;
-import com.projectkorra.projectkorra.firebending.BlazeArc;
 import com.projectkorra.projectkorra.firebending.passive.FirePassive;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 public class FirebendingManager implements Runnable {
 
@@ -14,10 +13,12 @@ public class FirebendingManager implements Runnable {
 	}
 
 	public void run() {
-		BlazeArc.handleDissipation();
-		FireDamageTimer.handleFlames();
-		FirePassive.handlePassive();
-		BlazeArc.dissipateAll();
-		FireAbility.removeFire();
+		long start = TickProfiler.start();
+		try {
+			FireDamageTimer.handleFlames();
+			FirePassive.handlePassive();
+		} finally {
+			TickProfiler.record(FirebendingManager.class, start);
+		}
 	}
 }
@@ -1,14 +1,15 @@
 package com.projectkorra.projectkorra.object;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
@@ -19,12 +20,15 @@ import com.projectkorra.projectkorra.ability.ElementalAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
 import com.projectkorra.projectkorra.event.HorizontalVelocityChangeEvent;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 
 /**
  * Created by Carbogen on 2/2/2015.
  */
 public class HorizontalVelocityTracker {
 	
+	private static final BlockFace[] HORIZONTAL_FACES = { BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST };
+
 	public static Map<Entity, HorizontalVelocityTracker> instances = new ConcurrentHashMap<Entity, HorizontalVelocityTracker>();
 	public boolean hasBeenDamaged = false;
 	public boolean barrier = ConfigManager.defaultConfig.get().getBoolean("Properties.HorizontalCollisionPhysics.DamageOnBarrierBlock");
@@ -32,16 +36,21 @@ public class HorizontalVelocityTracker {
 	private long fireTime;
 	private Entity entity;
 	private Player instigator;
-	private Vector lastVelocity;
-	private Vector thisVelocity;
+	private double lastX, lastY, lastZ;
+	private double thisX, thisY, thisZ;
+	private Location location;
 	private Location launchLocation;
 	private Location impactLocation;
 	private Ability abil;
+
+	static {
+		EntityLifecycle.register("HorizontalVelocityTracker.instances", instances);
+	}
 	
 	public static String[] abils = {"AirBlast", "AirBurst", "AirSuction", "Bloodbending"};
 
 	public HorizontalVelocityTracker(Entity e, Player instigator, long delay, Ability ability) {
-		if (!ProjectKorra.plugin.getConfig().getBoolean("Properties.HorizontalCollisionPhysics.Enabled"))
+		if (!ConfigManager.defaultConfig.get().getBoolean("Properties.HorizontalCollisionPhysics.Enabled"))
 			return;
 
 		remove(e);
@@ -49,12 +58,14 @@ public class HorizontalVelocityTracker {
 		this.instigator = instigator;
 		fireTime = System.currentTimeMillis();
 		this.delay = delay;
-		thisVelocity = e.getVelocity().clone();
-		launchLocation = e.getLocation().clone();
+		Vector velocity = e.getVelocity();
+		thisX = velocity.getX();
+		thisY = velocity.getY();
+		thisZ = velocity.getZ();
+		location = e.getLocation();
+		launchLocation = location.clone();
 		impactLocation = launchLocation.clone();
-		this.delay = delay;
 		abil = ability;
-		update();
 		instances.put(entity, this);
 	}
 
@@ -63,50 +74,80 @@ public class HorizontalVelocityTracker {
 			return;
 		}
 		
-		if (entity.isOnGround()) {
+		if (!entity.isValid() || entity.isOnGround()) {
 			remove();
 			return;
 		}
 
-		lastVelocity = thisVelocity.clone();
-		thisVelocity = entity.getVelocity().clone();
+		Vector velocity = entity.getVelocity();
+		lastX = thisX;
+		lastY = thisY;
+		lastZ = thisZ;
+		thisX = velocity.getX();
+		thisY = velocity.getY();
+		thisZ = velocity.getZ();
 
-		Vector diff = thisVelocity.subtract(lastVelocity);
+		double diffX = thisX - lastX;
+		double diffZ = thisZ - lastZ;
 
-		List<Block> blocks = GeneralMethods.getBlocksAroundPoint(entity.getLocation(), 1.5);
+		// Only the blocks touching the entity's column, from its feet to its eyes, are considered.
+		entity.getLocation(location);
+		World world = location.getWorld();
+		int x = location.getBlockX();
+		int z = location.getBlockZ();
+		int bottom = location.getBlockY();
+		int top = bottom;
+		if (entity instanceof LivingEntity) {
+			top = (int) Math.floor(location.getY() + ((LivingEntity) entity).getEyeHeight());
+		}
 
-		for (Block b : blocks) {
-			if (WaterAbility.isWater(b)) {
+		if (WaterAbility.isWater(world.getBlockAt(x, bottom - 1, z))) {
+			remove();
+			return;
+		}
+		for (int y = bottom; y <= top; y++) {
+			Block block = world.getBlockAt(x, y, z);
+			if (WaterAbility.isWater(block)) {
 				remove();
 				return;
 			}
+			for (BlockFace face : HORIZONTAL_FACES) {
+				if (WaterAbility.isWater(block.getRelative(face))) {
+					remove();
+					return;
+				}
+			}
 		}
-		
-		if (thisVelocity.length() < lastVelocity.length()) {
-			if ((diff.getX() > 1 || diff.getX() < -1) || (diff.getZ() > 1 || diff.getZ() < -1)) {
-				impactLocation = entity.getLocation();
-				for (Block b : blocks) {
-					if (b.getType() == Material.BARRIER && barrier == false) return;
-					if (GeneralMethods.isSolid(b) && (entity.getLocation().getBlock().getRelative(BlockFace.EAST, 1).equals(b) || entity.getLocation().getBlock().getRelative(BlockFace.NORTH, 1).equals(b) || entity.getLocation().getBlock().getRelative(BlockFace.WEST, 1).equals(b) || entity.getLocation().getBlock().getRelative(BlockFace.SOUTH, 1).equals(b))) {
-						if (!ElementalAbility.isTransparent(instigator, b)) {
-							hasBeenDamaged = true;
-							ProjectKorra.plugin.getServer().getPluginManager().callEvent(new HorizontalVelocityChangeEvent(entity, instigator, lastVelocity, thisVelocity, diff, launchLocation, impactLocation, abil));
-							remove();
-							return;
-						}
-					}
+
+		double thisSpeed = thisX * thisX + thisY * thisY + thisZ * thisZ;
+		double lastSpeed = lastX * lastX + lastY * lastY + lastZ * lastZ;
+		if (thisSpeed >= lastSpeed || (diffX <= 1 && diffX >= -1 && diffZ <= 1 && diffZ >= -1)) {
+			return;
+		}
+
+		impactLocation = location.clone();
+		for (int y = bottom; y <= top; y++) {
+			Block block = world.getBlockAt(x, y, z);
+			for (BlockFace face : HORIZONTAL_FACES) {
+				Block b = block.getRelative(face);
+				if (b.getType() == Material.BARRIER && barrier == false) return;
+				if (GeneralMethods.isSolid(b) && !ElementalAbility.isTransparent(instigator, b)) {
+					hasBeenDamaged = true;
+					Vector from = new Vector(lastX, lastY, lastZ);
+					Vector to = new Vector(thisX, thisY, thisZ);
+					Vector diff = to.clone().subtract(from);
+					ProjectKorra.plugin.getServer().getPluginManager().callEvent(new HorizontalVelocityChangeEvent(entity, instigator, from, to, diff, launchLocation, impactLocation, abil));
+					remove();
+					return;
 				}
 			}
 		}
 	}
 
 	public static void updateAll() {
-		for (Entity e : instances.keySet())
-			if (e != null) {
-				instances.get(e).update();
-			} else {
-				instances.remove(e);
-			}
+		for (HorizontalVelocityTracker tracker : instances.values()) {
+			tracker.update();
+		}
 	}
 
 	public void remove() {
@@ -114,14 +155,11 @@ public class HorizontalVelocityTracker {
 	}
 
 	public static void remove(Entity e) {
-		if (instances.containsKey(e))
-			instances.remove(e);
+		instances.remove(e);
 	}
 	
 	public static boolean hasBeenDamagedByHorizontalVelocity(Entity e) {
-		if (instances.containsKey(e)) {
-			return instances.get(e).hasBeenDamaged;
-		}
-		return false;
+		HorizontalVelocityTracker tracker = instances.get(e);
+		return tracker != null && tracker.hasBeenDamaged;
 	}
 }
@@ -0,0 +1,263 @@
+package com.projectkorra.projectkorra.util;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A rigid group of blocks that is shown with {@link TempBlock}s and moves as
+ * one, such as the boulder of EarthSmash. The body keeps a single origin and,
+ * for each of its cells, an offset packed into an int along with a material
+ * and data value.
+ * <p>
+ * Moving the body only writes the blocks that change. Cells that end up on a
+ * position the body already covers keep their TempBlock, which is only
+ * updated if the material differs, and TempBlocks are only reverted on the
+ * positions the body leaves. Abilities and addons can override
+ * {@link #canPlace(Block)}, {@link #onPlace(TempBlock)} and
+ * {@link #onRevert(TempBlock)} to decide where cells are shown and to keep
+ * their own bookkeeping in sync. Everything in this class must be accessed
+ * from the main thread.
+ */
+public class BlockBody {
+
+	private static final int OFFSET_BITS = 10;
+	private static final int OFFSET_MASK = (1 << OFFSET_BITS) - 1;
+
+	private int[] offsets = new int[8];
+	private Material[] types = new Material[8];
+	private byte[] data = new byte[8];
+	private int size;
+
+	private World world;
+	private int originX;
+	private int originY;
+	private int originZ;
+	private Map<Long, TempBlock> blocks = new HashMap<Long, TempBlock>();
+
+	/**
+	 * Adds a cell to the body. The cell is shown the next time the body is
+	 * {@link #moveTo(World, int, int, int) moved}.
+	 *
+	 * @param x The x offset from the origin, between -512 and 511
+	 * @param y The y offset from the origin, between -512 and 511
+	 * @param z The z offset from the origin, between -512 and 511
+	 * @param type The material of the cell
+	 * @param data The data value of the cell
+	 */
+	public void add(int x, int y, int z, Material type, byte data) {
+		if (size == offsets.length) {
+			offsets = Arrays.copyOf(offsets, size * 2);
+			types = Arrays.copyOf(types, size * 2);
+			this.data = Arrays.copyOf(this.data, size * 2);
+		}
+		offsets[size] = ((x & OFFSET_MASK) << (OFFSET_BITS * 2)) | ((y & OFFSET_MASK) << OFFSET_BITS) | (z & OFFSET_MASK);
+		types[size] = type;
+		this.data[size] = data;
+		size++;
+	}
+
+	/**
+	 * Removes a cell from the body and reverts its block. The last cell takes
+	 * the index of the removed one.
+	 *
+	 * @param index The index of the cell
+	 */
+	public void remove(int index) {
+		if (world != null) {
+			TempBlock tempBlock = blocks.remove(BlockKey.pack(getX(index), getY(index), getZ(index)));
+			if (tempBlock != null) {
+				revert(tempBlock);
+			}
+		}
+		size--;
+		offsets[index] = offsets[size];
+		types[index] = types[size];
+		data[index] = data[size];
+		types[size] = null;
+	}
+
+	/**
+	 * Moves the origin of the body, writing only the blocks that change.
+	 * Cells whose block cannot be {@link #canPlace(Block) placed} are not
+	 * shown until a later move.
+	 *
+	 * @param world The world
+	 * @param x The block x of the new origin
+	 * @param y The block y of the new origin
+	 * @param z The block z of the new origin
+	 */
+	public void moveTo(World world, int x, int y, int z) {
+		if (!world.equals(this.world)) {
+			revert();
+		}
+		this.world = world;
+		this.originX = x;
+		this.originY = y;
+		this.originZ = z;
+
+		Map<Long, TempBlock> previous = blocks;
+		Map<Long, TempBlock> current = new HashMap<Long, TempBlock>();
+		for (int i = 0; i < size; i++) {
+			long key = BlockKey.pack(getX(i), getY(i), getZ(i));
+			TempBlock tempBlock = previous.remove(key);
+			if (tempBlock != null) {
+				if (tempBlock.getType() != types[i] || tempBlock.getData() != data[i]) {
+					tempBlock.setType(types[i], data[i]);
+				}
+				current.put(key, tempBlock);
+			}
+		}
+		for (TempBlock tempBlock : previous.values()) {
+			revert(tempBlock);
+		}
+		for (int i = 0; i < size; i++) {
+			long key = BlockKey.pack(getX(i), getY(i), getZ(i));
+			if (current.containsKey(key)) {
+				continue;
+			}
+			Block block = world.getBlockAt(getX(i), getY(i), getZ(i));
+			if (canPlace(block)) {
+				TempBlock tempBlock = new TempBlock(block, types[i], data[i]);
+				current.put(key, tempBlock);
+				onPlace(tempBlock);
+			}
+		}
+		blocks = current;
+	}
+
+	/**
+	 * Moves the origin of the body to the block of a location.
+	 *
+	 * @see #moveTo(World, int, int, int)
+	 */
+	public void moveTo(Location location) {
+		moveTo(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+	}
+
+	/**
+	 * Reverts every block of the body. The cells are kept, so the body can be
+	 * moved again afterwards.
+	 */
+	public void revert() {
+		for (TempBlock tempBlock : blocks.values()) {
+			revert(tempBlock);
+		}
+		blocks = new HashMap<Long, TempBlock>();
+	}
+
+	private void revert(TempBlock tempBlock) {
+		onRevert(tempBlock);
+		tempBlock.revertBlock();
+	}
+
+	/**
+	 * Decides whether a cell is shown on a block it moves onto. By default
+	 * cells are placed everywhere.
+	 *
+	 * @param block The block
+	 * @return true if the cell should be placed
+	 */
+	protected boolean canPlace(Block block) {
+		return true;
+	}
+
+	/**
+	 * Called after a cell is placed on a block.
+	 *
+	 * @param tempBlock The TempBlock showing the cell
+	 */
+	protected void onPlace(TempBlock tempBlock) {
+	}
+
+	/**
+	 * Called before the TempBlock of a cell is reverted.
+	 *
+	 * @param tempBlock The TempBlock showing the cell
+	 */
+	protected void onRevert(TempBlock tempBlock) {
+	}
+
+	/**
+	 * @param block A block
+	 * @return true if one of the cells is currently shown on the block
+	 */
+	public boolean isPlacedOn(Block block) {
+		return block.getWorld().equals(world) && blocks.containsKey(BlockKey.pack(block));
+	}
+
+	/**
+	 * @param index The index of a cell
+	 * @return The block the cell covers at the current origin, once the body
+	 *         has been moved
+	 */
+	public Block getBlock(int index) {
+		return world.getBlockAt(getX(index), getY(index), getZ(index));
+	}
+
+	/**
+	 * @return The blocks the cells cover at the current origin
+	 */
+	public List<Block> getBlocks() {
+		List<Block> list = new ArrayList<Block>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(getBlock(i));
+		}
+		return list;
+	}
+
+	/**
+	 * @return The TempBlocks currently showing the body
+	 */
+	public List<TempBlock> getTempBlocks() {
+		return new ArrayList<TempBlock>(blocks.values());
+	}
+
+	public int getOffsetX(int index) {
+		return offsets[index] << (32 - OFFSET_BITS * 3) >> (32 - OFFSET_BITS);
+	}
+
+	public int getOffsetY(int index) {
+		return offsets[index] << (32 - OFFSET_BITS * 2) >> (32 - OFFSET_BITS);
+	}
+
+	public int getOffsetZ(int index) {
+		return offsets[index] << (32 - OFFSET_BITS) >> (32 - OFFSET_BITS);
+	}
+
+	public Material getType(int index) {
+		return types[index];
+	}
+
+	public byte getData(int index) {
+		return data[index];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	private int getX(int index) {
+		return originX + getOffsetX(index);
+	}
+
+	private int getY(int index) {
+		return originY + getOffsetY(index);
+	}
+
+	private int getZ(int index) {
+		return originZ + getOffsetZ(index);
+	}
+
+}
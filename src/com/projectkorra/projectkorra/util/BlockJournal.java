@@ -0,0 +1,523 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ProjectKorra;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An append-only journal of the original states of blocks changed by bending,
+ * used to restore the world after the server stops without reverting them
+ * (a crash or a killed process).
+ * <p>
+ * Every time a {@link TempBlock}, moved earth block, temporary air block or
+ * temporary fire is created the original block state is appended to a
+ * memory-mapped segment file as a fixed size record, and every time one is
+ * reverted a matching record is appended. Segments live in the page cache, so
+ * the records survive the JVM dying mid-tick. When a segment fills up a new
+ * one is opened and the live states are written to a compacted base file in
+ * the background, after which the older files are deleted. On enable any
+ * leftover journal is replayed, restoring every block that was never
+ * reverted.
+ * <p>
+ * All record methods must be called from the main thread.
+ */
+public class BlockJournal {
+
+	private static final byte RECORD_END = 0;
+	private static final byte RECORD_WORLD = 1;
+	private static final byte RECORD_ORIGINAL = 2;
+	private static final byte RECORD_RESTORED = 3;
+	private static final int RECORD_SIZE = 16;
+	private static final String BASE_PREFIX = "base-";
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SUFFIX = ".dat";
+
+	private static final List<World> WORLDS = new ArrayList<World>();
+	private static final Map<World, Integer> WORLD_INDICES = new HashMap<World, Integer>();
+	private static final List<Map<Long, JournalEntry>> LIVE = new ArrayList<Map<Long, JournalEntry>>();
+	/** Guards the journal files against a compaction that outlives its journal. */
+	private static final Object FILES = new Object();
+
+	private static File folder;
+	private static MappedByteBuffer segment;
+	private static int segmentSize;
+	private static int generation;
+	private static boolean enabled;
+	private static volatile boolean compacting;
+	/** Changed whenever the journal is started or closed, guarded by FILES. */
+	private static int session;
+	private static long recordsWritten;
+
+	/**
+	 * Replays any journal left behind by a previous run and starts a new one.
+	 *
+	 * @param folder The folder in which the journal files are kept
+	 * @param segmentSize The size of a single segment file in bytes
+	 */
+	public static void start(File folder, int segmentSize) {
+		BlockJournal.folder = folder;
+		BlockJournal.segmentSize = Math.max(segmentSize, RECORD_SIZE * 64);
+		if (!folder.exists()) {
+			folder.mkdirs();
+		}
+
+		try {
+			int restored = replay();
+			if (restored > 0) {
+				ProjectKorra.log.info("Restored " + restored + " blocks from the block journal");
+			}
+			synchronized (FILES) {
+				session++;
+				deleteAll();
+			}
+			generation = 0;
+			openSegment();
+			enabled = true;
+		}
+		catch (IOException e) {
+			ProjectKorra.log.severe("Unable to open the block journal, bending changes will not survive a crash");
+			e.printStackTrace();
+			enabled = false;
+		}
+	}
+
+	/**
+	 * Stops journaling and removes the journal files. Must only be called
+	 * once every bending block has been reverted.
+	 */
+	public static void close() {
+		if (!enabled) {
+			return;
+		}
+		enabled = false;
+		segment.force();
+		segment = null;
+		WORLDS.clear();
+		WORLD_INDICES.clear();
+		LIVE.clear();
+		synchronized (FILES) {
+			session++;
+			deleteAll();
+		}
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static long getRecordsWritten() {
+		return recordsWritten;
+	}
+
+	public static int getLiveBlocks() {
+		int live = 0;
+		for (Map<Long, JournalEntry> entries : LIVE) {
+			live += entries.size();
+		}
+		return live;
+	}
+
+	/**
+	 * Records the original state of a block that is about to be changed.
+	 * Every call must eventually be matched by a call to
+	 * {@link #recordRestored(Block)} for the same block.
+	 *
+	 * @param state The state of the block before it is changed
+	 */
+	@SuppressWarnings("deprecation")
+	public static void recordOriginal(BlockState state) {
+		if (enabled) {
+			recordOriginal(state.getWorld(), state.getX(), state.getY(), state.getZ(), state.getTypeId(), state.getRawData());
+		}
+	}
+
+	/**
+	 * Records the current state of a block as its original state, avoiding
+	 * the {@link BlockState} snapshot when the caller does not need one.
+	 *
+	 * @param block The block that is about to be changed
+	 */
+	@SuppressWarnings("deprecation")
+	public static void recordOriginal(Block block) {
+		if (enabled) {
+			recordOriginal(block.getWorld(), block.getX(), block.getY(), block.getZ(), block.getTypeId(), block.getData());
+		}
+	}
+
+	private static void recordOriginal(World world, int x, int y, int z, int material, byte data) {
+		int index = getWorldIndex(world);
+		if (!ensureCapacity(RECORD_SIZE)) {
+			return;
+		}
+		long position = BlockKey.pack(x, y, z);
+		Map<Long, JournalEntry> entries = LIVE.get(index);
+		JournalEntry entry = entries.get(position);
+		if (entry == null) {
+			entry = new JournalEntry(material, data);
+			entries.put(position, entry);
+		}
+		entry.count++;
+		write(RECORD_ORIGINAL, index, position, entry.material, entry.data, 1);
+	}
+
+	/**
+	 * Records that a block previously passed to
+	 * {@link #recordOriginal(BlockState)} no longer needs to be restored.
+	 *
+	 * @param block The block that was reverted
+	 */
+	public static void recordRestored(Block block) {
+		if (!enabled) {
+			return;
+		}
+		Integer world = WORLD_INDICES.get(block.getWorld());
+		if (world == null || !ensureCapacity(RECORD_SIZE)) {
+			return;
+		}
+		long position = BlockKey.pack(block);
+		Map<Long, JournalEntry> entries = LIVE.get(world);
+		JournalEntry entry = entries.get(position);
+		if (entry == null) {
+			return;
+		}
+		if (--entry.count <= 0) {
+			entries.remove(position);
+		}
+		write(RECORD_RESTORED, world, position, 0, (byte) 0, 1);
+	}
+
+	private static int getWorldIndex(World world) {
+		Integer index = WORLD_INDICES.get(world);
+		if (index == null) {
+			index = WORLDS.size();
+			WORLDS.add(world);
+			WORLD_INDICES.put(world, index);
+			LIVE.add(new HashMap<Long, JournalEntry>());
+			writeWorld(index, world.getName());
+		}
+		return index;
+	}
+
+	/**
+	 * Rolls the segment if it cannot hold another record. This has to happen
+	 * before the live states are changed so that the snapshot taken by the
+	 * roll does not already contain the record being written.
+	 */
+	private static boolean ensureCapacity(int bytes) {
+		if (segment.remaining() < bytes) {
+			rollSegment();
+		}
+		return enabled;
+	}
+
+	private static void write(byte type, int world, long position, int material, byte data, int count) {
+		segment.put(type).put(data).putShort((short) material).putShort((short) world).putShort((short) count).putLong(position);
+		recordsWritten++;
+	}
+
+	private static void writeWorld(int index, String name) {
+		byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+		if (!ensureCapacity(5 + bytes.length)) {
+			return;
+		}
+		segment.put(RECORD_WORLD).putShort((short) index).putShort((short) bytes.length).put(bytes);
+	}
+
+	private static void openSegment() throws IOException {
+		File file = new File(folder, SEGMENT_PREFIX + generation + SUFFIX);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(segmentSize);
+			segment = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+		}
+		for (int i = 0; i < WORLDS.size(); i++) {
+			byte[] bytes = WORLDS.get(i).getName().getBytes(StandardCharsets.UTF_8);
+			segment.put(RECORD_WORLD).putShort((short) i).putShort((short) bytes.length).put(bytes);
+		}
+	}
+
+	/**
+	 * Starts a new segment and, unless a compaction is already running,
+	 * writes a snapshot of the live states to a new base file in the
+	 * background. The snapshot together with the new segment describes the
+	 * full journal, so every older file can be deleted once it is written.
+	 */
+	private static void rollSegment() {
+		segment.force();
+		generation++;
+		try {
+			openSegment();
+		}
+		catch (IOException e) {
+			ProjectKorra.log.severe("Unable to roll the block journal, journaling has been disabled");
+			e.printStackTrace();
+			enabled = false;
+			return;
+		}
+
+		if (compacting) {
+			return;
+		}
+		compacting = true;
+
+		final int base = generation;
+		final int journal;
+		synchronized (FILES) {
+			journal = session;
+		}
+		final String[] names = new String[WORLDS.size()];
+		final List<long[]> positions = new ArrayList<long[]>();
+		final List<int[]> states = new ArrayList<int[]>();
+		for (int i = 0; i < names.length; i++) {
+			names[i] = WORLDS.get(i).getName();
+			Map<Long, JournalEntry> entries = LIVE.get(i);
+			long[] worldPositions = new long[entries.size()];
+			int[] worldStates = new int[entries.size()];
+			int j = 0;
+			for (Map.Entry<Long, JournalEntry> entry : entries.entrySet()) {
+				JournalEntry value = entry.getValue();
+				worldPositions[j] = entry.getKey();
+				worldStates[j++] = value.material << 16 | (value.data & 0xFF) << 8 | Math.min(value.count, 0xFF);
+			}
+			positions.add(worldPositions);
+			states.add(worldStates);
+		}
+
+		new BukkitRunnable() {
+			@Override
+			public void run() {
+				try {
+					File temp = writeBase(base, names, positions, states);
+					// The journal may have been closed, and its files deleted,
+					// while the base was being written. Bukkit does not stop
+					// async tasks on disable, so the base must not be put in
+					// place for the next start to replay.
+					synchronized (FILES) {
+						if (journal != session) {
+							temp.delete();
+							return;
+						}
+						File file = new File(folder, BASE_PREFIX + base + SUFFIX);
+						if (!temp.renameTo(file)) {
+							throw new IOException("Unable to rename " + temp.getName());
+						}
+						deleteBefore(base);
+					}
+				}
+				catch (IOException e) {
+					ProjectKorra.log.warning("Unable to compact the block journal: " + e.getMessage());
+				}
+				finally {
+					compacting = false;
+				}
+			}
+		}.runTaskAsynchronously(ProjectKorra.plugin);
+	}
+
+	/**
+	 * Writes a snapshot of the live states to a temporary base file.
+	 *
+	 * @return The temporary file, to be renamed once the base is complete
+	 */
+	private static File writeBase(int base, String[] names, List<long[]> positions, List<int[]> states) throws IOException {
+		File temp = new File(folder, BASE_PREFIX + base + ".tmp");
+		try (FileOutputStream fos = new FileOutputStream(temp); DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+			for (int i = 0; i < names.length; i++) {
+				byte[] bytes = names[i].getBytes(StandardCharsets.UTF_8);
+				out.writeByte(RECORD_WORLD);
+				out.writeShort(i);
+				out.writeShort(bytes.length);
+				out.write(bytes);
+			}
+			for (int i = 0; i < names.length; i++) {
+				long[] worldPositions = positions.get(i);
+				int[] worldStates = states.get(i);
+				for (int j = 0; j < worldPositions.length; j++) {
+					out.writeByte(RECORD_ORIGINAL);
+					out.writeByte(worldStates[j] >> 8 & 0xFF);
+					out.writeShort(worldStates[j] >>> 16);
+					out.writeShort(i);
+					out.writeShort(worldStates[j] & 0xFF);
+					out.writeLong(worldPositions[j]);
+				}
+			}
+			out.writeByte(RECORD_END);
+			out.flush();
+			fos.getFD().sync();
+		}
+		return temp;
+	}
+
+	private static void deleteBefore(int base) {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			int fileGeneration = getGeneration(file);
+			if (fileGeneration >= 0 && fileGeneration < base) {
+				file.delete();
+			}
+		}
+	}
+
+	private static void deleteAll() {
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			if (file.getName().startsWith(BASE_PREFIX) || file.getName().startsWith(SEGMENT_PREFIX)) {
+				file.delete();
+			}
+		}
+	}
+
+	private static int getGeneration(File file) {
+		String name = file.getName();
+		String number;
+		if (name.startsWith(BASE_PREFIX) && name.endsWith(SUFFIX)) {
+			number = name.substring(BASE_PREFIX.length(), name.length() - SUFFIX.length());
+		} else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SUFFIX)) {
+			number = name.substring(SEGMENT_PREFIX.length(), name.length() - SUFFIX.length());
+		} else {
+			return -1;
+		}
+		try {
+			return Integer.parseInt(number);
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Restores every block left in the journal to its original state.
+	 *
+	 * @return The number of blocks restored
+	 */
+	@SuppressWarnings("deprecation")
+	private static int replay() throws IOException {
+		int base = -1;
+		TreeMap<Integer, File> segments = new TreeMap<Integer, File>();
+		File[] files = folder.listFiles();
+		if (files == null) {
+			return 0;
+		}
+		for (File file : files) {
+			int fileGeneration = getGeneration(file);
+			if (fileGeneration < 0) {
+				continue;
+			} else if (file.getName().startsWith(BASE_PREFIX)) {
+				base = Math.max(base, fileGeneration);
+			} else {
+				segments.put(fileGeneration, file);
+			}
+		}
+
+		Map<String, Map<Long, JournalEntry>> blocks = new HashMap<String, Map<Long, JournalEntry>>();
+		if (base >= 0) {
+			read(new File(folder, BASE_PREFIX + base + SUFFIX), blocks);
+		}
+		for (File file : segments.tailMap(Math.max(base, 0)).values()) {
+			read(file, blocks);
+		}
+
+		int restored = 0;
+		for (Map.Entry<String, Map<Long, JournalEntry>> entry : blocks.entrySet()) {
+			World world = Bukkit.getWorld(entry.getKey());
+			if (world == null) {
+				ProjectKorra.log.warning("Unable to restore journaled blocks in unknown world " + entry.getKey());
+				continue;
+			}
+			for (Map.Entry<Long, JournalEntry> block : entry.getValue().entrySet()) {
+				long position = block.getKey();
+				JournalEntry state = block.getValue();
+				world.getBlockAt(BlockKey.getX(position), BlockKey.getY(position), BlockKey.getZ(position)).setTypeIdAndData(state.material, state.data, false);
+				restored++;
+			}
+		}
+		return restored;
+	}
+
+	private static void read(File file, Map<String, Map<Long, JournalEntry>> blocks) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+		Map<Integer, Map<Long, JournalEntry>> worlds = new HashMap<Integer, Map<Long, JournalEntry>>();
+		try {
+			while (buffer.hasRemaining()) {
+				byte type = buffer.get();
+				if (type == RECORD_WORLD) {
+					int index = buffer.getShort();
+					byte[] name = new byte[buffer.getShort()];
+					buffer.get(name);
+					String world = new String(name, StandardCharsets.UTF_8);
+					if (!blocks.containsKey(world)) {
+						blocks.put(world, new HashMap<Long, JournalEntry>());
+					}
+					worlds.put(index, blocks.get(world));
+					continue;
+				} else if (type != RECORD_ORIGINAL && type != RECORD_RESTORED) {
+					// Either the unused end of a segment or a record that was torn by the crash.
+					break;
+				}
+
+				byte data = buffer.get();
+				int material = buffer.getShort() & 0xFFFF;
+				Map<Long, JournalEntry> entries = worlds.get((int) buffer.getShort());
+				int count = buffer.getShort();
+				long position = buffer.getLong();
+				if (entries == null) {
+					continue;
+				}
+
+				JournalEntry entry = entries.get(position);
+				if (type == RECORD_ORIGINAL) {
+					if (entry == null) {
+						entry = new JournalEntry(material, data);
+						entries.put(position, entry);
+					}
+					entry.count += count;
+				} else if (entry != null && --entry.count <= 0) {
+					entries.remove(position);
+				}
+			}
+		}
+		catch (BufferUnderflowException e) {
+			// The final record was only partially written.
+		}
+	}
+
+	private static class JournalEntry {
+
+		private final int material;
+		private final byte data;
+		private int count;
+
+		public JournalEntry(int material, byte data) {
+			this.material = material;
+			this.data = data;
+		}
+	}
+
+}
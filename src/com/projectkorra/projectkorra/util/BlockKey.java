@@ -0,0 +1,52 @@
+package com.projectkorra.projectkorra.util;
+
+import org.bukkit.block.Block;
+
+/**
+ * Packs block and chunk coordinates into a single long so that they can be
+ * used as map keys without keeping {@link Block} or
+ * {@link org.bukkit.Location} objects around. Keys do not include the world,
+ * so maps using them are expected to be kept per world.
+ */
+public class BlockKey {
+
+	/**
+	 * Packs block coordinates into 26 bits of x, 26 bits of z and 12 bits of
+	 * y, which covers every position a world can hold.
+	 */
+	public static long pack(int x, int y, int z) {
+		return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+	}
+
+	public static long pack(Block block) {
+		return pack(block.getX(), block.getY(), block.getZ());
+	}
+
+	public static int getX(long key) {
+		return (int) (key >> 38);
+	}
+
+	public static int getY(long key) {
+		return (int) (key & 0xFFF);
+	}
+
+	public static int getZ(long key) {
+		return (int) (key << 26 >> 38);
+	}
+
+	public static long chunk(int chunkX, int chunkZ) {
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * @return The key of the chunk that contains the packed block position
+	 */
+	public static long chunkOf(long key) {
+		return chunk(getX(key) >> 4, getZ(key) >> 4);
+	}
+
+	public static long chunkOf(Block block) {
+		return chunk(block.getX() >> 4, block.getZ() >> 4);
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.projectkorra.projectkorra.util;
+
+import org.bukkit.Material;
+import org.bukkit.block.Banner;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.CommandBlock;
+import org.bukkit.block.CreatureSpawner;
+import org.bukkit.block.FlowerPot;
+import org.bukkit.block.Jukebox;
+import org.bukkit.block.NoteBlock;
+import org.bukkit.block.Sign;
+import org.bukkit.block.Skull;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * Applies the block writes made by {@link TempBlock} and
+ * {@link com.projectkorra.projectkorra.ability.EarthAbility#moveEarthBlock(Block, Block)}.
+ * Each write is a single combined type and data write instead of a separate
+ * write for each, and writes that would leave a block unchanged are skipped,
+ * so an ability that recreates the same blocks every tick, such as Torrent,
+ * OctopusForm, WaterArms or SurgeWave, only touches the blocks that actually
+ * change.
+ * <p>
+ * Writes go to the world immediately, so an ability that reverts or places a
+ * block and then reads it in the same tick sees the new block. Repeated
+ * writes to a block within a tick still reach clients only once, since the
+ * server sends the blocks changed during a tick as one multi block change per
+ * chunk section. Everything in this class must be accessed from the main
+ * thread.
+ */
+public class BlockMutations {
+
+	/**
+	 * Sets the type and data of a block, unless it already has them.
+	 *
+	 * @param block The block to change
+	 * @param type The new type
+	 * @param data The new data
+	 * @param applyPhysics Whether neighboring blocks are updated
+	 */
+	@SuppressWarnings("deprecation")
+	public static void set(Block block, Material type, byte data, boolean applyPhysics) {
+		if (block.getType() == type && block.getData() == data) {
+			return;
+		}
+		block.setTypeIdAndData(type.getId(), data, applyPhysics);
+	}
+
+	/**
+	 * Restores a block to a saved state.
+	 *
+	 * @param state The state to restore
+	 */
+	public static void restore(BlockState state) {
+		restore(state, true);
+	}
+
+	/**
+	 * Restores a block to a saved state. States that hold tile entity data,
+	 * such as chests and signs, are always restored through
+	 * {@link BlockState#update(boolean, boolean)}, everything else goes
+	 * through {@link #set}.
+	 *
+	 * @param state The state to restore
+	 * @param applyPhysics Whether neighboring blocks are updated
+	 */
+	public static void restore(BlockState state, boolean applyPhysics) {
+		if (hasTileData(state)) {
+			state.update(true, applyPhysics);
+		} else {
+			set(state.getBlock(), state.getType(), state.getRawData(), applyPhysics);
+		}
+	}
+
+	private static boolean hasTileData(BlockState state) {
+		return state instanceof InventoryHolder || state instanceof Sign || state instanceof CreatureSpawner || state instanceof Skull || state instanceof Banner || state instanceof CommandBlock || state instanceof FlowerPot || state instanceof Jukebox || state instanceof NoteBlock;
+	}
+
+}
@@ -0,0 +1,222 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ability.CoreAbility;
+
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records which ability instance owns a block and what the block is to it,
+ * such as the water of a wave or the ice it froze. Questions like "is this
+ * block part of a SurgeWave" are then answered by a single lookup instead of
+ * going through every instance of the ability.
+ * <p>
+ * Blocks are claimed with {@link #claim(Block, CoreAbility, String)}, or with
+ * {@link TempBlock#setOwner(CoreAbility, String)} for TempBlocks, whose claim
+ * is released when the TempBlock reverts. Every claim of an ability is
+ * released when it is removed. Everything in this class must be accessed
+ * from the main thread.
+ */
+public class BlockOwnership {
+
+	private static final Map<Block, Claim> CLAIMS = new HashMap<Block, Claim>();
+	private static final Map<CoreAbility, Set<Block>> BY_OWNER = new HashMap<CoreAbility, Set<Block>>();
+
+	/**
+	 * Claims a block for an ability, replacing any previous claim.
+	 *
+	 * @param block The block
+	 * @param owner The ability instance
+	 * @param role What the block is to the ability
+	 */
+	public static void claim(Block block, CoreAbility owner, String role) {
+		claim(block, owner, role, null);
+	}
+
+	static void claim(Block block, CoreAbility owner, String role, TempBlock tempBlock) {
+		release(block);
+		CLAIMS.put(block, new Claim(owner, role, tempBlock));
+		Set<Block> blocks = BY_OWNER.get(owner);
+		if (blocks == null) {
+			blocks = new HashSet<Block>();
+			BY_OWNER.put(owner, blocks);
+		}
+		blocks.add(block);
+	}
+
+	/**
+	 * Releases the claim on a block, whoever owns it.
+	 *
+	 * @param block The block
+	 */
+	public static void release(Block block) {
+		Claim claim = CLAIMS.remove(block);
+		if (claim != null) {
+			unlink(claim.owner, block);
+		}
+	}
+
+	/**
+	 * Releases the claim on a block if it belongs to an ability.
+	 *
+	 * @param block The block
+	 * @param owner The ability instance
+	 */
+	public static void release(Block block, CoreAbility owner) {
+		Claim claim = CLAIMS.get(block);
+		if (claim != null && claim.owner == owner) {
+			release(block);
+		}
+	}
+
+	/**
+	 * Releases the claim on the block of a TempBlock that is reverting, unless
+	 * the block has been claimed without it since.
+	 */
+	static void release(Block block, TempBlock tempBlock) {
+		Claim claim = CLAIMS.get(block);
+		if (claim != null && claim.tempBlock == tempBlock) {
+			release(block);
+		}
+	}
+
+	/**
+	 * Releases every claim of an ability.
+	 *
+	 * @param owner The ability instance
+	 */
+	public static void releaseAll(CoreAbility owner) {
+		Set<Block> blocks = BY_OWNER.remove(owner);
+		if (blocks != null) {
+			for (Block block : blocks) {
+				CLAIMS.remove(block);
+			}
+		}
+	}
+
+	/**
+	 * @param block The block
+	 * @return The ability that owns the block, or null
+	 */
+	public static CoreAbility getOwner(Block block) {
+		Claim claim = CLAIMS.get(block);
+		return claim != null ? claim.owner : null;
+	}
+
+	/**
+	 * @param block The block
+	 * @return What the block is to the ability that owns it, or null
+	 */
+	public static String getRole(Block block) {
+		Claim claim = CLAIMS.get(block);
+		return claim != null ? claim.role : null;
+	}
+
+	/**
+	 * Gets the owner of a block if it is an ability of a type that owns the
+	 * block in a role.
+	 *
+	 * @param block The block
+	 * @param type The class of the ability
+	 * @param role The role, or null for any role
+	 * @return The owner, or null if the block is not owned that way
+	 */
+	public static <T extends CoreAbility> T getOwner(Block block, Class<T> type, String role) {
+		Claim claim = CLAIMS.get(block);
+		if (claim == null || !type.isInstance(claim.owner) || (role != null && !role.equals(claim.role))) {
+			return null;
+		}
+		return type.cast(claim.owner);
+	}
+
+	/**
+	 * @see #getOwner(Block, Class, String)
+	 */
+	public static boolean isOwnedBy(Block block, Class<? extends CoreAbility> type, String role) {
+		return getOwner(block, type, role) != null;
+	}
+
+	/**
+	 * @param owner The ability instance
+	 * @return The blocks the ability owns
+	 */
+	public static Set<Block> getBlocks(CoreAbility owner) {
+		Set<Block> blocks = BY_OWNER.get(owner);
+		return blocks != null ? Collections.unmodifiableSet(blocks) : Collections.<Block> emptySet();
+	}
+
+	public static int getClaimCount() {
+		return CLAIMS.size();
+	}
+
+	public static int getOwnerCount() {
+		return BY_OWNER.size();
+	}
+
+	/**
+	 * Checks that the claims agree with the abilities and TempBlocks they
+	 * refer to and with the index of blocks by owner.
+	 *
+	 * @return A line for each problem found
+	 */
+	public static List<String> check() {
+		List<String> problems = new ArrayList<String>();
+		for (Map.Entry<Block, Claim> entry : CLAIMS.entrySet()) {
+			Block block = entry.getKey();
+			Claim claim = entry.getValue();
+			String name = describe(block, claim);
+			if (claim.owner.isRemoved()) {
+				problems.add(name + " is owned by a removed ability");
+			}
+			if (claim.tempBlock != null && TempBlock.instances.get(block) != claim.tempBlock) {
+				problems.add(name + " is claimed through a TempBlock that has reverted");
+			}
+			Set<Block> blocks = BY_OWNER.get(claim.owner);
+			if (blocks == null || !blocks.contains(block)) {
+				problems.add(name + " is missing from the blocks of its owner");
+			}
+		}
+		for (Map.Entry<CoreAbility, Set<Block>> entry : BY_OWNER.entrySet()) {
+			for (Block block : entry.getValue()) {
+				Claim claim = CLAIMS.get(block);
+				if (claim == null || claim.owner != entry.getKey()) {
+					problems.add(entry.getKey().getName() + " " + entry.getKey().getId() + " lists " + describe(block, claim) + " without owning it");
+				}
+			}
+		}
+		return problems;
+	}
+
+	private static String describe(Block block, Claim claim) {
+		String position = block.getWorld().getName() + " " + block.getX() + ", " + block.getY() + ", " + block.getZ();
+		return claim != null ? claim.owner.getName() + " " + claim.owner.getId() + " " + claim.role + " at " + position : position;
+	}
+
+	private static void unlink(CoreAbility owner, Block block) {
+		Set<Block> blocks = BY_OWNER.get(owner);
+		if (blocks != null && blocks.remove(block) && blocks.isEmpty()) {
+			BY_OWNER.remove(owner);
+		}
+	}
+
+	private static class Claim {
+
+		private final CoreAbility owner;
+		private final String role;
+		private final TempBlock tempBlock;
+
+		private Claim(CoreAbility owner, String role, TempBlock tempBlock) {
+			this.owner = owner;
+			this.role = role;
+			this.tempBlock = tempBlock;
+		}
+	}
+
+}
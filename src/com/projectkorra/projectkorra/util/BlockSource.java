@@ -39,6 +39,10 @@ public class BlockSource {
 	private static double MAX_RANGE = config.getDouble("Abilities.Water.WaterManipulation.SelectRange");
 	//private static boolean tempblock = config.getBoolean("Properties.Water.CanBendFromBentBlocks");
 
+	static {
+		EntityLifecycle.register("BlockSource.playerSources", playerSources);
+	}
+
 	/**
 	 * Updates all of the player's sources.
 	 * 
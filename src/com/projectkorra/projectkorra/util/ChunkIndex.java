@@ -0,0 +1,88 @@
+package com.projectkorra.projectkorra.util;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Groups values by the chunk of the block they belong to, so that everything
+ * in a chunk can be found when it unloads without going through every value.
+ * A value may be added under several blocks, for example moved earth, which
+ * belongs to both the block it was taken from and the block it was moved to.
+ * Everything in this class must be accessed from the main thread.
+ *
+ * @param <T> The type of the values
+ */
+public class ChunkIndex<T> {
+
+	private final Map<World, Map<Long, Set<T>>> chunks = new HashMap<World, Map<Long, Set<T>>>();
+
+	public void add(Block block, T value) {
+		Map<Long, Set<T>> world = chunks.get(block.getWorld());
+		if (world == null) {
+			world = new HashMap<Long, Set<T>>();
+			chunks.put(block.getWorld(), world);
+		}
+		long key = BlockKey.chunkOf(block);
+		Set<T> values = world.get(key);
+		if (values == null) {
+			values = new HashSet<T>();
+			world.put(key, values);
+		}
+		values.add(value);
+	}
+
+	public void remove(Block block, T value) {
+		Map<Long, Set<T>> world = chunks.get(block.getWorld());
+		if (world == null) {
+			return;
+		}
+		long key = BlockKey.chunkOf(block);
+		Set<T> values = world.get(key);
+		if (values != null && values.remove(value) && values.isEmpty()) {
+			world.remove(key);
+			if (world.isEmpty()) {
+				chunks.remove(block.getWorld());
+			}
+		}
+	}
+
+	/**
+	 * Takes every value in a chunk out of the index.
+	 *
+	 * @return The values that were in the chunk
+	 */
+	public Set<T> removeChunk(World world, int chunkX, int chunkZ) {
+		Map<Long, Set<T>> values = chunks.get(world);
+		if (values == null) {
+			return Collections.emptySet();
+		}
+		Set<T> removed = values.remove(BlockKey.chunk(chunkX, chunkZ));
+		if (values.isEmpty()) {
+			chunks.remove(world);
+		}
+		return removed != null ? removed : Collections.<T> emptySet();
+	}
+
+	/**
+	 * Takes every value in a world out of the index.
+	 *
+	 * @return The values that were in the world
+	 */
+	public Set<T> removeWorld(World world) {
+		Map<Long, Set<T>> values = chunks.remove(world);
+		Set<T> removed = new HashSet<T>();
+		if (values != null) {
+			for (Set<T> chunk : values.values()) {
+				removed.addAll(chunk);
+			}
+		}
+		return removed;
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ProjectKorra;
+import com.projectkorra.projectkorra.ability.EarthAbility;
+import com.projectkorra.projectkorra.firebending.util.FireTracker;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reverts the bending changes in a chunk while it is still loaded, right
+ * before it unloads. Otherwise TempBlocks, moved earth and temporary fire
+ * stay registered after their chunk is gone and reverting them later loads
+ * the chunk again on the main thread.
+ * <p>
+ * TempBlocks, moved earth and temporary air and fire are each indexed by
+ * chunk, so only the changes in the unloading chunk are looked at. Static
+ * maps that hold on to TempBlocks, such as the blocks frozen by Torrent,
+ * register themselves so that the TempBlocks reverted here are dropped from
+ * them as well.
+ */
+public class ChunkReverter implements Listener {
+
+	private static final List<Map<TempBlock, ?>> TEMP_BLOCK_MAPS = new CopyOnWriteArrayList<Map<TempBlock, ?>>();
+	private static final List<Map<Block, ?>> BLOCK_MAPS = new CopyOnWriteArrayList<Map<Block, ?>>();
+
+	/**
+	 * Registers a map whose entries are dropped when their TempBlock is
+	 * reverted because its chunk unloads.
+	 *
+	 * @param map The map
+	 */
+	public static void registerTempBlocks(Map<TempBlock, ?> map) {
+		TEMP_BLOCK_MAPS.add(map);
+	}
+
+	/**
+	 * Registers a map keyed by the blocks of TempBlocks whose entries are
+	 * dropped when the TempBlock is reverted because its chunk unloads.
+	 *
+	 * @param map The map
+	 */
+	public static void registerBlocks(Map<Block, ?> map) {
+		BLOCK_MAPS.add(map);
+	}
+
+	/**
+	 * Reverts every bending change in a chunk.
+	 */
+	public static void revertChunk(World world, int chunkX, int chunkZ) {
+		forget(TempBlock.revertChunk(world, chunkX, chunkZ));
+		EarthAbility.revertChunk(world, chunkX, chunkZ);
+		FireTracker.removeChunk(world, chunkX, chunkZ);
+	}
+
+	/**
+	 * Reverts every bending change in a world.
+	 */
+	public static void revertWorld(World world) {
+		forget(TempBlock.revertWorld(world));
+		EarthAbility.revertWorld(world);
+		for (Chunk chunk : world.getLoadedChunks()) {
+			FireTracker.removeChunk(world, chunk.getX(), chunk.getZ());
+		}
+	}
+
+	/**
+	 * Registers the listener that reverts chunks and worlds as they unload.
+	 */
+	public static void start() {
+		Bukkit.getPluginManager().registerEvents(new ChunkReverter(), ProjectKorra.plugin);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onChunkUnload(ChunkUnloadEvent event) {
+		Chunk chunk = event.getChunk();
+		revertChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onWorldUnload(WorldUnloadEvent event) {
+		revertWorld(event.getWorld());
+	}
+
+	private static void forget(List<TempBlock> reverted) {
+		if (reverted.isEmpty()) {
+			return;
+		}
+		Set<TempBlock> tempBlocks = new HashSet<TempBlock>(reverted);
+		Set<Block> blocks = new HashSet<Block>();
+		for (TempBlock tempBlock : reverted) {
+			blocks.add(tempBlock.getBlock());
+		}
+		for (Map<TempBlock, ?> map : TEMP_BLOCK_MAPS) {
+			if (!map.isEmpty()) {
+				map.keySet().removeAll(tempBlocks);
+			}
+		}
+		for (Map<Block, ?> map : BLOCK_MAPS) {
+			if (!map.isEmpty()) {
+				map.keySet().removeAll(blocks);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.projectkorra.projectkorra.util;
+
+import java.util.PriorityQueue;
+
+/**
+ * Runs tasks once a given time has passed. Unlike a scan over every tracked
+ * object, {@link #runDue()} only looks at the head of a queue ordered by
+ * deadline, so it costs nothing when nothing is due. Tasks are run from the
+ * {@link com.projectkorra.projectkorra.BendingManager} tick and must only be
+ * scheduled from the main thread.
+ */
+public class DeadlineScheduler {
+
+	private static final PriorityQueue<Deadline> QUEUE = new PriorityQueue<Deadline>();
+
+	/**
+	 * Schedules a task to run on the first tick after the given time.
+	 *
+	 * @param time The time in milliseconds after which the task runs
+	 * @param task The task to run
+	 * @return A handle that can be used to cancel the task
+	 */
+	public static Deadline schedule(long time, Runnable task) {
+		Deadline deadline = new Deadline(time, task);
+		QUEUE.add(deadline);
+		return deadline;
+	}
+
+	/**
+	 * Runs every task whose time has passed, including tasks scheduled by
+	 * those tasks if they are already due.
+	 */
+	public static void runDue() {
+		long time = System.currentTimeMillis();
+		while (!QUEUE.isEmpty() && QUEUE.peek().time <= time) {
+			Deadline deadline = QUEUE.poll();
+			if (!deadline.cancelled) {
+				deadline.task.run();
+			}
+		}
+	}
+
+	/**
+	 * Cancels and drops every scheduled task without running it. Called when
+	 * bending is stopped on reload or disable, so that tasks scheduled for
+	 * the old abilities and effects do not run afterwards.
+	 */
+	public static void clear() {
+		for (Deadline deadline : QUEUE) {
+			deadline.cancelled = true;
+		}
+		QUEUE.clear();
+	}
+
+	public static int getScheduledCount() {
+		return QUEUE.size();
+	}
+
+	public static class Deadline implements Comparable<Deadline> {
+
+		private final long time;
+		private final Runnable task;
+		private boolean cancelled;
+
+		private Deadline(long time, Runnable task) {
+			this.time = time;
+			this.task = task;
+		}
+
+		/**
+		 * Prevents the task from running. Cancelled tasks are discarded when
+		 * their time comes instead of being searched for in the queue.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+
+		public long getTime() {
+			return time;
+		}
+
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		@Override
+		public int compareTo(Deadline other) {
+			return Long.compare(time, other.time);
+		}
+	}
+
+}
@@ -0,0 +1,247 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ProjectKorra;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Removes entities from the static maps that abilities and utilities key by
+ * entity, so that dead mobs and players that have logged out are not held on
+ * to until some specific code path happens to remove them. Each map is
+ * registered once, keyed by the entity itself, its entity id or, for players,
+ * its name.
+ * <p>
+ * Entities are removed from every registered map when they die, when their
+ * chunk unloads and, for players, when they quit. Players are kept through
+ * death, since they respawn as the same entity. Entities can also disappear
+ * without an event, for example when a mob despawns, so every map is swept
+ * for stale entries once a minute. The number of entries removed each way is
+ * kept per map for the leak report in /bending debug.
+ */
+public class EntityLifecycle implements Listener {
+
+	private static final long SWEEP_INTERVAL = 1200;
+	private static final List<Tracked> MAPS = new CopyOnWriteArrayList<Tracked>();
+
+	private static long lastSweep;
+
+	/**
+	 * Registers a map keyed by entities.
+	 *
+	 * @param name The name shown in the leak report
+	 * @param map The map
+	 */
+	public static void register(String name, Map<? extends Entity, ?> map) {
+		MAPS.add(new Tracked(name, map, KeyType.ENTITY));
+	}
+
+	/**
+	 * Registers a map keyed by {@link Entity#getEntityId() entity ids}.
+	 *
+	 * @param name The name shown in the leak report
+	 * @param map The map
+	 */
+	public static void registerById(String name, Map<Integer, ?> map) {
+		MAPS.add(new Tracked(name, map, KeyType.ID));
+	}
+
+	/**
+	 * Registers a map keyed by player names.
+	 *
+	 * @param name The name shown in the leak report
+	 * @param map The map
+	 */
+	public static void registerByName(String name, Map<String, ?> map) {
+		MAPS.add(new Tracked(name, map, KeyType.NAME));
+	}
+
+	/**
+	 * Removes an entity from every registered map.
+	 *
+	 * @param entity The entity
+	 */
+	public static void remove(Entity entity) {
+		for (Tracked tracked : MAPS) {
+			Object key = tracked.type.keyOf(entity);
+			if (key != null && tracked.map.remove(key) != null) {
+				tracked.removed++;
+			}
+		}
+	}
+
+	/**
+	 * Removes every entry whose entity is no longer in a world or whose player
+	 * is no longer online.
+	 *
+	 * @return The number of entries removed
+	 */
+	public static int sweep() {
+		lastSweep = System.currentTimeMillis();
+		Set<Integer> liveIds = getLiveIds();
+		int swept = 0;
+		for (Tracked tracked : MAPS) {
+			for (Iterator<?> iterator = tracked.map.keySet().iterator(); iterator.hasNext();) {
+				if (tracked.type.isStale(iterator.next(), liveIds)) {
+					iterator.remove();
+					tracked.swept++;
+					swept++;
+				}
+			}
+		}
+		return swept;
+	}
+
+	/**
+	 * @return A line for each registered map with its size, the entries that
+	 *         would currently be swept and how many entries have been removed
+	 *         on death, unload or quit and by sweeps so far
+	 */
+	public static List<String> getReport() {
+		Set<Integer> liveIds = getLiveIds();
+		List<String> lines = new ArrayList<String>();
+		for (Tracked tracked : MAPS) {
+			int stale = 0;
+			for (Object key : tracked.map.keySet()) {
+				if (tracked.type.isStale(key, liveIds)) {
+					stale++;
+				}
+			}
+			lines.add(tracked.name + ": " + tracked.map.size() + " entries, " + stale + " stale, " + tracked.removed + " removed, " + tracked.swept + " swept");
+		}
+		return lines;
+	}
+
+	public static long getLastSweep() {
+		return lastSweep;
+	}
+
+	/**
+	 * Registers the listener and starts the sweep task.
+	 */
+	public static void start() {
+		Bukkit.getPluginManager().registerEvents(new EntityLifecycle(), ProjectKorra.plugin);
+		new BukkitRunnable() {
+			@Override
+			public void run() {
+				sweep();
+			}
+		}.runTaskTimer(ProjectKorra.plugin, SWEEP_INTERVAL, SWEEP_INTERVAL);
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onEntityDeath(EntityDeathEvent event) {
+		if (!(event.getEntity() instanceof Player)) {
+			remove(event.getEntity());
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+	public void onChunkUnload(ChunkUnloadEvent event) {
+		for (Entity entity : event.getChunk().getEntities()) {
+			if (entity instanceof Player) {
+				continue;
+			} else if (entity instanceof LivingEntity && TempArmor.hasTempArmor((LivingEntity) entity)) {
+				TempArmor.getTempArmor((LivingEntity) entity).revert();
+			}
+			remove(entity);
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onPlayerQuit(PlayerQuitEvent event) {
+		remove(event.getPlayer());
+	}
+
+	private static Set<Integer> getLiveIds() {
+		Set<Integer> ids = new HashSet<Integer>();
+		for (Tracked tracked : MAPS) {
+			if (tracked.type == KeyType.ID && !tracked.map.isEmpty()) {
+				for (World world : Bukkit.getWorlds()) {
+					for (Entity entity : world.getEntities()) {
+						ids.add(entity.getEntityId());
+					}
+				}
+				break;
+			}
+		}
+		return ids;
+	}
+
+	private enum KeyType {
+		ENTITY {
+			@Override
+			Object keyOf(Entity entity) {
+				return entity;
+			}
+
+			@Override
+			boolean isStale(Object key, Set<Integer> liveIds) {
+				if (key instanceof Player) {
+					return !((Player) key).isOnline();
+				}
+				return !((Entity) key).isValid();
+			}
+		},
+		ID {
+			@Override
+			Object keyOf(Entity entity) {
+				return entity.getEntityId();
+			}
+
+			@Override
+			boolean isStale(Object key, Set<Integer> liveIds) {
+				return !liveIds.contains(key);
+			}
+		},
+		NAME {
+			@Override
+			Object keyOf(Entity entity) {
+				return entity instanceof Player ? entity.getName() : null;
+			}
+
+			@Override
+			boolean isStale(Object key, Set<Integer> liveIds) {
+				return Bukkit.getPlayerExact((String) key) == null;
+			}
+		};
+
+		abstract Object keyOf(Entity entity);
+
+		abstract boolean isStale(Object key, Set<Integer> liveIds);
+	}
+
+	private static class Tracked {
+
+		private final String name;
+		private final Map<?, ?> map;
+		private final KeyType type;
+		private int removed;
+		private int swept;
+
+		private Tracked(String name, Map<?, ?> map, KeyType type) {
+			this.name = name;
+			this.map = map;
+			this.type = type;
+		}
+	}
+
+}
@@ -1,6 +1,6 @@
 package com.projectkorra.projectkorra.util;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,6 +15,7 @@ import com.projectkorra.projectkorra.airbending.Tornado;
 import com.projectkorra.projectkorra.earthbending.Catapult;
 import com.projectkorra.projectkorra.earthbending.sand.SandSpout;
 import com.projectkorra.projectkorra.firebending.FireJet;
+import com.projectkorra.projectkorra.util.DeadlineScheduler.Deadline;
 import com.projectkorra.projectkorra.waterbending.WaterSpout;
 import com.projectkorra.projectkorra.waterbending.blood.Bloodbending;
 
@@ -23,11 +24,27 @@ public class Flight {
 	private static Map<Player, Flight> instances = new ConcurrentHashMap<Player, Flight>();
 	private static long duration = 5000;
 
+	/** Abilities that keep a Flight alive until it expires without refreshing it. */
+	private static final Set<Class<? extends CoreAbility>> HOVERING_ABILITIES = new HashSet<Class<? extends CoreAbility>>();
+	/** Abilities that keep refreshing a Flight for as long as they are active. */
+	private static final Set<Class<? extends CoreAbility>> LAUNCHING_ABILITIES = new HashSet<Class<? extends CoreAbility>>();
+
+	static {
+		HOVERING_ABILITIES.add(AirScooter.class);
+		HOVERING_ABILITIES.add(WaterSpout.class);
+		HOVERING_ABILITIES.add(AirSpout.class);
+		HOVERING_ABILITIES.add(SandSpout.class);
+		LAUNCHING_ABILITIES.add(Tornado.class);
+		LAUNCHING_ABILITIES.add(FireJet.class);
+		LAUNCHING_ABILITIES.add(Catapult.class);
+	}
+
 	private Player player;
 	private Player source;
 	private boolean couldFly = false;
 	private boolean wasFlying = false;
 	private long time;
+	private Deadline check;
 
 	public Flight(Player player) {
 		this(player, null);
@@ -45,6 +62,7 @@ public class Flight {
 		this.source = source;
 		this.time = System.currentTimeMillis();
 		instances.put(player, this);
+		schedule(time);
 	}
 
 	@Override
@@ -63,51 +81,77 @@ public class Flight {
 		return null;
 	}
 
-	public static void handle() {
-		ArrayList<Player> players = new ArrayList<>();
-		ArrayList<Player> newFlyingPlayers = new ArrayList<Player>();
-		Set<Player> airScooterPlayers = CoreAbility.getPlayers(AirScooter.class);
-		Set<Player> waterSpoutPlayers = CoreAbility.getPlayers(WaterSpout.class);
-		Set<Player> airSpoutPlayers = CoreAbility.getPlayers(AirSpout.class);
-		Set<Player> sandSpoutPlayers = CoreAbility.getPlayers(SandSpout.class);
-
-		players.addAll(CoreAbility.getPlayers(Tornado.class));
-		players.addAll(CoreAbility.getPlayers(FireJet.class));
-		players.addAll(CoreAbility.getPlayers(Catapult.class));
+	/**
+	 * Re-evaluates the player's Flight on the next tick when one of the
+	 * abilities that keeps it alive starts or stops. Called by
+	 * {@link CoreAbility} so that Flights never have to be polled.
+	 * 
+	 * @param ability The ability that was started or removed
+	 */
+	public static void handleAbilityChange(CoreAbility ability) {
+		Class<? extends CoreAbility> clazz = ability.getClass();
+		if (!HOVERING_ABILITIES.contains(clazz) && !LAUNCHING_ABILITIES.contains(clazz)) {
+			return;
+		}
+		Flight flight = instances.get(ability.getPlayer());
+		if (flight != null) {
+			flight.schedule(System.currentTimeMillis());
+		}
+	}
 
-		for (Player player : instances.keySet()) {
-			Flight flight = instances.get(player);
-			if (System.currentTimeMillis() <= flight.time + duration) {
-				if (airScooterPlayers.contains(player) || waterSpoutPlayers.contains(player) || airSpoutPlayers.contains(player) || sandSpoutPlayers.contains(player)) {
-					continue;
-				}
-				if (Bloodbending.isBloodbent(player)) {
-					player.setAllowFlight(true);
-					player.setFlying(false);
-					continue;
-				}
+	private static boolean hasAbility(Player player, Set<Class<? extends CoreAbility>> abilities) {
+		for (Class<? extends CoreAbility> clazz : abilities) {
+			if (CoreAbility.hasAbility(player, clazz)) {
+				return true;
+			}
+		}
+		return false;
+	}
 
-				if (players.contains(player)) {
-					flight.refresh(null);
-					player.setAllowFlight(true);
-					if (player.getGameMode() != GameMode.CREATIVE)
-						player.setFlying(false);
-					newFlyingPlayers.add(player);
-					continue;
-				}
-				if (flight.source == null) {
-					flight.revert();
-					flight.remove();
-				} else {
-					if (System.currentTimeMillis() >= flight.time + duration) {
-						flight.revert();
-						flight.remove();
-					}
-				}
-			} else {
-				flight.revert();
-				flight.remove();
+	private void schedule(long time) {
+		if (check != null) {
+			check.cancel();
+		}
+		check = DeadlineScheduler.schedule(time, new Runnable() {
+			@Override
+			public void run() {
+				check = null;
+				handle();
 			}
+		});
+	}
+
+	private void handle() {
+		if (instances.get(player) != this) {
+			return;
+		}
+		// Launching abilities refresh the Flight for as long as they are
+		// active, so it must not expire while one is still running.
+		if (!hasAbility(player, HOVERING_ABILITIES) && !Bloodbending.isBloodbent(player) && hasAbility(player, LAUNCHING_ABILITIES)) {
+			refresh(null);
+			player.setAllowFlight(true);
+			if (player.getGameMode() != GameMode.CREATIVE)
+				player.setFlying(false);
+			return;
+		}
+		if (System.currentTimeMillis() > time + duration) {
+			revert();
+			remove();
+			return;
+		}
+
+		if (hasAbility(player, HOVERING_ABILITIES)) {
+			schedule(time + duration + 1);
+		} else if (Bloodbending.isBloodbent(player)) {
+			player.setAllowFlight(true);
+			player.setFlying(false);
+			// Bloodbending does not notify us when it releases its target, so keep checking while it lasts.
+			schedule(System.currentTimeMillis() + 50);
+		} else if (source == null) {
+			revert();
+			remove();
+		} else {
+			schedule(time + duration + 1);
 		}
 	}
 
@@ -127,9 +171,14 @@ public class Flight {
 		this.source = source;
 		time = System.currentTimeMillis();
 		instances.put(player, this);
+		schedule(time + duration + 1);
 	}
 
 	public void remove() {
+		if (check != null) {
+			check.cancel();
+			check = null;
+		}
 		if (player == null) {
 			for (Player player : instances.keySet()) {
 				if (instances.get(player).equals(this)) {
@@ -15,6 +15,10 @@ import com.projectkorra.projectkorra.configuration.ConfigManager;
 public class PassiveHandler {
 	
 	private static final Map<Player, Float> FOOD = new ConcurrentHashMap<>();
+
+	static {
+		EntityLifecycle.register("PassiveHandler.FOOD", FOOD);
+	}
 	
 	public static float getExhaustion(Player player, float level, double factor) {
 		if (!FOOD.keySet().contains(player)) {
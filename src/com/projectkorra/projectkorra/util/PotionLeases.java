@@ -0,0 +1,347 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ability.CoreAbility;
+import com.projectkorra.projectkorra.util.DeadlineScheduler.Deadline;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps potion effects on entities for as long as abilities want them there,
+ * such as the speed of a stance or the jump boost of a passive. An ability
+ * leases an effect type at an amplifier and releases it when it no longer
+ * applies, instead of adding a short effect again every few ticks.
+ * <p>
+ * Leases of the same type on an entity are merged, the highest amplifier
+ * winning. The effect is sent with a long duration and is only sent again
+ * when the merged amplifier changes, when the effect has gone missing, for
+ * example after milk or death, or when it is about to run out. A stronger
+ * effect of the same type that did not come from a lease is left alone until
+ * it ends. Once the last lease of a type is released, the effect is removed
+ * if it is still the one that was leased. Every lease of an ability is
+ * released when it is removed, and the leases on a player end when they quit
+ * so that the long effects are not saved with them. Everything in this class
+ * must be accessed from the main thread.
+ */
+public class PotionLeases {
+
+	/** How long a leased effect is sent for, in ticks. */
+	private static final int DURATION = 200;
+	/** How many ticks may be left before a leased effect is sent again. */
+	private static final int REFRESH = 60;
+	private static final long TICK = 50;
+
+	private static final Map<LivingEntity, Map<PotionEffectType, Lease>> LEASES = new HashMap<LivingEntity, Map<PotionEffectType, Lease>>();
+	private static final Map<CoreAbility, Set<LivingEntity>> BY_OWNER = new HashMap<CoreAbility, Set<LivingEntity>>();
+
+	private static long sent;
+
+	static {
+		EntityLifecycle.register("PotionLeases", LEASES);
+	}
+
+	/**
+	 * Leases an effect that is ambient and shows particles, like the effects
+	 * created by {@link PotionEffect#PotionEffect(PotionEffectType, int, int)}.
+	 *
+	 * @see #lease(LivingEntity, CoreAbility, PotionEffectType, int, boolean,
+	 *      boolean)
+	 */
+	public static void lease(LivingEntity entity, CoreAbility owner, PotionEffectType type, int amplifier) {
+		lease(entity, owner, type, amplifier, true, true);
+	}
+
+	/**
+	 * Keeps an effect on an entity until the lease is released. Leasing a type
+	 * the owner already leases on the entity replaces its amplifier. Calling
+	 * this every tick with the same values is cheap; nothing is sent unless
+	 * the effect has to change.
+	 *
+	 * @param entity The entity
+	 * @param owner The ability that wants the effect
+	 * @param type The type of the effect
+	 * @param amplifier The amplifier, where 0 is level I
+	 * @param ambient Whether the effect is shown as coming from a beacon
+	 * @param particles Whether the effect shows particles
+	 */
+	public static void lease(LivingEntity entity, CoreAbility owner, PotionEffectType type, int amplifier, boolean ambient, boolean particles) {
+		Map<PotionEffectType, Lease> leases = LEASES.get(entity);
+		if (leases == null) {
+			leases = new HashMap<PotionEffectType, Lease>();
+			LEASES.put(entity, leases);
+		}
+		Lease lease = leases.get(type);
+		if (lease == null) {
+			lease = new Lease(entity, type);
+			leases.put(type, lease);
+		}
+		Integer previous = lease.amplifiers.put(owner, amplifier);
+		Set<LivingEntity> entities = BY_OWNER.get(owner);
+		if (entities == null) {
+			entities = new HashSet<LivingEntity>();
+			BY_OWNER.put(owner, entities);
+		}
+		entities.add(entity);
+
+		if (previous == null || previous != amplifier) {
+			if (amplifier >= lease.amplifier) {
+				lease.ambient = ambient;
+				lease.particles = particles;
+			}
+			if (lease.merge()) {
+				lease.send();
+				return;
+			}
+		}
+		if (!entity.hasPotionEffect(type)) {
+			lease.send();
+		}
+	}
+
+	/**
+	 * Releases the lease of an ability on an effect type of an entity.
+	 *
+	 * @param entity The entity
+	 * @param owner The ability
+	 * @param type The type of the effect
+	 */
+	public static void release(LivingEntity entity, CoreAbility owner, PotionEffectType type) {
+		Map<PotionEffectType, Lease> leases = LEASES.get(entity);
+		Lease lease = leases != null ? leases.get(type) : null;
+		if (lease == null || lease.amplifiers.remove(owner) == null) {
+			return;
+		}
+		if (lease.amplifiers.isEmpty()) {
+			lease.end();
+			leases.remove(type);
+			if (leases.isEmpty()) {
+				LEASES.remove(entity);
+			}
+		} else if (lease.merge()) {
+			lease.send();
+		}
+		if (!isLeasing(leases, owner)) {
+			unlink(owner, entity);
+		}
+	}
+
+	/**
+	 * Releases every lease of an ability on an entity.
+	 *
+	 * @param entity The entity
+	 * @param owner The ability
+	 */
+	public static void release(LivingEntity entity, CoreAbility owner) {
+		Map<PotionEffectType, Lease> leases = LEASES.get(entity);
+		if (leases != null) {
+			for (PotionEffectType type : new HashSet<PotionEffectType>(leases.keySet())) {
+				release(entity, owner, type);
+			}
+		}
+		unlink(owner, entity);
+	}
+
+	/**
+	 * Releases every lease of an ability.
+	 *
+	 * @param owner The ability
+	 */
+	public static void releaseAll(CoreAbility owner) {
+		Set<LivingEntity> entities = BY_OWNER.get(owner);
+		if (entities != null) {
+			for (LivingEntity entity : new HashSet<LivingEntity>(entities)) {
+				release(entity, owner);
+			}
+		}
+	}
+
+	/**
+	 * Ends every lease on an entity and removes the effects that were sent
+	 * for them, so that they are not saved with a player who quits.
+	 *
+	 * @param entity The entity
+	 */
+	public static void remove(LivingEntity entity) {
+		Map<PotionEffectType, Lease> leases = LEASES.remove(entity);
+		if (leases == null) {
+			return;
+		}
+		for (Lease lease : leases.values()) {
+			lease.end();
+			for (CoreAbility owner : lease.amplifiers.keySet()) {
+				unlink(owner, entity);
+			}
+		}
+	}
+
+	/**
+	 * Ends every lease and removes the effects that were sent for them. This
+	 * is called when bending is stopped for a reload or when the plugin is
+	 * disabled.
+	 */
+	public static void removeAll() {
+		for (LivingEntity entity : new ArrayList<LivingEntity>(LEASES.keySet())) {
+			remove(entity);
+		}
+		BY_OWNER.clear();
+	}
+
+	/**
+	 * @param entity The entity
+	 * @param type The type of the effect
+	 * @return true if an ability leases the effect type on the entity
+	 */
+	public static boolean isLeased(LivingEntity entity, PotionEffectType type) {
+		Map<PotionEffectType, Lease> leases = LEASES.get(entity);
+		return leases != null && leases.containsKey(type);
+	}
+
+	/**
+	 * Called when a {@link TempPotionEffect} replaces a leased effect, so that
+	 * the lease waits for it to run out before sending its own effect again.
+	 */
+	static void override(LivingEntity entity, PotionEffect effect) {
+		Map<PotionEffectType, Lease> leases = LEASES.get(entity);
+		Lease lease = leases != null ? leases.get(effect.getType()) : null;
+		if (lease != null) {
+			lease.sentAmplifier = -1;
+			lease.schedule(System.currentTimeMillis() + effect.getDuration() * TICK);
+		}
+	}
+
+	public static int getEntityCount() {
+		return LEASES.size();
+	}
+
+	public static int getLeaseCount() {
+		int count = 0;
+		for (Map<PotionEffectType, Lease> leases : LEASES.values()) {
+			count += leases.size();
+		}
+		return count;
+	}
+
+	/**
+	 * @return How many times an effect has been sent or removed for a lease
+	 *         since the server started
+	 */
+	public static long getSentCount() {
+		return sent;
+	}
+
+	private static boolean isLeasing(Map<PotionEffectType, Lease> leases, CoreAbility owner) {
+		if (leases == null) {
+			return false;
+		}
+		for (Lease lease : leases.values()) {
+			if (lease.amplifiers.containsKey(owner)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void unlink(CoreAbility owner, LivingEntity entity) {
+		Set<LivingEntity> entities = BY_OWNER.get(owner);
+		if (entities != null && entities.remove(entity) && entities.isEmpty()) {
+			BY_OWNER.remove(owner);
+		}
+	}
+
+	/**
+	 * @return The effect of a type the entity has, or null
+	 */
+	private static PotionEffect getActive(LivingEntity entity, PotionEffectType type) {
+		if (!entity.hasPotionEffect(type)) {
+			return null;
+		}
+		for (PotionEffect effect : entity.getActivePotionEffects()) {
+			if (effect.getType().equals(type)) {
+				return effect;
+			}
+		}
+		return null;
+	}
+
+	private static class Lease {
+
+		private final LivingEntity entity;
+		private final PotionEffectType type;
+		private final Map<CoreAbility, Integer> amplifiers = new HashMap<CoreAbility, Integer>();
+		private int amplifier = -1;
+		private boolean ambient;
+		private boolean particles;
+		/** The amplifier of the effect last sent, or -1 if it was replaced. */
+		private int sentAmplifier = -1;
+		private Deadline refresh;
+
+		private Lease(LivingEntity entity, PotionEffectType type) {
+			this.entity = entity;
+			this.type = type;
+		}
+
+		/**
+		 * @return true if the highest leased amplifier has changed
+		 */
+		private boolean merge() {
+			int max = -1;
+			for (int value : amplifiers.values()) {
+				max = Math.max(max, value);
+			}
+			if (max == amplifier) {
+				return false;
+			}
+			amplifier = max;
+			return true;
+		}
+
+		private void send() {
+			PotionEffect active = getActive(entity, type);
+			if (active != null && active.getAmplifier() > amplifier && active.getAmplifier() != sentAmplifier) {
+				sentAmplifier = -1;
+				schedule(System.currentTimeMillis() + active.getDuration() * TICK);
+				return;
+			}
+			entity.addPotionEffect(new PotionEffect(type, DURATION, amplifier, ambient, particles), true);
+			sentAmplifier = amplifier;
+			sent++;
+			schedule(System.currentTimeMillis() + (DURATION - REFRESH) * TICK);
+		}
+
+		private void end() {
+			if (refresh != null) {
+				refresh.cancel();
+				refresh = null;
+			}
+			PotionEffect active = getActive(entity, type);
+			if (active != null && active.getAmplifier() == sentAmplifier) {
+				entity.removePotionEffect(type);
+				sent++;
+			}
+		}
+
+		private void schedule(long time) {
+			if (refresh != null) {
+				refresh.cancel();
+			}
+			refresh = DeadlineScheduler.schedule(time, new Runnable() {
+				@Override
+				public void run() {
+					refresh = null;
+					Map<PotionEffectType, Lease> leases = LEASES.get(entity);
+					if (leases != null && leases.get(type) == Lease.this && !entity.isDead()) {
+						send();
+					}
+				}
+			});
+		}
+	}
+
+}
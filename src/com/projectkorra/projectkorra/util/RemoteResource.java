@@ -0,0 +1,150 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ProjectKorra;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A text file downloaded over HTTP and cached on disk, such as the update
+ * feed or the staff list. Downloads always run off the main thread with
+ * strict connect and read timeouts, and a cached copy is reused until it is
+ * older than the cache duration, so a slow or unreachable host never stalls
+ * the server. If a download fails the last cached copy is used instead.
+ */
+public class RemoteResource {
+
+	private final String url;
+	private final File cacheFile;
+	private final long cacheDuration;
+	private final int timeout;
+	private final AtomicBoolean fetching = new AtomicBoolean();
+
+	/**
+	 * @param url The URL to download from, usually read from the config so
+	 *            that it can be pointed somewhere else
+	 * @param cacheFile The file the downloaded content is cached in
+	 * @param cacheDuration How long the cached content is used before it is
+	 *            downloaded again, in milliseconds
+	 * @param timeout The connect and read timeout, in milliseconds
+	 */
+	public RemoteResource(String url, File cacheFile, long cacheDuration, int timeout) {
+		this.url = url;
+		this.cacheFile = cacheFile;
+		this.cacheDuration = cacheDuration;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Gets the content asynchronously, downloading it only if the cached copy
+	 * is missing or expired. The callback runs on the main thread and is not
+	 * called at all if there is neither a download nor a cached copy. Calls
+	 * made while a fetch is still running are ignored.
+	 *
+	 * @param callback Receives the content
+	 */
+	public void fetch(final Consumer<String> callback) {
+		if (!fetching.compareAndSet(false, true)) {
+			return;
+		}
+		new BukkitRunnable() {
+			@Override
+			public void run() {
+				try {
+					final String content = load();
+					if (content != null) {
+						new BukkitRunnable() {
+							@Override
+							public void run() {
+								callback.accept(content);
+							}
+						}.runTask(ProjectKorra.plugin);
+					}
+				}
+				finally {
+					fetching.set(false);
+				}
+			}
+		}.runTaskAsynchronously(ProjectKorra.plugin);
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public boolean isExpired() {
+		return !cacheFile.exists() || System.currentTimeMillis() - cacheFile.lastModified() > cacheDuration;
+	}
+
+	private String load() {
+		if (!isExpired()) {
+			String cached = readCache();
+			if (cached != null) {
+				return cached;
+			}
+		}
+		try {
+			String content = download();
+			writeCache(content);
+			return content;
+		}
+		catch (IOException e) {
+			ProjectKorra.log.info("Could not download " + url + " (" + e.getMessage() + "), using the cached copy if there is one");
+			return readCache();
+		}
+	}
+
+	private String download() throws IOException {
+		URLConnection connection = new URL(url).openConnection();
+		connection.setRequestProperty("User-Agent", "Mozilla/5.0 (Windows NT 6.1; WOW64) AppleWebKit/537.11 (KHTML, like Gecko) Chrome/23.0.1271.95 Safari/537.11"); // Must be used or face 403
+		connection.setConnectTimeout(timeout);
+		connection.setReadTimeout(timeout);
+
+		try (InputStream in = connection.getInputStream()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return new String(out.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private String readCache() {
+		if (!cacheFile.exists()) {
+			return null;
+		}
+		try {
+			return new String(Files.readAllBytes(cacheFile.toPath()), StandardCharsets.UTF_8);
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private void writeCache(String content) {
+		try {
+			cacheFile.getParentFile().mkdirs();
+			File temp = new File(cacheFile.getPath() + ".tmp");
+			Files.write(temp.toPath(), content.getBytes(StandardCharsets.UTF_8));
+			Files.move(temp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+}
@@ -4,139 +4,280 @@ import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.EarthAbility;
 import com.projectkorra.projectkorra.configuration.ConfigManager;
 
-import org.bukkit.Chunk;
-import org.bukkit.Server;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
+import java.util.PriorityQueue;
+import java.util.Set;
 
+/**
+ * Schedules the reversion of moved earth and temporary air blocks. Every
+ * change made through {@link EarthAbility#moveEarthBlock(Block, Block)} or
+ * {@link EarthAbility#addTempAirBlock(Block)} is indexed by its expiry time,
+ * and blocks that expire inside a chunk occupied by a player are parked in a
+ * per-chunk index until that chunk is empty. Expired blocks are then reverted
+ * from the main thread a limited number at a time so that a large battle does
+ * not revert thousands of blocks in a single tick.
+ * <p>
+ * Everything in this class must be accessed from the main thread.
+ */
 public class RevertChecker implements Runnable {
 
-	private ProjectKorra plugin;
-
 	private static final FileConfiguration config = ConfigManager.defaultConfig.get();
 	private static final boolean safeRevert = config.getBoolean("Properties.Earth.SafeRevert");
-	public static Map<Block, Block> earthRevertQueue = new ConcurrentHashMap<>();
-	static Map<Integer, Integer> airRevertQueue = new ConcurrentHashMap<>();
-	//static ConcurrentHashMap<Chunk, Chunk> chunks = new ConcurrentHashMap<Chunk, Chunk>();
-	// static ConcurrentHashMap<Block, Material> movedEarthQueue = new ConcurrentHashMap<Block, Material>();
 
-	private long time;
+	private static final PriorityQueue<RevertEntry> DEADLINES = new PriorityQueue<RevertEntry>();
+	private static final Map<World, Map<Long, List<RevertEntry>>> DEFERRED = new HashMap<World, Map<Long, List<RevertEntry>>>();
+	private static final ArrayDeque<RevertEntry> EARTH_REVERT_QUEUE = new ArrayDeque<RevertEntry>();
+	private static final ArrayDeque<RevertEntry> AIR_REVERT_QUEUE = new ArrayDeque<RevertEntry>();
+
+	private static int revertsPerTick = config.getInt("Properties.Earth.RevertsPerTick");
+
+	/**
+	 * A view of the moved earth blocks that are due to be reverted, mapping
+	 * each block to itself. Putting a block that holds moved earth queues it
+	 * for reversion, and removing a block takes it out of the queue.
+	 *
+	 * @deprecated Moved earth is reverted from a queue of deadlines now. Use
+	 *             {@link EarthAbility#revertBlock(Block)} to revert a block.
+	 */
+	@Deprecated
+	public static Map<Block, Block> earthRevertQueue = new EarthRevertQueueView();
+
+	private ProjectKorra plugin;
 
 	public RevertChecker(ProjectKorra bending) {
 		plugin = bending;
 	}
 
+	/**
+	 * Indexes a moved earth block so that it is checked for reversion once
+	 * its revert time has passed. Called every time the block's
+	 * {@link Information} time is updated.
+	 *
+	 * @param block The block that currently holds the moved earth
+	 * @param info The information stored for the block in
+	 *            {@link EarthAbility#getMovedEarth()}
+	 */
+	public static void scheduleEarth(Block block, Information info) {
+		DEADLINES.add(new RevertEntry(block, info, false));
+	}
+
+	/**
+	 * Indexes a temporary air block so that it is checked for reversion once
+	 * its revert time has passed. Called every time the block's
+	 * {@link Information} time is updated.
+	 *
+	 * @param info The information stored for the block in
+	 *            {@link EarthAbility#getTempAirLocations()}
+	 */
+	public static void scheduleAir(Information info) {
+		DEADLINES.add(new RevertEntry(info.getState().getBlock(), info, true));
+	}
+
 	public static void revertAirBlocks() {
-		for (int ID : airRevertQueue.keySet()) {
-			EarthAbility.revertAirBlock(ID);
-			RevertChecker.airRevertQueue.remove(ID);
+		for (int i = 0; i < revertsPerTick && !AIR_REVERT_QUEUE.isEmpty(); i++) {
+			RevertEntry entry = AIR_REVERT_QUEUE.poll();
+			if (entry.isValid()) {
+				EarthAbility.revertAirBlock(entry.info.getID());
+			}
 		}
 	}
 
 	public static void revertEarthBlocks() {
-		for (Block block : earthRevertQueue.keySet()) {
-			EarthAbility.revertBlock(block);
-			earthRevertQueue.remove(block);
+		for (int i = 0; i < revertsPerTick && !EARTH_REVERT_QUEUE.isEmpty(); i++) {
+			RevertEntry entry = EARTH_REVERT_QUEUE.poll();
+			if (entry.isValid()) {
+				EarthAbility.revertBlock(entry.block);
+			}
 		}
 	}
 
-	private Future<ArrayList<Chunk>> returnFuture;
-
-	// void addToMovedEarthQueue(Block block, Material type) {
-	// if (!movedEarthQueue.containsKey(block))
-	// movedEarthQueue.put(block, type);
-	//
-	// }
-
-	private void addToAirRevertQueue(int i) {
-		if (!airRevertQueue.containsKey(i))
-			airRevertQueue.put(i, i);
-
-	}
-
-	private void addToRevertQueue(Block block) {
-		if (!earthRevertQueue.containsKey(block))
-			earthRevertQueue.put(block, block);
+	/**
+	 * Drops every pending entry. The blocks themselves are left untouched and
+	 * are expected to have been reverted through
+	 * {@link EarthAbility#removeAllEarthbendedBlocks()}.
+	 */
+	public static void clear() {
+		DEADLINES.clear();
+		DEFERRED.clear();
+		EARTH_REVERT_QUEUE.clear();
+		AIR_REVERT_QUEUE.clear();
 	}
 
+	@Override
 	public void run() {
-		if (!plugin.isEnabled()) {
-			return;
-		}
-		
-		time = System.currentTimeMillis();
-		if (config.getBoolean("Properties.Earth.RevertEarthbending")) {
-
-			try {
-				returnFuture = plugin.getServer().getScheduler().callSyncMethod(plugin, new getOccupiedChunks(plugin.getServer()));
-				ArrayList<Chunk> chunks = returnFuture.get();
+		long start = TickProfiler.start();
+		try {
+			if (!plugin.isEnabled()) {
+				return;
+			}
+			if (!config.getBoolean("Properties.Earth.RevertEarthbending")) {
+				clear();
+				return;
+			}
 
-				Map<Block, Information> earth = new HashMap<Block, Information>();
-				earth.putAll(EarthAbility.getMovedEarth());
+			revertsPerTick = config.getInt("Properties.Earth.RevertsPerTick");
+			long revertTime = config.getLong("Properties.Earth.RevertCheckTime");
+			long time = System.currentTimeMillis();
+			Map<World, Set<Long>> occupied = safeRevert ? getOccupiedChunks() : null;
 
-				for (Block block : earth.keySet()) {
-					if (earthRevertQueue.containsKey(block))
-						continue;
-					boolean remove = true;
-					Information info = earth.get(block);
-					if (time < info.getTime() + config.getLong("Properties.Earth.RevertCheckTime") || (chunks.contains(block.getChunk()) && safeRevert)) {
-						remove = false;
-					}
-					if (remove) {
-						addToRevertQueue(block);
+			for (Iterator<Map.Entry<World, Map<Long, List<RevertEntry>>>> worlds = DEFERRED.entrySet().iterator(); worlds.hasNext();) {
+				Map.Entry<World, Map<Long, List<RevertEntry>>> world = worlds.next();
+				Set<Long> chunks = occupied == null ? null : occupied.get(world.getKey());
+				for (Iterator<Map.Entry<Long, List<RevertEntry>>> it = world.getValue().entrySet().iterator(); it.hasNext();) {
+					Map.Entry<Long, List<RevertEntry>> chunk = it.next();
+					if (chunks == null || !chunks.contains(chunk.getKey())) {
+						for (RevertEntry entry : chunk.getValue()) {
+							enqueue(entry);
+						}
+						it.remove();
 					}
 				}
+				if (world.getValue().isEmpty()) {
+					worlds.remove();
+				}
+			}
 
-				Map<Integer, Information> air = new HashMap<Integer, Information>();
-				air.putAll(EarthAbility.getTempAirLocations());
+			while (!DEADLINES.isEmpty() && DEADLINES.peek().time + revertTime <= time) {
+				RevertEntry entry = DEADLINES.poll();
+				if (!entry.isValid()) {
+					continue;
+				}
 
-				for (Integer i : air.keySet()) {
-					if (airRevertQueue.containsKey(i))
+				if (safeRevert) {
+					World world = entry.block.getWorld();
+					long key = BlockKey.chunkOf(entry.block);
+					Set<Long> chunks = occupied.get(world);
+					if (chunks != null && chunks.contains(key)) {
+						defer(world, key, entry);
 						continue;
-					boolean remove = true;
-					Information info = air.get(i);
-					Block block = info.getBlock();
-					if (time < info.getTime() + config.getLong("Properties.Earth.RevertCheckTime") || (chunks.contains(block.getChunk()) && safeRevert)) {
-						remove = false;
-					}
-					if (remove) {
-						addToAirRevertQueue(i);
 					}
 				}
+				enqueue(entry);
 			}
-			catch (Exception e) {
-				e.printStackTrace();
+		} finally {
+			TickProfiler.record("RevertChecker", start);
+		}
+	}
+
+	private static void enqueue(RevertEntry entry) {
+		if (entry.air) {
+			AIR_REVERT_QUEUE.add(entry);
+		} else {
+			EARTH_REVERT_QUEUE.add(entry);
+		}
+	}
+
+	private static void defer(World world, long key, RevertEntry entry) {
+		Map<Long, List<RevertEntry>> chunks = DEFERRED.get(world);
+		if (chunks == null) {
+			chunks = new HashMap<Long, List<RevertEntry>>();
+			DEFERRED.put(world, chunks);
+		}
+		List<RevertEntry> entries = chunks.get(key);
+		if (entries == null) {
+			entries = new ArrayList<RevertEntry>();
+			chunks.put(key, entries);
+		}
+		entries.add(entry);
+	}
+
+	private Map<World, Set<Long>> getOccupiedChunks() {
+		Map<World, Set<Long>> chunks = new HashMap<World, Set<Long>>();
+		for (Player player : plugin.getServer().getOnlinePlayers()) {
+			Location location = player.getLocation();
+			Set<Long> keys = chunks.get(location.getWorld());
+			if (keys == null) {
+				keys = new HashSet<Long>();
+				chunks.put(location.getWorld(), keys);
 			}
+			keys.add(BlockKey.chunk(location.getBlockX() >> 4, location.getBlockZ() >> 4));
 		}
+		return chunks;
 	}
 
-	private class getOccupiedChunks implements Callable<ArrayList<Chunk>> {
-		private Server server;
+	private static class EarthRevertQueueView extends AbstractMap<Block, Block> {
 
-		public getOccupiedChunks(Server server) {
-			this.server = server;
+		@Override
+		public Set<Map.Entry<Block, Block>> entrySet() {
+			Set<Map.Entry<Block, Block>> entries = new LinkedHashSet<Map.Entry<Block, Block>>();
+			for (RevertEntry entry : EARTH_REVERT_QUEUE) {
+				if (entry.isValid()) {
+					entries.add(new SimpleImmutableEntry<Block, Block>(entry.block, entry.block));
+				}
+			}
+			return entries;
 		}
 
 		@Override
-		public ArrayList<Chunk> call() throws Exception {
+		public Block put(Block block, Block value) {
+			if (containsKey(block)) {
+				return block;
+			}
+			Information info = EarthAbility.getMovedEarth().get(block);
+			if (info != null) {
+				EARTH_REVERT_QUEUE.add(new RevertEntry(block, info, false));
+			}
+			return null;
+		}
 
-			ArrayList<Chunk> chunks = new ArrayList<Chunk>();
+		@Override
+		public Block remove(Object block) {
+			boolean removed = false;
+			for (Iterator<RevertEntry> it = EARTH_REVERT_QUEUE.iterator(); it.hasNext();) {
+				RevertEntry entry = it.next();
+				if (entry.block.equals(block)) {
+					it.remove();
+					removed |= entry.isValid();
+				}
+			}
+			return removed ? (Block) block : null;
+		}
+	}
 
-			for (Player player : server.getOnlinePlayers()) {
-				Chunk chunk = player.getLocation().getChunk();
-				if (!chunks.contains(chunk))
-					chunks.add(chunk);
+	private static class RevertEntry implements Comparable<RevertEntry> {
+
+		private final Block block;
+		private final Information info;
+		private final long time;
+		private final boolean air;
+
+		public RevertEntry(Block block, Information info, boolean air) {
+			this.block = block;
+			this.info = info;
+			this.time = info.getTime();
+			this.air = air;
+		}
+
+		/**
+		 * An entry is stale once its block has been reverted, moved again or
+		 * had its revert time pushed back, in which case a newer entry exists.
+		 */
+		public boolean isValid() {
+			if (info.getTime() != time) {
+				return false;
+			} else if (air) {
+				return EarthAbility.getTempAirLocations().get(info.getID()) == info;
 			}
-			return chunks;
+			return EarthAbility.getMovedEarth().get(block) == info;
+		}
 
+		@Override
+		public int compareTo(RevertEntry other) {
+			return Long.compare(time, other.time);
 		}
 	}
 
@@ -0,0 +1,279 @@
+package com.projectkorra.projectkorra.util;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable list of integer block offsets describing a shape, such as the
+ * circles and spheres of {@code GeneralMethods.getCircle}. Templates are
+ * computed once per set of dimensions and cached, so abilities that cover the
+ * same area every cast or every tick only translate the offsets by their
+ * center instead of recomputing the shape and allocating a Location for each
+ * block.
+ * <p>
+ * Addons can create their own templates from offsets and register them by
+ * name with {@link #register(String, ShapeTemplate)}.
+ */
+public class ShapeTemplate {
+
+	private static final int CIRCLE = 1, BOX = 2, WALL = 3;
+	private static final long NOT_CACHEABLE = 0;
+
+	private static final TemplateTable TEMPLATES = new TemplateTable();
+	private static final Map<String, ShapeTemplate> CUSTOM = new HashMap<String, ShapeTemplate>();
+
+	private final int[] offsets;
+
+	/**
+	 * Creates a template from a flat array of offsets.
+	 *
+	 * @param offsets The x, y and z of every offset one after another
+	 * @throws IllegalArgumentException if the length of the array is not a
+	 *             multiple of three
+	 */
+	public ShapeTemplate(int[] offsets) {
+		if (offsets.length % 3 != 0) {
+			throw new IllegalArgumentException("Offsets must be given as x, y, z triples");
+		}
+		this.offsets = Arrays.copyOf(offsets, offsets.length);
+	}
+
+	/**
+	 * Gets the cached template for the blocks of
+	 * {@code GeneralMethods.getCircle}, relative to the center block.
+	 *
+	 * @param radius The radius of the circle or sphere
+	 * @param height The height of a circle, ignored for spheres
+	 * @param hollow Whether only the outer layer is included
+	 * @param sphere Whether the shape is a sphere instead of a cylinder
+	 * @return The template
+	 */
+	public static ShapeTemplate getCircle(int radius, int height, boolean hollow, boolean sphere) {
+		long key = key(CIRCLE, radius, sphere ? 0 : height, (hollow ? 1 : 0) | (sphere ? 2 : 0));
+		ShapeTemplate template = TEMPLATES.get(key);
+		if (template != null) {
+			return template;
+		}
+
+		OffsetBuilder builder = new OffsetBuilder();
+		for (int x = -radius; x <= radius; x++) {
+			for (int z = -radius; z <= radius; z++) {
+				for (int y = (sphere ? -radius : 0); y < (sphere ? radius : height); y++) {
+					double dist = x * x + z * z + (sphere ? y * y : 0);
+					if (dist < radius * radius && !(hollow && dist < (radius - 1) * (radius - 1))) {
+						builder.add(x, y, z);
+					}
+				}
+			}
+		}
+		return cache(key, builder.build());
+	}
+
+	/**
+	 * Gets the cached template for a box that is the same size in every
+	 * direction horizontally.
+	 *
+	 * @param radius How far the box reaches from the center on the x and z
+	 *            axes
+	 * @param minY The lowest y offset, inclusive
+	 * @param maxY The highest y offset, inclusive
+	 * @return The template
+	 */
+	public static ShapeTemplate getBox(int radius, int minY, int maxY) {
+		long key = key(BOX, radius, minY, maxY);
+		ShapeTemplate template = TEMPLATES.get(key);
+		if (template != null) {
+			return template;
+		}
+
+		OffsetBuilder builder = new OffsetBuilder();
+		for (int x = -radius; x <= radius; x++) {
+			for (int z = -radius; z <= radius; z++) {
+				for (int y = minY; y <= maxY; y++) {
+					builder.add(x, y, z);
+				}
+			}
+		}
+		return cache(key, builder.build());
+	}
+
+	/**
+	 * Gets the cached template for a flat wall. The horizontal position is
+	 * stored as x and the vertical position as y, with z always 0, so that
+	 * callers can map them onto the axes of a wall facing any direction.
+	 *
+	 * @param width How far the wall reaches to each side of the center
+	 * @param height How far the wall reaches above and below the center
+	 * @return The template
+	 */
+	public static ShapeTemplate getWall(int width, int height) {
+		long key = key(WALL, width, height, 0);
+		ShapeTemplate template = TEMPLATES.get(key);
+		if (template != null) {
+			return template;
+		}
+
+		OffsetBuilder builder = new OffsetBuilder();
+		for (int x = -width; x <= width; x++) {
+			for (int y = -height; y <= height; y++) {
+				builder.add(x, y, 0);
+			}
+		}
+		return cache(key, builder.build());
+	}
+
+	/**
+	 * Registers a custom template so that it can be looked up by name.
+	 * Registering a name again replaces the previous template.
+	 *
+	 * @param name The name of the template, usually prefixed with the name
+	 *            of the ability
+	 * @param template The template
+	 */
+	public static void register(String name, ShapeTemplate template) {
+		CUSTOM.put(name.toLowerCase(), template);
+	}
+
+	/**
+	 * @param name The name the template was registered with
+	 * @return The registered template, or null if there is none
+	 */
+	public static ShapeTemplate get(String name) {
+		return CUSTOM.get(name.toLowerCase());
+	}
+
+	/**
+	 * Packs the kind of a shape and three of its dimensions into a cache key,
+	 * so that looking a template up does not allocate. Dimensions that do not
+	 * fit in 16 bits are not cached.
+	 */
+	private static long key(int kind, int a, int b, int c) {
+		if (a != (short) a || b != (short) b || c != (short) c) {
+			return NOT_CACHEABLE;
+		}
+		return (long) kind << 48 | (a & 0xFFFFL) << 32 | (b & 0xFFFFL) << 16 | (c & 0xFFFFL);
+	}
+
+	private static ShapeTemplate cache(long key, ShapeTemplate template) {
+		if (key != NOT_CACHEABLE) {
+			TEMPLATES.put(key, template);
+		}
+		return template;
+	}
+
+	/**
+	 * @return The number of offsets in the template
+	 */
+	public int size() {
+		return offsets.length / 3;
+	}
+
+	public int getX(int index) {
+		return offsets[index * 3];
+	}
+
+	public int getY(int index) {
+		return offsets[index * 3 + 1];
+	}
+
+	public int getZ(int index) {
+		return offsets[index * 3 + 2];
+	}
+
+	/**
+	 * Gets the block at an offset from a center position.
+	 *
+	 * @param world The world of the center
+	 * @param x The block x of the center
+	 * @param y The block y of the center
+	 * @param z The block z of the center
+	 * @param index The index of the offset
+	 * @return The block
+	 */
+	public Block getBlock(World world, int x, int y, int z, int index) {
+		int i = index * 3;
+		return world.getBlockAt(x + offsets[i], y + offsets[i + 1], z + offsets[i + 2]);
+	}
+
+	/**
+	 * A small open addressing table from packed keys to templates, so that
+	 * lookups do not box the key. Key 0 marks an empty slot.
+	 */
+	private static class TemplateTable {
+
+		private long[] keys = new long[64];
+		private ShapeTemplate[] values = new ShapeTemplate[64];
+		private int size;
+
+		private ShapeTemplate get(long key) {
+			if (key == NOT_CACHEABLE) {
+				return null;
+			}
+			int mask = keys.length - 1;
+			for (int i = index(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+				if (keys[i] == key) {
+					return values[i];
+				}
+			}
+			return null;
+		}
+
+		private void put(long key, ShapeTemplate template) {
+			if ((size + 1) * 2 > keys.length) {
+				grow();
+			}
+			int mask = keys.length - 1;
+			int i = index(key, mask);
+			while (keys[i] != 0 && keys[i] != key) {
+				i = (i + 1) & mask;
+			}
+			if (keys[i] == 0) {
+				size++;
+			}
+			keys[i] = key;
+			values[i] = template;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			ShapeTemplate[] oldValues = values;
+			keys = new long[oldKeys.length * 2];
+			values = new ShapeTemplate[oldKeys.length * 2];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != 0) {
+					put(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+
+		private static int index(long key, int mask) {
+			long hash = key * 0x9E3779B97F4A7C15L;
+			return (int) (hash >>> 32) & mask;
+		}
+	}
+
+	private static class OffsetBuilder {
+
+		private int[] offsets = new int[48];
+		private int size;
+
+		private void add(int x, int y, int z) {
+			if (size + 3 > offsets.length) {
+				offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			}
+			offsets[size++] = x;
+			offsets[size++] = y;
+			offsets[size++] = z;
+		}
+
+		private ShapeTemplate build() {
+			return new ShapeTemplate(Arrays.copyOf(offsets, size));
+		}
+	}
+
+}
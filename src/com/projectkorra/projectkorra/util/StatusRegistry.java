@@ -0,0 +1,175 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.util.DeadlineScheduler.Deadline;
+
+import org.bukkit.entity.Entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the statuses abilities put on entities, such as being bloodbent or
+ * paralyzed, in one place. Abilities add a status when they take hold of an
+ * entity and remove it when they let go, so the listeners that have to check
+ * several statuses for every move or swing only do a single lookup by entity
+ * id.
+ * <p>
+ * Statuses may be given a duration, in which case they are removed by the
+ * {@link DeadlineScheduler} once they expire and are treated as gone by
+ * lookups from that moment on. Everything in this class must be accessed
+ * from the main thread.
+ */
+public class StatusRegistry {
+
+	public enum Status {
+		BREATHBENT, BLOODBENT, PARALYZED, IMMOBILIZED, FLYING;
+
+		private final int flag = 1 << ordinal();
+
+		public int getFlag() {
+			return flag;
+		}
+	}
+
+	/**
+	 * Every status that keeps an entity from moving or acting on its own.
+	 */
+	public static final int DISABLED = Status.BREATHBENT.flag | Status.BLOODBENT.flag | Status.PARALYZED.flag | Status.IMMOBILIZED.flag;
+
+	private static final Status[] STATUSES = Status.values();
+	private static final Map<Integer, Entry> ENTRIES = new HashMap<Integer, Entry>();
+
+	static {
+		EntityLifecycle.registerById("StatusRegistry", ENTRIES);
+	}
+
+	/**
+	 * Adds a status to an entity until it is removed.
+	 *
+	 * @param entity The entity
+	 * @param status The status
+	 */
+	public static void add(Entity entity, Status status) {
+		Entry entry = getOrCreate(entity);
+		entry.cancel(status);
+		entry.expiries[status.ordinal()] = 0;
+		entry.flags |= status.flag;
+	}
+
+	/**
+	 * Adds a status to an entity until it expires or is removed. Adding a
+	 * status the entity already has replaces its expiry.
+	 *
+	 * @param entity The entity
+	 * @param status The status
+	 * @param duration How long the status lasts, in milliseconds
+	 */
+	public static void add(Entity entity, final Status status, long duration) {
+		final Entry entry = getOrCreate(entity);
+		final int id = entity.getEntityId();
+		long expiry = System.currentTimeMillis() + duration;
+		entry.cancel(status);
+		entry.expiries[status.ordinal()] = expiry;
+		entry.flags |= status.flag;
+		entry.deadlines[status.ordinal()] = DeadlineScheduler.schedule(expiry, new Runnable() {
+			@Override
+			public void run() {
+				entry.deadlines[status.ordinal()] = null;
+				remove(id, status);
+			}
+		});
+	}
+
+	public static void remove(Entity entity, Status status) {
+		remove(entity.getEntityId(), status);
+	}
+
+	/**
+	 * Removes every status from an entity.
+	 *
+	 * @param entity The entity
+	 */
+	public static void removeAll(Entity entity) {
+		Entry entry = ENTRIES.remove(entity.getEntityId());
+		if (entry != null) {
+			for (Status status : STATUSES) {
+				entry.cancel(status);
+			}
+		}
+	}
+
+	public static boolean has(Entity entity, Status status) {
+		return (getStatuses(entity) & status.flag) != 0;
+	}
+
+	/**
+	 * @param entity The entity
+	 * @param statuses The flags of the statuses to look for, such as
+	 *            {@link #DISABLED}
+	 * @return true if the entity has at least one of the statuses
+	 */
+	public static boolean hasAny(Entity entity, int statuses) {
+		return (getStatuses(entity) & statuses) != 0;
+	}
+
+	/**
+	 * @param entity The entity
+	 * @return The flags of every status the entity has that has not expired
+	 */
+	public static int getStatuses(Entity entity) {
+		Entry entry = ENTRIES.get(entity.getEntityId());
+		if (entry == null) {
+			return 0;
+		}
+		int flags = entry.flags;
+		long time = System.currentTimeMillis();
+		for (Status status : STATUSES) {
+			long expiry = entry.expiries[status.ordinal()];
+			if ((flags & status.flag) != 0 && expiry != 0 && expiry <= time) {
+				flags &= ~status.flag;
+			}
+		}
+		return flags;
+	}
+
+	public static int getEntityCount() {
+		return ENTRIES.size();
+	}
+
+	private static void remove(int id, Status status) {
+		Entry entry = ENTRIES.get(id);
+		if (entry == null) {
+			return;
+		}
+		entry.cancel(status);
+		entry.flags &= ~status.flag;
+		if (entry.flags == 0) {
+			ENTRIES.remove(id);
+		}
+	}
+
+	private static Entry getOrCreate(Entity entity) {
+		Entry entry = ENTRIES.get(entity.getEntityId());
+		if (entry == null) {
+			entry = new Entry();
+			ENTRIES.put(entity.getEntityId(), entry);
+		}
+		return entry;
+	}
+
+	private static class Entry {
+
+		private final long[] expiries = new long[STATUSES.length];
+		private final Deadline[] deadlines = new Deadline[STATUSES.length];
+		private int flags;
+
+		private void cancel(Status status) {
+			Deadline deadline = deadlines[status.ordinal()];
+			if (deadline != null) {
+				deadline.cancel();
+				deadlines[status.ordinal()] = null;
+			}
+		}
+	}
+
+}
@@ -18,6 +18,10 @@ public class TempArmor {
 	
 	private static Map<LivingEntity, TempArmor> INSTANCES = new ConcurrentHashMap<LivingEntity, TempArmor>();
 	private static long defaultDuration = 30000L;
+
+	static {
+		EntityLifecycle.register("TempArmor.INSTANCES", INSTANCES);
+	}
 	
 	private LivingEntity entity;
 	private long startTime;
@@ -1,12 +1,17 @@
 package com.projectkorra.projectkorra.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.BlockState;
@@ -14,10 +19,12 @@ import org.bukkit.scheduler.BukkitRunnable;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
+import com.projectkorra.projectkorra.ability.CoreAbility;
 
 public class TempBlock {
 
 	public static Map<Block, TempBlock> instances = new ConcurrentHashMap<Block, TempBlock>();
+	private static final ChunkIndex<TempBlock> CHUNKS = new ChunkIndex<TempBlock>();
 	public static final PriorityQueue<TempBlock> REVERT_QUEUE = new PriorityQueue<>(100, new Comparator<TempBlock>() {
 		@Override
 		public int compare(TempBlock t1, TempBlock t2) {
@@ -32,33 +39,42 @@ public class TempBlock {
 	private long revertTime;
 	private boolean inRevertQueue;
 
-	@SuppressWarnings("deprecation")
 	public TempBlock(Block block, Material newtype, byte newdata) {
 		this.block = block;
 		this.newdata = newdata;
 		this.newtype = newtype;
 		if (instances.containsKey(block)) {
 			TempBlock temp = instances.get(block);
-			if (newtype != temp.newtype) {
-				temp.block.setType(newtype);
+			if (newtype != temp.newtype || newdata != temp.newdata) {
 				temp.newtype = newtype;
-			}
-			if (newdata != temp.newdata) {
-				temp.block.setData(newdata);
 				temp.newdata = newdata;
+				BlockMutations.set(block, newtype, newdata, false);
 			}
 			state = temp.state;
 			instances.put(block, temp);
 		} else {
 			state = block.getState();
 			instances.put(block, this);
-			block.setType(newtype);
-			block.setData(newdata);
+			CHUNKS.add(block, this);
+			BlockJournal.recordOriginal(state);
+			BlockMutations.set(block, newtype, newdata, false);
 		}
 		if (state.getType() == Material.FIRE)
 			state.setType(Material.AIR);
 	}
 
+	/**
+	 * Creates a TempBlock that does not change the world and is not added to
+	 * {@link #instances}, for subclasses that show the block some other way
+	 * such as {@link VisualTempBlock}.
+	 */
+	protected TempBlock(Block block, Material newtype, byte newdata, BlockState state) {
+		this.block = block;
+		this.newtype = newtype;
+		this.newdata = newdata;
+		this.state = state;
+	}
+
 	public static TempBlock get(Block block) {
 		if (isTempBlock(block))
 			return instances.get(block);
@@ -85,10 +101,54 @@ public class TempBlock {
 		for (TempBlock tempblock : REVERT_QUEUE) {
 			tempblock.revertBlock();
 		}
+		VisualTempBlock.removeAll();
 	}
 
 	public static void removeBlock(Block block) {
-		instances.remove(block);
+		forget(block);
+	}
+
+	/**
+	 * Reverts every TempBlock in a chunk that is about to unload, without
+	 * updating neighboring blocks, which may be in chunks that have already
+	 * unloaded.
+	 *
+	 * @return The TempBlocks that were reverted
+	 */
+	public static List<TempBlock> revertChunk(World world, int chunkX, int chunkZ) {
+		return revertAll(CHUNKS.removeChunk(world, chunkX, chunkZ));
+	}
+
+	/**
+	 * Reverts every TempBlock in a world that is about to unload.
+	 *
+	 * @return The TempBlocks that were reverted
+	 * @see #revertChunk(World, int, int)
+	 */
+	public static List<TempBlock> revertWorld(World world) {
+		return revertAll(CHUNKS.removeWorld(world));
+	}
+
+	private static List<TempBlock> revertAll(Set<TempBlock> blocks) {
+		if (blocks.isEmpty()) {
+			return Collections.emptyList();
+		}
+		REVERT_QUEUE.removeAll(blocks);
+		List<TempBlock> reverted = new ArrayList<TempBlock>(blocks);
+		for (TempBlock tempBlock : reverted) {
+			tempBlock.inRevertQueue = false;
+			tempBlock.revert(false);
+		}
+		return reverted;
+	}
+
+	private static void forget(Block block) {
+		TempBlock removed = instances.remove(block);
+		if (removed != null) {
+			CHUNKS.remove(block, removed);
+			BlockOwnership.release(block, removed);
+			BlockJournal.recordRestored(block);
+		}
 	}
 
 	@SuppressWarnings("deprecation")
@@ -135,30 +195,62 @@ public class TempBlock {
 	}
 
 	public void revertBlock() {
-		state.update(true);
-		instances.remove(block);
+		revert(true);
+	}
+
+	/**
+	 * Restores the block, unless its chunk has unloaded, in which case it was
+	 * already restored by {@link #revertChunk(World, int, int)} and touching
+	 * it would load the chunk again.
+	 */
+	private void revert(boolean applyPhysics) {
+		if (block.getWorld().isChunkLoaded(block.getX() >> 4, block.getZ() >> 4)) {
+			BlockMutations.restore(state, applyPhysics);
+		}
+		forget(block);
 	}
 
 	public void setState(BlockState newstate) {
 		state = newstate;
 	}
 
+	public Material getType() {
+		return newtype;
+	}
+
+	/**
+	 * Claims the block for an ability until it reverts.
+	 *
+	 * @param owner The ability instance
+	 * @param role What the block is to the ability
+	 * @return This TempBlock
+	 * @see BlockOwnership
+	 */
+	public TempBlock setOwner(CoreAbility owner, String role) {
+		TempBlock registered = instances.get(block);
+		BlockOwnership.claim(block, owner, role, registered != null ? registered : this);
+		return this;
+	}
+
+	public byte getData() {
+		return newdata;
+	}
+
 	public void setType(Material material) {
 		setType(material, newdata);
 	}
 
-	@SuppressWarnings("deprecation")
 	public void setType(Material material, byte data) {
 		newtype = material;
 		newdata = data;
-		block.setType(material);
-		block.setData(data);
+		BlockMutations.set(block, material, data, false);
 	}
 	
 	public static void startReversion() {
 		new BukkitRunnable() {
 			@Override
 			public void run() {
+				long start = TickProfiler.start();
 				long currentTime = System.currentTimeMillis();
 				while (!REVERT_QUEUE.isEmpty()) {
 					TempBlock tempBlock = REVERT_QUEUE.peek();
@@ -171,6 +263,7 @@ public class TempBlock {
 						break;
 					}
 				}
+				TickProfiler.record("TempBlock reversion", start);
 			}
 		}.runTaskTimer(ProjectKorra.plugin, 0, 1);
 		
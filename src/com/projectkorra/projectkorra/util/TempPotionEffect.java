@@ -11,6 +11,10 @@ public class TempPotionEffect {
 	private static Map<LivingEntity, TempPotionEffect> instances = new ConcurrentHashMap<LivingEntity, TempPotionEffect>();
 	private static final long tick = 21;
 
+	static {
+		EntityLifecycle.register("TempPotionEffect.instances", instances);
+	}
+
 	private int ID = Integer.MIN_VALUE;
 	private Map<Integer, PotionInfo> infos = new ConcurrentHashMap<Integer, PotionInfo>();
 	private LivingEntity entity;
@@ -23,20 +27,26 @@ public class TempPotionEffect {
 		this.entity = entity;
 		if (instances.containsKey(entity)) {
 			TempPotionEffect instance = instances.get(entity);
-			instance.infos.put(instance.ID++, new PotionInfo(starttime, effect));
-			// instance.effects.put(starttime, effect);
-			instances.put(entity, instance);
+			instance.schedule(starttime, effect);
 		} else {
-			// effects.put(starttime, effect);
-			infos.put(ID++, new PotionInfo(starttime, effect));
 			instances.put(entity, this);
+			schedule(starttime, effect);
 		}
 	}
 
-	public static void progressAll() {
-		for (LivingEntity entity : instances.keySet()) {
-			instances.get(entity).progress();
-		}
+	/**
+	 * Queues the effect to be applied once its start time has passed, rather
+	 * than checking every tracked effect every tick.
+	 */
+	private void schedule(long starttime, final PotionEffect effect) {
+		final int id = ID++;
+		infos.put(id, new PotionInfo(starttime, effect));
+		DeadlineScheduler.schedule(starttime + 1, new Runnable() {
+			@Override
+			public void run() {
+				apply(id);
+			}
+		});
 	}
 
 	private void addEffect(PotionEffect effect) {
@@ -52,7 +62,12 @@ public class TempPotionEffect {
 						return;
 					}
 				} else {
-					if (peffect.getDuration() > effect.getDuration()) {
+					if (PotionLeases.isLeased(entity, effect.getType())) {
+						entity.removePotionEffect(peffect.getType());
+						entity.addPotionEffect(effect);
+						PotionLeases.override(entity, effect);
+						return;
+					} else if (peffect.getDuration() > effect.getDuration()) {
 						entity.removePotionEffect(peffect.getType());
 						entity.addPotionEffect(effect);
 						int dt = peffect.getDuration() - effect.getDuration();
@@ -70,15 +85,20 @@ public class TempPotionEffect {
 		entity.addPotionEffect(effect);
 	}
 
-	private void progress() {
-		for (int id : infos.keySet()) {
-			PotionInfo info = infos.get(id);
-			if (info.getTime() < System.currentTimeMillis()) {
-				addEffect(info.getEffect());
-				infos.remove(id);
-			}
+	/**
+	 * Forgets every effect that has not been applied yet. Called when bending
+	 * is stopped, along with {@link DeadlineScheduler#clear()}.
+	 */
+	public static void removeAll() {
+		instances.clear();
+	}
+
+	private void apply(int id) {
+		PotionInfo info = infos.remove(id);
+		if (info != null) {
+			addEffect(info.getEffect());
 		}
-		if (infos.isEmpty() && instances.containsKey(entity))
+		if (infos.isEmpty() && instances.get(entity) == this)
 			instances.remove(entity);
 	}
 
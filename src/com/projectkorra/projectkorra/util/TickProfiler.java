@@ -0,0 +1,330 @@
+package com.projectkorra.projectkorra.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Always-on timing of the work the plugin does every tick. Each call site
+ * wraps its work in {@link #start()} and {@link #record(Object, long)}, and the
+ * elapsed time is added to a section keyed by the ability class or by a fixed
+ * name, together with a histogram of how long the individual calls took.
+ * Recording is a map lookup and a few additions, so it is left enabled and
+ * the totals can be read through /bending debug profile at any time.
+ * <p>
+ * The bytes allocated by the main thread can be tracked as well, which shows
+ * how much garbage each ability produces per tick. Reading the allocation
+ * counter of the thread is more expensive than reading the clock, so it is
+ * off until turned on with /bending debug profile allocations. Garbage
+ * collections since the last reset are included in the report either way.
+ */
+public class TickProfiler {
+
+	private static final int BUCKETS = 16;
+	private static final Map<Object, Section> SECTIONS = new HashMap<Object, Section>();
+
+	private static final int MAX_DEPTH = 32;
+	private static final long[] STARTS = new long[MAX_DEPTH];
+	private static final long[] ALLOCATED = new long[MAX_DEPTH];
+
+	private static long resetTime = System.currentTimeMillis();
+	private static long resetCollections = getCollections();
+	private static long resetCollectionMillis = getCollectionMillis();
+	private static volatile Thread trackedThread;
+	private static int depth;
+	/** When allocations were last tracked from, the later of enabling and resetting. */
+	private static long trackedSince;
+	/** How long allocations were tracked for since the reset, before trackedSince. */
+	private static long trackedMillis;
+
+	/**
+	 * Work nested more than 32 calls deep is still timed, but
+	 * its allocations are not tracked.
+	 *
+	 * @return The time to pass to {@link #record(Object, long)} once the work
+	 *         is done
+	 */
+	public static long start() {
+		long start = System.nanoTime();
+		if (Thread.currentThread() == trackedThread && depth < MAX_DEPTH) {
+			STARTS[depth] = start;
+			ALLOCATED[depth] = getAllocatedBytes();
+			depth++;
+		}
+		return start;
+	}
+
+	/**
+	 * Adds the time elapsed since {@link #start()} to a section.
+	 *
+	 * @param key The ability class or the name of the section
+	 * @param start The value returned by {@link #start()}
+	 */
+	public static void record(Object key, long start) {
+		long elapsed = System.nanoTime() - start;
+		long allocated = -1;
+		if (Thread.currentThread() == trackedThread) {
+			// Pop back to the matching start, in case work that was started
+			// threw before it could be recorded. A start that is not on the
+			// stack was past the maximum depth, and leaves the stack alone.
+			for (int i = depth - 1; i >= 0; i--) {
+				if (STARTS[i] == start) {
+					allocated = getAllocatedBytes() - ALLOCATED[i];
+					depth = i;
+					break;
+				}
+			}
+		}
+		add(key, elapsed, allocated);
+	}
+
+	private static synchronized void add(Object key, long elapsed, long allocated) {
+		Section section = SECTIONS.get(key);
+		if (section == null) {
+			section = new Section(key instanceof Class ? ((Class<?>) key).getSimpleName() : String.valueOf(key));
+			SECTIONS.put(key, section);
+		}
+		section.add(elapsed, allocated);
+	}
+
+	/**
+	 * Starts or stops tracking the bytes allocated by the calling thread,
+	 * which should be the main thread.
+	 *
+	 * @param track Whether to track allocations
+	 * @return false if the JVM cannot measure allocations per thread
+	 */
+	public static synchronized boolean setTrackAllocations(boolean track) {
+		if (!track) {
+			if (trackedThread != null) {
+				trackedMillis += System.currentTimeMillis() - trackedSince;
+			}
+			trackedThread = null;
+			return true;
+		}
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (!(threads instanceof com.sun.management.ThreadMXBean) || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+			return false;
+		}
+		((com.sun.management.ThreadMXBean) threads).setThreadAllocatedMemoryEnabled(true);
+		if (trackedThread == null) {
+			trackedSince = System.currentTimeMillis();
+		}
+		depth = 0;
+		trackedThread = Thread.currentThread();
+		return true;
+	}
+
+	public static boolean isTrackingAllocations() {
+		return trackedThread != null;
+	}
+
+	/**
+	 * Clears every section and starts measuring from now.
+	 */
+	public static synchronized void reset() {
+		SECTIONS.clear();
+		resetTime = System.currentTimeMillis();
+		resetCollections = getCollections();
+		resetCollectionMillis = getCollectionMillis();
+		trackedSince = resetTime;
+		trackedMillis = 0;
+	}
+
+	/**
+	 * @return A copy of every section, sorted by total time with the most
+	 *         expensive first
+	 */
+	public static synchronized List<Section> getSections() {
+		List<Section> sections = new ArrayList<Section>();
+		for (Section section : SECTIONS.values()) {
+			sections.add(section.copy());
+		}
+		Collections.sort(sections, new Comparator<Section>() {
+			@Override
+			public int compare(Section s1, Section s2) {
+				return Long.compare(s2.total, s1.total);
+			}
+		});
+		return sections;
+	}
+
+	/**
+	 * @return When the sections were last reset, in milliseconds
+	 */
+	public static long getResetTime() {
+		return resetTime;
+	}
+
+	/**
+	 * @return How long allocations have been tracked for since the last
+	 *         reset, in milliseconds
+	 */
+	public static synchronized long getTrackedMillis() {
+		return trackedMillis + (trackedThread != null ? System.currentTimeMillis() - trackedSince : 0);
+	}
+
+	/**
+	 * @return The number of garbage collections since the last reset
+	 */
+	public static long getCollectionsSinceReset() {
+		return getCollections() - resetCollections;
+	}
+
+	/**
+	 * @return The time spent in garbage collection since the last reset, in
+	 *         milliseconds
+	 */
+	public static long getCollectionMillisSinceReset() {
+		return getCollectionMillis() - resetCollectionMillis;
+	}
+
+	private static long getAllocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static long getCollections() {
+		long collections = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			collections += Math.max(collector.getCollectionCount(), 0);
+		}
+		return collections;
+	}
+
+	private static long getCollectionMillis() {
+		long millis = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			millis += Math.max(collector.getCollectionTime(), 0);
+		}
+		return millis;
+	}
+
+	/**
+	 * Writes every section with its histogram to a file, replacing the file
+	 * if it exists.
+	 *
+	 * @param file The file to write to
+	 * @throws IOException if the file could not be written
+	 */
+	public static void writeReport(File file) throws IOException {
+		List<Section> sections = getSections();
+		long elapsed = System.currentTimeMillis() - resetTime;
+		long tracked = getTrackedMillis();
+		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+		try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+			writer.println("ProjectKorra Profile");
+			writer.println("====================");
+			writer.println("Created: " + format.format(new Date()));
+			writer.println("Measured since: " + format.format(new Date(resetTime)) + " (" + elapsed / 1000 + "s)");
+			writer.println("Garbage collection: " + getCollectionsSinceReset() + " collections, " + getCollectionMillisSinceReset() + "ms");
+			for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+				writer.println("  " + collector.getName() + ": " + collector.getCollectionCount() + " collections, " + collector.getCollectionTime() + "ms since startup");
+			}
+			writer.println("Allocations tracked: " + (isTrackingAllocations() ? "yes" : "no") + " (" + tracked / 1000 + "s)");
+			writer.println();
+			writer.println(String.format("%-32s %10s %12s %10s %10s %10s %12s %10s", "Section", "Calls", "Total ms", "Avg us", "Max us", "ms/s", "Alloc B/call", "Alloc KB/s"));
+			for (Section section : sections) {
+				writer.println(String.format("%-32s %10d %12.2f %10.1f %10.1f %10.3f %12s %10s", section.name, section.count, section.getTotalMillis(), section.getAverageMicros(), section.max / 1000.0, elapsed > 0 ? section.getTotalMillis() * 1000 / elapsed : 0,
+						section.allocatedCount > 0 ? String.format("%.0f", section.getAverageAllocatedBytes()) : "-", section.allocatedCount > 0 && tracked > 0 ? String.format("%.1f", section.allocated / 1024.0 * 1000 / tracked) : "-"));
+			}
+			writer.println();
+			writer.println("Histograms (calls taking up to the given number of microseconds):");
+			for (Section section : sections) {
+				StringBuilder builder = new StringBuilder(section.name).append(':');
+				for (int i = 0; i < BUCKETS; i++) {
+					if (section.buckets[i] > 0) {
+						builder.append(' ').append(i == BUCKETS - 1 ? ">=" + (1 << (i - 1)) : "<" + (1 << i)).append('=').append(section.buckets[i]);
+					}
+				}
+				writer.println(builder);
+			}
+		}
+	}
+
+	public static class Section {
+
+		private final String name;
+		private final long[] buckets = new long[BUCKETS];
+		private long count;
+		private long total;
+		private long max;
+		private long allocatedCount;
+		private long allocated;
+
+		private Section(String name) {
+			this.name = name;
+		}
+
+		private void add(long nanos, long allocatedBytes) {
+			if (allocatedBytes >= 0) {
+				allocatedCount++;
+				allocated += allocatedBytes;
+			}
+			count++;
+			total += nanos;
+			max = Math.max(max, nanos);
+			long micros = nanos / 1000;
+			int bucket = 64 - Long.numberOfLeadingZeros(micros);
+			buckets[Math.min(bucket, BUCKETS - 1)]++;
+		}
+
+		private Section copy() {
+			Section copy = new Section(name);
+			System.arraycopy(buckets, 0, copy.buckets, 0, BUCKETS);
+			copy.count = count;
+			copy.total = total;
+			copy.max = max;
+			copy.allocatedCount = allocatedCount;
+			copy.allocated = allocated;
+			return copy;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public double getTotalMillis() {
+			return total / 1000000.0;
+		}
+
+		public double getAverageMicros() {
+			return count == 0 ? 0 : total / 1000.0 / count;
+		}
+
+		public double getMaxMicros() {
+			return max / 1000.0;
+		}
+
+		/**
+		 * @return The bytes allocated per call, over the calls made while
+		 *         allocations were tracked
+		 */
+		public double getAverageAllocatedBytes() {
+			return allocatedCount == 0 ? 0 : (double) allocated / allocatedCount;
+		}
+
+		/**
+		 * @return The number of calls whose allocations were tracked
+		 */
+		public long getAllocatedCount() {
+			return allocatedCount;
+		}
+	}
+
+}
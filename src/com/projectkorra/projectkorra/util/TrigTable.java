@@ -0,0 +1,41 @@
+package com.projectkorra.projectkorra.util;
+
+/**
+ * Precomputed sine and cosine of every whole degree. Rings and spirals that
+ * step around a circle in whole degrees, such as the ones drawn by
+ * AirShield, Tornado and FireCombo every tick, can read from these tables
+ * instead of calling {@link Math#sin(double)} and {@link Math#cos(double)}
+ * for every point.
+ */
+public class TrigTable {
+
+	private static final double[] SIN = new double[360];
+	private static final double[] COS = new double[360];
+
+	static {
+		for (int i = 0; i < 360; i++) {
+			double radians = Math.toRadians(i);
+			SIN[i] = Math.sin(radians);
+			COS[i] = Math.cos(radians);
+		}
+	}
+
+	/**
+	 * @param degrees The angle in degrees, which may be negative or larger
+	 *            than a full turn
+	 * @return The sine of the angle
+	 */
+	public static double sin(int degrees) {
+		return SIN[Math.floorMod(degrees, 360)];
+	}
+
+	/**
+	 * @param degrees The angle in degrees, which may be negative or larger
+	 *            than a full turn
+	 * @return The cosine of the angle
+	 */
+	public static double cos(int degrees) {
+		return COS[Math.floorMod(degrees, 360)];
+	}
+
+}
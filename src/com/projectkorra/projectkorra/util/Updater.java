@@ -4,11 +4,15 @@ import org.bukkit.plugin.Plugin;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.URLConnection;
+import java.util.function.Consumer;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -20,7 +24,7 @@ import javax.xml.parsers.ParserConfigurationException;
  * <p>
  * Methods to look for in this class:
  * <ul>
- *   <li>{@link #checkUpdate()} called in {@code plugin.onEnable()} to display update message in log</li>
+ *   <li>{@link #checkUpdate()} called in {@code plugin.onEnable()} to fetch the feed in the background and display update message in log</li>
  *   <li>{@link #getCurrentVersion()} to get the version of the plugin</li>
  *   <li>{@link #getUpdateVersion()} to get the update version</li>
  *   <li>{@link #updateAvailable()} to check if theres an update</li>
@@ -33,46 +37,75 @@ import javax.xml.parsers.ParserConfigurationException;
 public class Updater {
 	
 	private URL url;
-	private URLConnection urlc;
+	private RemoteResource feed;
 	private Document document;
 	private String currentVersion;
 	private Plugin plugin;
 	private String pluginName;
 	
+	/**
+	 * Creates a new instance of Updater that reuses a downloaded feed for an
+	 * hour and waits up to 30 seconds for the feed, as it used to.
+	 * 
+	 * @param plugin Plugin to check updates for
+	 * @param URL RSS feed URL link to check for updates on.
+	 * @see #Updater(Plugin, String, long, int)
+	 */
+	public Updater(Plugin plugin, String URL) {
+		this(plugin, URL, 3600000, 30000);
+	}
+
 	/**
 	 * Creates a new instance of Updater.
 	 * This constructor should only be called inside of 
 	 * {@code plugin.onEnable()} or called after the plugin is loaded.
+	 * Nothing is downloaded until {@link #checkUpdate()} is called.
 	 * <br><br>
 	 * This constructor should NEVER be called to initiate a field.
 	 * If called to initiate a field, Updater will throw NullPointerExceptions
 	 * 
 	 * @param plugin Plugin to check updates for
 	 * @param URL RSS feed URL link to check for updates on.
+	 * @param cacheDuration How long a downloaded feed is reused, in milliseconds
+	 * @param timeout The connect and read timeout, in milliseconds
 	 */
-	public Updater(Plugin plugin, String URL) {
+	public Updater(Plugin plugin, String URL, long cacheDuration, int timeout) {
 		this.plugin = plugin;
 		try {
 			url = new URL(URL);
-			urlc = url.openConnection();
-			urlc.setRequestProperty("User-Agent", ""); // Must be used or face 403
-			urlc.setConnectTimeout(30000); // 30 second time out, throws SocketTimeoutException
-			document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(urlc.getInputStream());
-		} catch (IOException e) {
-			plugin.getLogger().info("Could not connect to ProjectKorra.com to check for updates");
-		} catch (SAXException | ParserConfigurationException e) {
-			e.printStackTrace();
-		} 
+		} catch (MalformedURLException e) {
+			plugin.getLogger().warning("Invalid update feed URL: " + URL);
+		}
+		this.feed = new RemoteResource(URL, new File(plugin.getDataFolder(), "Cache" + File.separator + "updates.rss"), cacheDuration, timeout);
 		this.currentVersion = plugin.getDescription().getVersion();
 		this.pluginName = plugin.getDescription().getName();
 	}
 	
 	/**
-	 * Logs and update message in console. 
-	 * Displays different messages dependent on {@link #updateAvailable()}
+	 * Fetches the update feed in the background, then logs an update
+	 * message in console. Displays different messages dependent on
+	 * {@link #updateAvailable()}
 	 * 
 	 */
 	public void checkUpdate() {
+		if (url == null) {
+			return;
+		}
+		feed.fetch(new Consumer<String>() {
+			@Override
+			public void accept(String content) {
+				try {
+					document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new InputSource(new StringReader(content)));
+				} catch (IOException | SAXException | ParserConfigurationException e) {
+					plugin.getLogger().info("Could not read the update feed from " + feed.getUrl());
+					return;
+				}
+				logUpdate();
+			}
+		});
+	}
+
+	private void logUpdate() {
 		if (getUpdateVersion() == null) {
 			return;
 		} else if (updateAvailable()) {
@@ -87,11 +120,14 @@ public class Updater {
 	/**
 	 * Gets latest plugin version.
 	 * 
-	 * @return Latest plugin version, or null if it cannot connect
+	 * @return Latest plugin version, or null if it cannot connect or the feed has not been fetched yet
 	 */
 	public String getUpdateVersion() {
 		if (document != null) {
 			Node latestFile = document.getElementsByTagName("item").item(0);
+			if (latestFile == null) {
+				return null;
+			}
 			NodeList children = latestFile.getChildNodes();
 			
 			String version = children.item(1).getTextContent();
@@ -0,0 +1,224 @@
+package com.projectkorra.projectkorra.util;
+
+import com.projectkorra.projectkorra.ProjectKorra;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link TempBlock} that only exists on the clients of nearby players. It is
+ * shown with {@link Player#sendBlockChange(Location, Material, byte)}, so the
+ * world is never changed and there is no lighting, physics or reversion cost
+ * on the server. It is meant for purely cosmetic blocks such as the
+ * Illumination torch and the WaterSpout spiral.
+ * <p>
+ * Visual blocks are not added to {@link TempBlock#instances}, so
+ * {@link TempBlock#isTempBlock(Block)} is false for them and abilities and
+ * entities ignore them. They are indexed by chunk and resent to players
+ * whenever they move into a new chunk, because the client forgets them when
+ * a chunk is resent. Everything in this class must be accessed from the main
+ * thread.
+ */
+public class VisualTempBlock extends TempBlock {
+
+	private static final Map<World, Map<Long, VisualTempBlock>> BLOCKS = new HashMap<World, Map<Long, VisualTempBlock>>();
+	private static final Map<World, Map<Long, Set<VisualTempBlock>>> CHUNKS = new HashMap<World, Map<Long, Set<VisualTempBlock>>>();
+	private static final Map<Player, Location> PLAYER_CHUNKS = new WeakHashMap<Player, Location>();
+
+	private final long key;
+	private Material type;
+	private byte data;
+
+	public VisualTempBlock(Block block, Material type, byte data) {
+		super(block, type, data, block.getState());
+		this.key = BlockKey.pack(block);
+		this.type = type;
+		this.data = data;
+
+		VisualTempBlock previous = get(block);
+		if (previous != null) {
+			unregister(previous);
+		}
+		register(this);
+		send(type, data);
+	}
+
+	/**
+	 * @return The visual block shown at a block, or null if there is none
+	 */
+	public static VisualTempBlock get(Block block) {
+		Map<Long, VisualTempBlock> blocks = BLOCKS.get(block.getWorld());
+		return blocks != null ? blocks.get(BlockKey.pack(block)) : null;
+	}
+
+	public static boolean isVisualBlock(Block block) {
+		return get(block) != null;
+	}
+
+	/**
+	 * Shows every visual block near a player again.
+	 *
+	 * @param player The player
+	 */
+	@SuppressWarnings("deprecation")
+	public static void refresh(Player player) {
+		Map<Long, Set<VisualTempBlock>> chunks = CHUNKS.get(player.getWorld());
+		if (chunks == null) {
+			return;
+		}
+		Location location = player.getLocation();
+		int chunkX = location.getBlockX() >> 4;
+		int chunkZ = location.getBlockZ() >> 4;
+		int radius = Bukkit.getViewDistance();
+		for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+			for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+				Set<VisualTempBlock> blocks = chunks.get(BlockKey.chunk(x, z));
+				if (blocks == null) {
+					continue;
+				}
+				for (VisualTempBlock block : blocks) {
+					player.sendBlockChange(block.getLocation(), block.type, block.data);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Hides every visual block, showing the real blocks again.
+	 */
+	public static void removeAll() {
+		List<VisualTempBlock> blocks = new ArrayList<VisualTempBlock>();
+		for (Map<Long, VisualTempBlock> world : BLOCKS.values()) {
+			blocks.addAll(world.values());
+		}
+		for (VisualTempBlock block : blocks) {
+			block.revertBlock();
+		}
+	}
+
+	public static int getCount() {
+		int count = 0;
+		for (Map<Long, VisualTempBlock> blocks : BLOCKS.values()) {
+			count += blocks.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Starts the task that resends visual blocks to players that have moved
+	 * into a new chunk since the last check.
+	 */
+	public static void startRefreshing() {
+		new BukkitRunnable() {
+			@Override
+			public void run() {
+				if (BLOCKS.isEmpty()) {
+					PLAYER_CHUNKS.clear();
+					return;
+				}
+				for (Player player : Bukkit.getOnlinePlayers()) {
+					Location location = player.getLocation();
+					Location chunk = new Location(location.getWorld(), location.getBlockX() >> 4, 0, location.getBlockZ() >> 4);
+					if (!chunk.equals(PLAYER_CHUNKS.put(player, chunk))) {
+						refresh(player);
+					}
+				}
+			}
+		}.runTaskTimer(ProjectKorra.plugin, 0, 10);
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public void revertBlock() {
+		if (get(getBlock()) == this) {
+			unregister(this);
+			Block block = getBlock();
+			send(block.getType(), block.getData());
+		}
+	}
+
+	@Override
+	public void setType(Material material, byte data) {
+		this.type = material;
+		this.data = data;
+		send(material, data);
+	}
+
+	/**
+	 * @return The type shown to players, which is not the type of the block
+	 *         in the world
+	 */
+	public Material getVisualType() {
+		return type;
+	}
+
+	public byte getVisualData() {
+		return data;
+	}
+
+	@SuppressWarnings("deprecation")
+	private void send(Material type, byte data) {
+		Location location = getLocation();
+		double range = Bukkit.getViewDistance() << 4;
+		for (Player player : location.getWorld().getPlayers()) {
+			if (player.getLocation().distanceSquared(location) <= range * range) {
+				player.sendBlockChange(location, type, data);
+			}
+		}
+	}
+
+	private static void register(VisualTempBlock block) {
+		World world = block.getBlock().getWorld();
+		Map<Long, VisualTempBlock> blocks = BLOCKS.get(world);
+		if (blocks == null) {
+			blocks = new HashMap<Long, VisualTempBlock>();
+			BLOCKS.put(world, blocks);
+			CHUNKS.put(world, new HashMap<Long, Set<VisualTempBlock>>());
+		}
+		blocks.put(block.key, block);
+
+		Map<Long, Set<VisualTempBlock>> chunks = CHUNKS.get(world);
+		long chunk = BlockKey.chunkOf(block.key);
+		Set<VisualTempBlock> entries = chunks.get(chunk);
+		if (entries == null) {
+			entries = new HashSet<VisualTempBlock>();
+			chunks.put(chunk, entries);
+		}
+		entries.add(block);
+	}
+
+	private static void unregister(VisualTempBlock block) {
+		World world = block.getBlock().getWorld();
+		Map<Long, VisualTempBlock> blocks = BLOCKS.get(world);
+		if (blocks == null || blocks.remove(block.key) != block) {
+			return;
+		}
+		Map<Long, Set<VisualTempBlock>> chunks = CHUNKS.get(world);
+		long chunk = BlockKey.chunkOf(block.key);
+		Set<VisualTempBlock> entries = chunks.get(chunk);
+		if (entries != null) {
+			entries.remove(block);
+			if (entries.isEmpty()) {
+				chunks.remove(chunk);
+			}
+		}
+		if (blocks.isEmpty()) {
+			BLOCKS.remove(world);
+			CHUNKS.remove(world);
+		}
+	}
+
+}
@@ -2,87 +2,169 @@ package com.projectkorra.projectkorra.util.logging;
 
 import com.projectkorra.projectkorra.ProjectKorra;
 
-import org.bukkit.Bukkit;
-
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Filter;
 import java.util.logging.LogRecord;
 
 /**
- * This class should only be used to set {@link PKLogHandler}'s filter.
- * 
+ * This class should only be used as {@link PKLogHandler}'s filter.
+ * <p>
+ * Records are identified by a hash of their message and stack trace, so a
+ * repeated error is only written once. The most recent signatures are kept in
+ * a bounded LRU, each with a counter of how many times it was suppressed, and
+ * new records are rate limited so that an error thrown every tick cannot
+ * flood the log file.
+ * </p>
+ *
  * @author Jacklin213
  * @version 2.1.0
  */
 public class LogFilter implements Filter {
 
-	private List<String> loggedRecords = new ArrayList<>();
+	private static final int MAX_SIGNATURES = 512;
+	private static final int MAX_RECORDS_PER_SECOND = 20;
+	private static final int MAX_CAUSE_DEPTH = 10;
+
+	private final List<Signature> evicted = new ArrayList<>();
+	private final Map<Long, Signature> signatures = new LinkedHashMap<Long, Signature>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Signature> eldest) {
+			if (size() > MAX_SIGNATURES) {
+				if (eldest.getValue().suppressed > 0) {
+					evicted.add(eldest.getValue());
+				}
+				return true;
+			}
+			return false;
+		}
+	};
+
+	private long currentSecond;
+	private int recordsThisSecond;
+	private int rateLimited;
 
 	@Override
-	public boolean isLoggable(LogRecord record) {
-		if (record.getMessage() == null && record.getThrown() == null) {
+	public synchronized boolean isLoggable(LogRecord record) {
+		if (!isRelevant(record)) {
 			return false;
 		}
-		String recordString = "";
-		if (record.getMessage() != null) {
-			if (!record.getMessage().contains("ProjectKorra")) {
-				if (record.getThrown() == null) {
-					return false;
-				}
-				if (record.getThrown().getMessage() == null) {
-					return false;
-				}
-				if (!record.getThrown().getMessage().contains("ProjectKorra")) {
-					return false;
-				}
-				// record message doesnt have ProjectKorra but throwable does
-			}
-			recordString = buildString(record);
-		} else {
-			if (record.getThrown() != null) {
-				if (record.getThrown().getMessage() == null) {
-					return false;
-				}
-				if (!record.getThrown().getMessage().contains("ProjectKorra")) {
-					return false;
-				}
-				// record message null but throwable has ProjectKorra
-				recordString = buildString(record);
-			}
+
+		long hash = hash(record);
+		Signature signature = signatures.get(hash);
+		if (signature != null) {
+			signature.suppressed++;
+			return false;
 		}
 
-		if (loggedRecords.contains(recordString)) {
-			// Logged records contains record 
+		if (!ProjectKorra.plugin.isEnabled()) {
 			return false;
 		}
-		
-		if (!Bukkit.getServer().getPluginManager().isPluginEnabled(ProjectKorra.plugin.getName())) {
+
+		long second = record.getMillis() / 1000;
+		if (second != currentSecond) {
+			currentSecond = second;
+			recordsThisSecond = 0;
+		}
+		if (++recordsThisSecond > MAX_RECORDS_PER_SECOND) {
+			rateLimited++;
 			return false;
 		}
 
-		final String toRecord = recordString;
-		Bukkit.getScheduler().runTaskLater(ProjectKorra.plugin, new Runnable() {
-			public void run() {
-				loggedRecords.add(toRecord);
-			}
-		}, 10);
+		signatures.put(hash, new Signature(describe(record)));
 		return true;
 	}
 
-	private String buildString(LogRecord record) {
-		StringBuilder builder = new StringBuilder();
-		if (record.getMessage() != null) {
-			builder.append(record.getMessage());
+	/**
+	 * Collects a summary line for every suppressed signature that was evicted
+	 * from the cache and for records dropped by the rate limit since the last
+	 * call.
+	 *
+	 * @return The summary lines, which may be empty
+	 */
+	public synchronized List<String> drainSummaries() {
+		List<String> summaries = new ArrayList<>();
+		for (Signature signature : evicted) {
+			summaries.add(signature.summarize());
+		}
+		evicted.clear();
+		if (rateLimited > 0) {
+			summaries.add("Dropped " + rateLimited + " record(s) over the limit of " + MAX_RECORDS_PER_SECOND + " per second");
+			rateLimited = 0;
 		}
+		return summaries;
+	}
+
+	/**
+	 * Collects a summary line for every signature that has been suppressed at
+	 * least once, including the ones still cached, and resets their counters.
+	 * Used when the handler is closed.
+	 *
+	 * @return The summary lines, which may be empty
+	 */
+	public synchronized List<String> drainAllSummaries() {
+		List<String> summaries = drainSummaries();
+		for (Signature signature : signatures.values()) {
+			if (signature.suppressed > 0) {
+				summaries.add(signature.summarize());
+				signature.suppressed = 0;
+			}
+		}
+		return summaries;
+	}
+
+	private boolean isRelevant(LogRecord record) {
+		if (record.getMessage() != null && record.getMessage().contains("ProjectKorra")) {
+			return true;
+		}
+		Throwable thrown = record.getThrown();
+		return thrown != null && thrown.getMessage() != null && thrown.getMessage().contains("ProjectKorra");
+	}
+
+	/**
+	 * Hashes the message and the whole cause chain of a record without
+	 * building its stack trace as a string.
+	 */
+	private long hash(LogRecord record) {
+		long hash = 1125899906842597L;
+		hash = 31 * hash + (record.getMessage() != null ? record.getMessage().hashCode() : 0);
+
+		Throwable thrown = record.getThrown();
+		for (int depth = 0; thrown != null && depth < MAX_CAUSE_DEPTH; depth++) {
+			hash = 31 * hash + thrown.getClass().getName().hashCode();
+			hash = 31 * hash + (thrown.getMessage() != null ? thrown.getMessage().hashCode() : 0);
+			for (StackTraceElement element : thrown.getStackTrace()) {
+				hash = 31 * hash + element.getClassName().hashCode();
+				hash = 31 * hash + element.getMethodName().hashCode();
+				hash = 31 * hash + element.getLineNumber();
+			}
+			thrown = thrown.getCause();
+		}
+		return hash;
+	}
+
+	private String describe(LogRecord record) {
 		if (record.getThrown() != null) {
-			StringWriter writer = new StringWriter();
-			record.getThrown().printStackTrace(new PrintWriter(writer));
-			builder.append(writer);
+			return record.getThrown().toString();
+		}
+		return record.getMessage();
+	}
+
+	private static class Signature {
+
+		private final String description;
+		private int suppressed;
+
+		public Signature(String description) {
+			this.description = description;
 		}
 
-		return builder.toString();
+		private String summarize() {
+			return "Suppressed " + suppressed + " repeat(s) of: " + description;
+		}
 	}
 }
@@ -1,6 +1,11 @@
 package com.projectkorra.projectkorra.util.logging;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -15,24 +20,101 @@ import java.util.logging.LogRecord;
  * Current Handler settings:
  * <ul>
  *   <li>Level - Set to log {@link Level#WARNING warnings} and {@link Level#SEVERE errors}</li>
+ *   <li>Filter - {@link LogFilter}, applied by {@link #publish(LogRecord)} before queueing</li>
  *   <li>Formatter - {@link LogFormatter}</li>
  * </ul>
+ * Records that pass the filter are put in a bounded queue and written by a
+ * background thread, so the thread that logged them never waits on the file.
+ * If the queue is full the record is dropped and counted instead. The files
+ * are rotated by the underlying {@link FileHandler}.
+ *
  * @author Jacklin213
  * @version 2.1.0
  */
 public class PKLogHandler extends FileHandler {
 
+	private static final int QUEUE_SIZE = 1024;
+
+	private final LogFilter filter = new LogFilter();
+	private final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+	private final AtomicInteger dropped = new AtomicInteger();
+	private final Thread writer;
+	private volatile boolean running = true;
+
 	public PKLogHandler(String filename) throws IOException {
 		super(filename, 500 * 1024, 20, true);
 		this.setLevel(Level.WARNING);
-		this.setFilter(new LogFilter());
 		this.setFormatter(new LogFormatter());
+
+		writer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				write();
+			}
+		}, "ProjectKorra Log Writer");
+		writer.setDaemon(true);
+		writer.start();
 	}
-	
+
+	@Override
+	public void publish(LogRecord record) {
+		if (!running || record.getLevel().intValue() < getLevel().intValue() || !filter.isLoggable(record)) {
+			return;
+		}
+		if (!queue.offer(record)) {
+			dropped.incrementAndGet();
+		}
+	}
+
 	@Override
-	public synchronized void publish(LogRecord record) {
-		super.publish(record);
-		flush();
+	public void close() {
+		running = false;
+		writer.interrupt();
+		try {
+			writer.join(5000);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		drain();
+		writeSummaries(filter.drainAllSummaries());
+		super.close();
+	}
+
+	private void write() {
+		while (running) {
+			try {
+				LogRecord record = queue.poll(1, TimeUnit.SECONDS);
+				if (record != null) {
+					super.publish(record);
+					if (!queue.isEmpty()) {
+						continue;
+					}
+				}
+				writeSummaries(filter.drainSummaries());
+				flush();
+			}
+			catch (InterruptedException e) {
+				break;
+			}
+		}
+	}
+
+	private void drain() {
+		LogRecord record;
+		while ((record = queue.poll()) != null) {
+			super.publish(record);
+		}
+	}
+
+	private void writeSummaries(List<String> summaries) {
+		int lost = dropped.getAndSet(0);
+		if (lost > 0) {
+			summaries.add("Dropped " + lost + " record(s) because the log queue was full");
+		}
+		for (String summary : summaries) {
+			super.publish(new LogRecord(Level.WARNING, summary));
+		}
 	}
 
 }
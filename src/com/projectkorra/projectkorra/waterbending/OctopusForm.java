@@ -162,7 +162,7 @@ public class OctopusForm extends WaterAbility {
 
 		for (double tangle = tentacleAngle; tangle < tentacleAngle + 360; tangle += angleIncrement) {
 			double phi = Math.toRadians(tangle);
-			affect(player.getLocation().clone().add(new Vector(radius * Math.cos(phi), 1, radius * Math.sin(phi))));
+			affect(player.getLocation().add(radius * Math.cos(phi), 1, radius * Math.sin(phi)));
 		}
 	}
 
@@ -301,7 +301,7 @@ public class OctopusForm extends WaterAbility {
 
 		for (double theta = startAngle; theta < startAngle + angle; theta += 10) {
 			double rtheta = Math.toRadians(theta);
-			Block block = location.clone().add(new Vector(radius * Math.cos(rtheta), 0, radius * Math.sin(rtheta))).getBlock();
+			Block block = location.getWorld().getBlockAt(Location.locToBlock(location.getX() + radius * Math.cos(rtheta)), location.getBlockY(), Location.locToBlock(location.getZ() + radius * Math.sin(rtheta)));
 			if (!doneBlocks.contains(block)) {
 				addBaseWater(block);
 				doneBlocks.add(block);
@@ -319,7 +319,7 @@ public class OctopusForm extends WaterAbility {
 		for (double tangle = tentacleAngle; tangle < tentacleAngle + 360; tangle += angleIncrement) {
 			astep += 1;
 			double phi = Math.toRadians(tangle);
-			tentacle(location.clone().add(new Vector(radius * Math.cos(phi), 0, radius * Math.sin(phi))), astep);
+			tentacle(location.clone().add(radius * Math.cos(phi), 0, radius * Math.sin(phi)), astep);
 		}
 
 		for (TempBlock block : blocks) {
@@ -20,6 +20,7 @@ import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.firebending.FireBlast;
+import com.projectkorra.projectkorra.util.BlockOwnership;
 import com.projectkorra.projectkorra.util.BlockSource;
 import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.TempBlock;
@@ -28,6 +29,11 @@ import com.projectkorra.projectkorra.waterbending.util.WaterReturn;
 
 public class SurgeWave extends WaterAbility {
 
+	/** The {@link BlockOwnership} role of the water of the wave. */
+	public static final String WAVE = "Wave";
+	/** The {@link BlockOwnership} role of the ice left by a freezing wave. */
+	public static final String FROZEN = "Frozen";
+
 	private boolean freezing;
 	private boolean activateFreeze;
 	private boolean progressing;
@@ -95,7 +101,7 @@ public class SurgeWave extends WaterAbility {
 		if (GeneralMethods.isRegionProtectedFromBuild(this, block.getLocation())) {
 			return;
 		} else if (!TempBlock.isTempBlock(block)) {
-			new TempBlock(block, Material.STATIONARY_WATER, (byte) 8);
+			new TempBlock(block, Material.STATIONARY_WATER, (byte) 8).setOwner(this, WAVE);
 			waveBlocks.put(block, block);
 		}
 	}
@@ -145,13 +151,13 @@ public class SurgeWave extends WaterAbility {
 			
 			Block oldBlock = block;
 			if (block.getType() == Material.AIR || block.getType() == Material.SNOW || isWater(block)) {
-				TempBlock tblock = new TempBlock(block, Material.ICE, (byte) 0);
+				TempBlock tblock = new TempBlock(block, Material.ICE, (byte) 0).setOwner(this, FROZEN);
 				tblock.setRevertTime(iceRevertTime + (new Random().nextInt(1000)));
 				frozenBlocks.put(block, oldBlock.getType());
 			}
 			if (isPlant(block) && block.getType() != Material.LEAVES) {
 				block.breakNaturally();
-				TempBlock tblock = new TempBlock(block, Material.ICE, (byte) 0);
+				TempBlock tblock = new TempBlock(block, Material.ICE, (byte) 0).setOwner(this, FROZEN);
 				tblock.setRevertTime(iceRevertTime + (new Random().nextInt(1000)));
 				frozenBlocks.put(block, oldBlock.getType());
 			}
@@ -378,12 +384,7 @@ public class SurgeWave extends WaterAbility {
 	}
 
 	public static boolean canThaw(Block block) {
-		for (SurgeWave surgeWave : getAbilities(SurgeWave.class)) {
-			if (surgeWave.frozenBlocks.containsKey(block)) {
-				return false;
-			}
-		}
-		return true;
+		return !BlockOwnership.isOwnedBy(block, SurgeWave.class, FROZEN);
 	}
 
 	public static void removeAllCleanup() {
@@ -400,20 +401,14 @@ public class SurgeWave extends WaterAbility {
 	}
 
 	public static boolean isBlockWave(Block block) {
-		for (SurgeWave surgeWave : getAbilities(SurgeWave.class)) {
-			if (surgeWave.waveBlocks.containsKey(block)) {
-				return true;
-			}
-		}
-		return false;
+		return BlockOwnership.isOwnedBy(block, SurgeWave.class, WAVE);
 	}
 
 	public static void thaw(Block block) {
-		for (SurgeWave surgeWave : getAbilities(SurgeWave.class)) {
-			if (surgeWave.frozenBlocks.containsKey(block)) {
-				TempBlock.revertBlock(block, Material.AIR);
-				surgeWave.frozenBlocks.remove(block);
-			}
+		SurgeWave surgeWave = BlockOwnership.getOwner(block, SurgeWave.class, FROZEN);
+		if (surgeWave != null) {
+			TempBlock.revertBlock(block, Material.AIR);
+			surgeWave.frozenBlocks.remove(block);
 		}
 	}
 
@@ -6,6 +6,7 @@ import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.util.BlockSource;
+import com.projectkorra.projectkorra.util.ChunkReverter;
 import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.ParticleEffect;
@@ -32,6 +33,10 @@ public class Torrent extends WaterAbility {
 	private static final double CLEANUP_RANGE = 50;
 	private static final Map<TempBlock, Player> FROZEN_BLOCKS = new ConcurrentHashMap<>();
 
+	static {
+		ChunkReverter.registerTempBlocks(FROZEN_BLOCKS);
+	}
+
 	private boolean sourceSelected;
 	private boolean settingUp;
 	private boolean forming;
@@ -19,6 +19,7 @@ import com.projectkorra.projectkorra.BendingPlayer;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.AirAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.util.BlockSource;
 import com.projectkorra.projectkorra.util.ClickType;
@@ -372,7 +373,7 @@ public class WaterManipulation extends WaterAbility {
 	@Deprecated
 	public static boolean annihilateBlasts(Location location, double radius, Player player) {
 		boolean broke = false;
-		for (WaterManipulation manip : getAbilities(WaterManipulation.class)) {
+		for (WaterManipulation manip : AbilityIndex.getNear(location, radius, WaterManipulation.class)) {
 			if (manip.location.getWorld().equals(location.getWorld()) && !player.equals(manip.player) && manip.progressing) {
 				if (manip.location.distanceSquared(location) <= radius * radius) {
 					manip.remove();
@@ -14,10 +14,12 @@ import org.bukkit.potion.PotionEffectType;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.ability.util.AbilityIndex;
 import com.projectkorra.projectkorra.ability.util.Collision;
 import com.projectkorra.projectkorra.util.Flight;
 import com.projectkorra.projectkorra.util.ParticleEffect;
 import com.projectkorra.projectkorra.util.TempBlock;
+import com.projectkorra.projectkorra.util.VisualTempBlock;
 
 public class WaterSpout extends WaterAbility {
 
@@ -27,6 +29,7 @@ public class WaterSpout extends WaterAbility {
 	private boolean canBendOnPackedIce;
 	private boolean useParticles;
 	private boolean useBlockSpiral;
+	private boolean clientSideBlocks;
 	private int angle;
 	private long time;
 	private long interval;
@@ -50,6 +53,7 @@ public class WaterSpout extends WaterAbility {
 		this.canBendOnPackedIce = getConfig().getBoolean("Properties.Water.CanBendPackedIce");
 		this.useParticles = getConfig().getBoolean("Abilities.Water.WaterSpout.Particles");
 		this.useBlockSpiral = getConfig().getBoolean("Abilities.Water.WaterSpout.BlockSpiral");
+		this.clientSideBlocks = getConfig().getBoolean("Abilities.Water.WaterSpout.ClientSideBlocks");
 		this.height = getConfig().getDouble("Abilities.Water.WaterSpout.Height");
 		this.interval = getConfig().getLong("Abilities.Water.WaterSpout.Interval");
 
@@ -105,7 +109,11 @@ public class WaterSpout extends WaterAbility {
 
 			Block block = loc.getBlock();
 			if ((!TempBlock.isTempBlock(block)) && (block.getType().equals(Material.AIR) || !GeneralMethods.isSolid(block))) {
-				blocks.add(new TempBlock(block, Material.STATIONARY_WATER, (byte) 1));
+				if (clientSideBlocks) {
+					blocks.add(new VisualTempBlock(block, Material.STATIONARY_WATER, (byte) 1));
+				} else {
+					blocks.add(new TempBlock(block, Material.STATIONARY_WATER, (byte) 1));
+				}
 				AFFECTED_BLOCKS.put(block, block);
 			}
 		}
@@ -298,7 +306,7 @@ public class WaterSpout extends WaterAbility {
 	@Deprecated
 	public static boolean removeSpouts(Location loc0, double radius, Player sourcePlayer) {
 		boolean removed = false;
-		for (WaterSpout spout : getAbilities(WaterSpout.class)) {
+		for (WaterSpout spout : AbilityIndex.getNear(loc0, radius, WaterSpout.class)) {
 			if (!spout.player.equals(sourcePlayer)) {
 				Location top = spout.getLocation();
 				Location base = spout.getBase().getLocation();
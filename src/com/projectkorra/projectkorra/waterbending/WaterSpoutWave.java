@@ -21,6 +21,7 @@ import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.ability.CoreAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.util.ChunkReverter;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.TempBlock;
 import com.projectkorra.projectkorra.waterbending.plant.PlantRegrowth;
@@ -36,6 +37,10 @@ public class WaterSpoutWave extends WaterAbility {
 	}
 
 	private static final Map<Block, TempBlock> FROZEN_BLOCKS = new ConcurrentHashMap<>();
+
+	static {
+		ChunkReverter.registerBlocks(FROZEN_BLOCKS);
+	}
 	
 	private double radius;
 	private boolean charging;
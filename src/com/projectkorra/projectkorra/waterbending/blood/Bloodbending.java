@@ -22,11 +22,18 @@ import com.projectkorra.projectkorra.ability.BloodAbility;
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.object.HorizontalVelocityTracker;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
+import com.projectkorra.projectkorra.util.StatusRegistry;
+import com.projectkorra.projectkorra.util.StatusRegistry.Status;
 import com.projectkorra.projectkorra.util.TempPotionEffect;
 
 public class Bloodbending extends BloodAbility {
 
 	private static final Map<Entity, Player> TARGETED_ENTITIES = new ConcurrentHashMap<Entity, Player>();
+
+	static {
+		EntityLifecycle.register("Bloodbending.TARGETED_ENTITIES", TARGETED_ENTITIES);
+	}
 	
 	private boolean canOnlyBeUsedAtNight;
 	private boolean canBeUsedOnUndeadMobs;
@@ -83,7 +90,7 @@ public class Bloodbending extends BloodAbility {
 					}
 					DamageHandler.damageEntity(entity, 0, this);
 					AirAbility.breakBreathbendingHold(entity);
-					TARGETED_ENTITIES.put(entity, player);
+					addTarget(entity, player);
 				}
 			}
 		} else {
@@ -129,7 +136,7 @@ public class Bloodbending extends BloodAbility {
 			DamageHandler.damageEntity(target, 0, this);
 			HorizontalVelocityTracker.remove(target);
 			AirAbility.breakBreathbendingHold(target);
-			TARGETED_ENTITIES.put(target, player);
+			addTarget(target, player);
 		}
 
 		this.time = System.currentTimeMillis();
@@ -174,7 +181,7 @@ public class Bloodbending extends BloodAbility {
 		if (!canBeUsedOnUndeadMobs) {
 			for (Entity entity : TARGETED_ENTITIES.keySet()) {
 				if (isUndead(entity)) {
-					TARGETED_ENTITIES.remove(entity);
+					removeTarget(entity);
 				}
 			}
 		}
@@ -210,12 +217,12 @@ public class Bloodbending extends BloodAbility {
 				entities.add(entity);
 				if (!TARGETED_ENTITIES.containsKey(entity) && entity instanceof LivingEntity) {
 					DamageHandler.damageEntity(entity, 0, this);
-					TARGETED_ENTITIES.put(entity, player);
+					addTarget(entity, player);
 				}
 
 				
 				if (player.getWorld() != entity.getLocation().getWorld()) {
-					TARGETED_ENTITIES.remove(entity);
+					removeTarget(entity);
 					continue;
 				}
 				if (entity instanceof LivingEntity) {
@@ -231,7 +238,7 @@ public class Bloodbending extends BloodAbility {
 
 			for (Entity entity : TARGETED_ENTITIES.keySet()) {
 				if (!entities.contains(entity) && TARGETED_ENTITIES.get(entity) == player) {
-					TARGETED_ENTITIES.remove(entity);
+					removeTarget(entity);
 				}
 			}
 		} else {
@@ -243,14 +250,14 @@ public class Bloodbending extends BloodAbility {
 				if (entity instanceof Player) {
 					BendingPlayer targetBPlayer = BendingPlayer.getBendingPlayer((Player) entity);
 					if (targetBPlayer != null && !targetBPlayer.canBeBloodbent()) {
-						TARGETED_ENTITIES.remove(entity);
+						removeTarget(entity);
 						continue;
 					}
 				}
 
 				Location newLocation = entity.getLocation();
 				if (player.getWorld() != newLocation.getWorld()) {
-					TARGETED_ENTITIES.remove(entity);
+					removeTarget(entity);
 					continue;
 				}
 			}
@@ -290,7 +297,7 @@ public class Bloodbending extends BloodAbility {
 		}
 		for (Entity e : TARGETED_ENTITIES.keySet()) {
 			if (TARGETED_ENTITIES.get(e) == player) {
-				TARGETED_ENTITIES.remove(e);
+				removeTarget(e);
 			}
 		}
 		
@@ -298,7 +305,18 @@ public class Bloodbending extends BloodAbility {
 	}
 
 	public static boolean isBloodbent(Entity entity) {
-		return entity != null ? TARGETED_ENTITIES.containsKey(entity) : null;
+		return entity != null && StatusRegistry.has(entity, Status.BLOODBENT);
+	}
+
+	private static void addTarget(Entity entity, Player player) {
+		TARGETED_ENTITIES.put(entity, player);
+		StatusRegistry.add(entity, Status.BLOODBENT);
+	}
+
+	private static void removeTarget(Entity entity) {
+		if (TARGETED_ENTITIES.remove(entity) != null) {
+			StatusRegistry.remove(entity, Status.BLOODBENT);
+		}
 	}
 
 	public static Location getBloodbendingLocation(Entity entity) {
@@ -26,6 +26,7 @@ import com.projectkorra.projectkorra.ability.util.ComboManager.AbilityInformatio
 import com.projectkorra.projectkorra.avatar.AvatarState;
 import com.projectkorra.projectkorra.firebending.combo.FireCombo.FireComboStream;
 import com.projectkorra.projectkorra.util.BlockSource;
+import com.projectkorra.projectkorra.util.ChunkReverter;
 import com.projectkorra.projectkorra.util.ClickType;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.ParticleEffect;
@@ -46,6 +47,10 @@ public class WaterCombo extends IceAbility implements ComboAbility {
 
 	private static final Map<Block, TempBlock> FROZEN_BLOCKS = new ConcurrentHashMap<>();
 
+	static {
+		ChunkReverter.registerBlocks(FROZEN_BLOCKS);
+	}
+
 	private int leftClicks;
 	private int rightClicks;
 	private double damage;
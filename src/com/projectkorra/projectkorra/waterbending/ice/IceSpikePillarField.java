@@ -3,6 +3,7 @@ package com.projectkorra.projectkorra.waterbending.ice;
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.IceAbility;
 import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.util.ShapeTemplate;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -44,22 +45,18 @@ public class IceSpikePillarField extends IceAbility {
 		int locZ = player.getLocation().getBlockZ();
 		List<Block> iceBlocks = new ArrayList<Block>();
 		
-		for (int x = (int) -(radius - 1); x <= (radius - 1); x++) {
-			for (int z = (int) -(radius - 1); z <= (radius - 1); z++) {
-				for (int y = -1; y <= 1; y++) {
-					Block testBlock = player.getWorld().getBlockAt(locX + x, locY + y, locZ + z);
-					
-					if (WaterAbility.isIcebendable(player, testBlock.getType(), false)
-							&& testBlock.getRelative(BlockFace.UP).getType() == Material.AIR
-							&& !(testBlock.getX() == player.getEyeLocation().getBlock().getX() 
-								&& testBlock.getZ() == player.getEyeLocation().getBlock().getZ())) {
-						iceBlocks.add(testBlock);
-						for (int i = 0; i < iceBlocks.size() / 2 + 1; i++) {
-							Random rand = new Random();
-							if(rand.nextInt(5)==0) {
-								playIcebendingSound(iceBlocks.get(i).getLocation());
-							}
-						}
+		ShapeTemplate field = ShapeTemplate.getBox((int) (radius - 1), -1, 1);
+		for (int s = 0; s < field.size(); s++) {
+			Block testBlock = field.getBlock(player.getWorld(), locX, locY, locZ, s);
+			
+			if (WaterAbility.isIcebendable(player, testBlock.getType(), false)
+					&& testBlock.getRelative(BlockFace.UP).getType() == Material.AIR
+					&& !(testBlock.getX() == player.getEyeLocation().getBlock().getX() 
+						&& testBlock.getZ() == player.getEyeLocation().getBlock().getZ())) {
+				iceBlocks.add(testBlock);
+				for (int i = 0; i < iceBlocks.size() / 2 + 1; i++) {
+					if(random.nextInt(5)==0) {
+						playIcebendingSound(iceBlocks.get(i).getLocation());
 					}
 				}
 			}
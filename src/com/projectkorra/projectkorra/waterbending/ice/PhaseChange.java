@@ -16,6 +16,8 @@ import org.bukkit.util.Vector;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.IceAbility;
+import com.projectkorra.projectkorra.util.ChunkReverter;
+import com.projectkorra.projectkorra.util.ShapeTemplate;
 import com.projectkorra.projectkorra.util.TempBlock;
 import com.projectkorra.projectkorra.waterbending.SurgeWall;
 import com.projectkorra.projectkorra.waterbending.SurgeWave;
@@ -44,6 +46,10 @@ public class PhaseChange extends IceAbility {
 	private static Map<TempBlock, Player> PLAYER_BY_BLOCK = new HashMap<>();
 	private CopyOnWriteArrayList<TempBlock> blocks = new CopyOnWriteArrayList<>();
 	private Random r = new Random();
+
+	static {
+		ChunkReverter.registerTempBlocks(PLAYER_BY_BLOCK);
+	}
 	
 	private int sourceRange = 8;
 	
@@ -253,10 +259,12 @@ public class PhaseChange extends IceAbility {
 	
 	public ArrayList<Block> getBlocksToFreeze(Location center, int radius) {
 		ArrayList<Block> blocks = new ArrayList<>();
-		for (Location l : GeneralMethods.getCircle(center, radius, depth, false, true, 0)) {
-			Block b = l.getBlock();
+		ShapeTemplate shape = ShapeTemplate.getCircle(radius, depth, false, true);
+		ArrayList<BlockFace> faces = getBlockFacesTowardsPlayer(center);
+		for (int s = 0; s < shape.size(); s++) {
+			Block b = shape.getBlock(center.getWorld(), center.getBlockX(), center.getBlockY(), center.getBlockZ(), s);
 			loop: for (int i = 1; i <= depth; i++) {
-				for (BlockFace face : getBlockFacesTowardsPlayer(center)) {
+				for (BlockFace face : faces) {
 					if (b.getRelative(face, i).getType() == Material.AIR) {
 						blocks.add(b);
 						break loop;
@@ -341,9 +349,11 @@ public class PhaseChange extends IceAbility {
 		}
 
 		List<Block> ice = new ArrayList<Block>();
-		for (Location l : GeneralMethods.getCircle(center, radius, 3, true, true, 0)) {
-			if (isIce(l.getBlock()) || isSnow(l.getBlock())) {
-				ice.add(l.getBlock());
+		ShapeTemplate shape = ShapeTemplate.getCircle(radius, 3, true, true);
+		for (int i = 0; i < shape.size(); i++) {
+			Block block = shape.getBlock(center.getWorld(), center.getBlockX(), center.getBlockY(), center.getBlockZ(), i);
+			if (isIce(block) || isSnow(block)) {
+				ice.add(block);
 			}
 		}
 
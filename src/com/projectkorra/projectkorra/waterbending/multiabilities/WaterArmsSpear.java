@@ -17,6 +17,7 @@ import org.bukkit.util.Vector;
 
 import com.projectkorra.projectkorra.GeneralMethods;
 import com.projectkorra.projectkorra.ability.WaterAbility;
+import com.projectkorra.projectkorra.util.ChunkReverter;
 import com.projectkorra.projectkorra.util.DamageHandler;
 import com.projectkorra.projectkorra.util.TempBlock;
 import com.projectkorra.projectkorra.waterbending.multiabilities.WaterArms.Arm;
@@ -24,6 +25,10 @@ import com.projectkorra.projectkorra.waterbending.multiabilities.WaterArms.Arm;
 public class WaterArmsSpear extends WaterAbility {
 
 	private static final Map<Block, Long> ICE_BLOCKS = new ConcurrentHashMap<Block, Long>();
+
+	static {
+		ChunkReverter.registerBlocks(ICE_BLOCKS);
+	}
 	
 	private boolean hitEntity;
 	private boolean canFreeze;
@@ -17,6 +17,7 @@ import com.projectkorra.projectkorra.ability.WaterAbility;
 import com.projectkorra.projectkorra.ability.util.MultiAbilityManager;
 import com.projectkorra.projectkorra.command.Commands;
 import com.projectkorra.projectkorra.util.DamageHandler;
+import com.projectkorra.projectkorra.util.EntityLifecycle;
 import com.projectkorra.projectkorra.util.TempBlock;
 import com.projectkorra.projectkorra.waterbending.multiabilities.WaterArms.Arm;
 
@@ -31,6 +32,10 @@ public class WaterArmsWhip extends WaterAbility {
 
 	private static final HashMap<LivingEntity, WaterArmsWhip> GRABBED_ENTITIES = new HashMap<LivingEntity, WaterArmsWhip>();
 
+	static {
+		EntityLifecycle.register("WaterArmsWhip.GRABBED_ENTITIES", GRABBED_ENTITIES);
+	}
+
 	private boolean reverting;
 	private boolean hasDamaged;
 	private boolean grappled;
@@ -3,6 +3,7 @@ package com.projectkorra.projectkorra.waterbending.util;
 import com.projectkorra.projectkorra.ProjectKorra;
 import com.projectkorra.projectkorra.waterbending.Torrent;
 import com.projectkorra.projectkorra.waterbending.multiabilities.WaterArms;
+import com.projectkorra.projectkorra.util.TickProfiler;
 
 public class WaterbendingManager implements Runnable {
 
@@ -14,9 +15,14 @@ public class WaterbendingManager implements Runnable {
 
 	@Override
 	public void run() {
-		//WaterPassive.handlePassive(); # Fast Swim is now managed in FastSwim.java
-		Torrent.progressAllCleanup();
-		WaterArms.progressAllCleanup();
+		long start = TickProfiler.start();
+		try {
+			//WaterPassive.handlePassive(); # Fast Swim is now managed in FastSwim.java
+			Torrent.progressAllCleanup();
+			WaterArms.progressAllCleanup();
+		} finally {
+			TickProfiler.record(WaterbendingManager.class, start);
+		}
 	}
 
 }